@@ -0,0 +1,66 @@
+package com.copyleft.GodsChoice.benchmark;
+
+import com.copyleft.GodsChoice.chat.filter.BannedWordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금칙어 검사: 단어마다 String.contains 로 찾는 방식과 BannedWordMatcher(Aho–Corasick) 비교
+ * 메시지 길이는 일반적인 채팅(16자), 긴 채팅(64자), 붙여넣기 수준(256자)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BannedWordFilterBenchmark {
+
+    private static final String SAMPLE = "오늘 신탁 진짜 어렵다 다들 무슨 카드 냈어? 나는 대상 카드로 고양이를 골랐는데 ";
+
+    @Param({"16", "64", "256"})
+    private int length;
+
+    @Param({"30", "1000"})
+    private int wordCount;
+
+    private List<String> words;
+    private BannedWordMatcher matcher;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        words = new ArrayList<>(List.of("시발", "씨발", "병신", "개새끼", "지랄", "존나", "fuck", "shit"));
+        for (int i = words.size(); i < wordCount; i++) {
+            words.add("금칙" + Integer.toString(i, 36) + "어");
+        }
+        matcher = BannedWordMatcher.compile(words);
+        message = SAMPLE.repeat(length / SAMPLE.length() + 1).substring(0, length);
+    }
+
+    @Benchmark
+    public boolean naiveContains() {
+        for (String word : words) {
+            if (message.contains(word)) return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean automatonContains() {
+        return matcher.containsMatch(message);
+    }
+
+    @Benchmark
+    public String automatonMask() {
+        return matcher.mask(message);
+    }
+}
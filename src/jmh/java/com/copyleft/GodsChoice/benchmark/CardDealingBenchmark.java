@@ -0,0 +1,62 @@
+package com.copyleft.GodsChoice.benchmark;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.type.WordData;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
+import com.copyleft.GodsChoice.game.service.CardDealer;
+import com.copyleft.GodsChoice.game.service.WordDeckStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 WordData.getRandomCards (전체 복사 + 전체 셔플) 방식과 CardDealer 비교
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CardDealingBenchmark {
+
+    @Param({"1", "8"})
+    private int count;
+
+    private CardDealer cardDealer;
+    private Set<String> usedCards;
+
+    @Setup
+    public void setUp() {
+        cardDealer = new CardDealer(new WordDeckStore(List.of(new BuiltInWordDeckSource()), new SimpleMeterRegistry()));
+        usedCards = new HashSet<>(cardDealer.deal(null, SlotType.TARGET, 8));
+    }
+
+    @Benchmark
+    public List<String> legacyShuffle() {
+        List<String> allWords = new ArrayList<>(WordData.valueOf(SlotType.TARGET.name()).getWords());
+        Collections.shuffle(allWords);
+        return allWords.subList(0, Math.min(count, allWords.size()));
+    }
+
+    @Benchmark
+    public List<String> partialFisherYates() {
+        return cardDealer.deal(null, SlotType.TARGET, count);
+    }
+
+    @Benchmark
+    public List<String> partialFisherYatesWithoutRepeats() {
+        return cardDealer.deal(null, SlotType.TARGET, count, usedCards);
+    }
+}
@@ -0,0 +1,84 @@
+package com.copyleft.GodsChoice.benchmark;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.GroqCircuitBreaker;
+import com.copyleft.GodsChoice.game.infra.GroqLatencyTracker;
+import com.copyleft.GodsChoice.game.infra.GroqPromptTemplates;
+import com.copyleft.GodsChoice.game.infra.GroqResponseReader;
+import com.copyleft.GodsChoice.game.infra.stub.GroqStubServer;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import com.copyleft.GodsChoice.global.config.GroqStubProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Field;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 Groq 스텁을 상대로 한 심판 경로 처리량 (요청 본문 생성 → HTTP → 스트리밍 파싱)
+ * 실행: ./gradlew jmh -Pjmh.includes=JudgePathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class JudgePathBenchmark {
+
+    @Param({"0", "20"})
+    private long stubLatencyMs;
+
+    @Param({"false", "true"})
+    private boolean stream;
+
+    private GroqStubServer stub;
+    private GroqApiClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        stub = new GroqStubServer(new GroqStubProperties(0, GroqStubProperties.LatencyDistribution.FIXED,
+                stubLatencyMs, stubLatencyMs, 0, 0, List.of()), objectMapper);
+        stub.start();
+
+        GroqResilienceProperties resilience = new GroqResilienceProperties(
+                0.25, 10_000, false, 1_000, 200, 20, 10, 0.5, 1.0, 5_000, 30_000, 2);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        client = new GroqApiClient(HttpClient.newHttpClient(), resilience, null,
+                new GroqCircuitBreaker(resilience, meterRegistry), null, new GroqLatencyTracker(resilience, meterRegistry),
+                new GroqPromptTemplates(objectMapper, "stub", stream), new GroqResponseReader(objectMapper), meterRegistry);
+        set("apiKey", "stub");
+        set("apiUrl", stub.getUrl());
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.stop();
+    }
+
+    private void set(String name, String value) throws ReflectiveOperationException {
+        Field field = GroqApiClient.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(client, value);
+    }
+
+    @Benchmark
+    public AiJudgment judgeSentence() {
+        return client.judgeSentence("괴물이 폭탄을 무자비하게 폭파했다", GodPersonality.ANGRY, Oracle.REVOLUTION, Duration.ofSeconds(5));
+    }
+}
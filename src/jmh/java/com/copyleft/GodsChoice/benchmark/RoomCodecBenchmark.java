@@ -0,0 +1,135 @@
+package com.copyleft.GodsChoice.benchmark;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
+import com.copyleft.GodsChoice.domain.type.GamePhase;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerColor;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+import com.copyleft.GodsChoice.domain.type.RoomStatus;
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.game.repository.RoomCodec;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 에 저장하는 방 형식: 기존 ObjectMapper JSON 과 RoomCodec 바이너리의 인코딩/디코딩 시간
+ * 대기 방 = 방장 1명, 진행 중 = 4명 + 역할/카드/투표 데이터
+ * 실행: ./gradlew jmh -Pjmh.includes=RoomCodecBenchmark
+ * 방 하나의 바이트 수는 {@link #main} 으로 따로 출력 (벤치마크 결과에는 섞지 않음)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomCodecBenchmark {
+
+    @Param({"WAITING", "PLAYING"})
+    private String state;
+
+    private ObjectMapper objectMapper;
+    private RoomCodec codec;
+    private Room room;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        codec = new RoomCodec(objectMapper);
+        room = "PLAYING".equals(state) ? playingRoom() : waitingRoom();
+        json = objectMapper.writeValueAsBytes(room);
+        binary = codec.encode(room);
+    }
+
+    /**
+     * 벤치마크와 같은 방의 저장 크기 (JSON / 바이너리 바이트 수)
+     */
+    public static void main(String[] args) throws IOException {
+        for (String state : new String[]{"WAITING", "PLAYING"}) {
+            RoomCodecBenchmark benchmark = new RoomCodecBenchmark();
+            benchmark.state = state;
+            benchmark.setUp();
+            System.out.printf("[%s] bytes per room: json=%d, binary=%d%n", state, benchmark.json.length, benchmark.binary.length);
+        }
+    }
+
+    private static Room waitingRoom() {
+        String hostSessionId = UUID.randomUUID().toString();
+        Player host = Player.createHost(hostSessionId, "신탁받는자");
+        host.setColor(PlayerColor.RED);
+        Room room = Room.create(UUID.randomUUID().toString(), "B3FK", "신탁받는자님의 방", hostSessionId, host, 500);
+        room.setOwnerNode("spring-boot-1");
+        room.getCurrentPhaseData().put(hostSessionId, "HOST");
+        return room;
+    }
+
+    private static Room playingRoom() {
+        Room room = waitingRoom();
+        PlayerColor[] colors = {PlayerColor.BLUE, PlayerColor.GREEN, PlayerColor.YELLOW};
+        for (int i = 0; i < colors.length; i++) {
+            room.addPlayer(Player.builder()
+                    .sessionId(UUID.randomUUID().toString())
+                    .nickname("참가자" + i)
+                    .color(colors[i])
+                    .connectionStatus(ConnectionStatus.CONNECTED)
+                    .build());
+        }
+
+        room.setStatus(RoomStatus.PLAYING);
+        room.setCurrentPhase(GamePhase.TRIAL_VOTE);
+        room.setCurrentRound(3);
+        room.setGodPersonality(GodPersonality.WHIMSICAL);
+        room.setOracle(Oracle.ORDER);
+        room.setDeckName("기본");
+        room.getUsedOracles().add(Oracle.VITALITY);
+        room.getUsedOracles().add(Oracle.LIGHT);
+        room.getCurrentPhaseData().clear();
+
+        SlotType[] slots = SlotType.values();
+        String traitor = room.getPlayers().get(2).getSessionId();
+        for (int i = 0; i < room.getPlayers().size(); i++) {
+            Player player = room.getPlayers().get(i);
+            player.setRole(i == 2 ? PlayerRole.TRAITOR : PlayerRole.CITIZEN);
+            player.setSlot(slots[i]);
+            player.setSelectedCard("카드" + i);
+            room.getUsedCards().add("카드" + i);
+            room.getUsedCards().add("지난카드" + i);
+            room.getCurrentPhaseData().put(player.getSessionId(), traitor);
+        }
+        return room;
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(room);
+    }
+
+    @Benchmark
+    public Room jsonDecode() throws IOException {
+        return objectMapper.readValue(json, Room.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return codec.encode(room);
+    }
+
+    @Benchmark
+    public Room binaryDecode() throws IOException {
+        return codec.decode(binary);
+    }
+}
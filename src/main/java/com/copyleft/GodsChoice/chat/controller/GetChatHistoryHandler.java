@@ -0,0 +1,31 @@
+package com.copyleft.GodsChoice.chat.controller;
+
+import com.copyleft.GodsChoice.chat.service.ChatService;
+import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GetChatHistoryHandler implements WebSocketCommandHandler {
+
+    private final ChatService chatService;
+
+    @Override
+    public String getAction() {
+        return "GET_CHAT_HISTORY";
+    }
+
+    @Override
+    public void handle(WebSocketSession session, JsonNode payload) {
+        try {
+            chatService.sendHistory(session.getId());
+        } catch (Exception e) {
+            log.error("[GET_CHAT_HISTORY] 처리 중 오류: session={}, msg={}", session.getId(), e.getMessage(), e);
+        }
+    }
+}
@@ -23,6 +23,11 @@ public class SendChatHandler implements WebSocketCommandHandler {
         return "SEND_CHAT";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         try {
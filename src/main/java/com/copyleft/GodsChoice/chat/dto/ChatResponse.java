@@ -2,9 +2,11 @@ package com.copyleft.GodsChoice.chat.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 public class ChatResponse {
     private String sender;
     private String color;
@@ -0,0 +1,230 @@
+package com.copyleft.GodsChoice.chat.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 금칙어 매처 (Aho–Corasick)
+ * 금칙어와 허용어 목록을 정규화({@link HangulNormalizer})해 오토마톤 하나로 만들고, 실패 링크까지 채운 전이표(DFA)로 펼쳐 둡니다.
+ * - 음절로 된 금칙어는 음절 단위로, 자모로만 된 금칙어(ㅅㅂ)는 따로 입력한 자모에만 걸림
+ * - 허용어("시발점") 안에 완전히 들어가는 일치는 무시 (허용어가 있을 때만 한 번 더 훑음)
+ * 메시지는 문자당 전이 1회로 훑으며, 일치할 때마다 객체를 만들지 않습니다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 그대로 공유합니다.
+ */
+public final class BannedWordMatcher {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final char[] symbolOf;   // 문자 → 알파벳 번호 (0 = 목록에 없는 문자)
+    private final int alphabetSize;
+    private final int[] transitions; // state * alphabetSize + symbol → 다음 state
+    private final int[] matchLength; // state 에서 끝나는 가장 긴 금칙어의 (정규화) 길이, 없으면 0
+    private final int[] allowLength; // state 에서 끝나는 가장 긴 허용어의 (정규화) 길이, 없으면 0
+    private final int wordCount;
+    private final int allowedCount;
+
+    private static final class Scratch {
+        char[] chars = new char[256];
+        int[] starts = new int[256];
+        int[] ends = new int[256];
+        boolean[] allowed = new boolean[256];
+
+        void ensure(int capacity) {
+            if (chars.length < capacity) {
+                chars = new char[capacity];
+                starts = new int[capacity];
+                ends = new int[capacity];
+                allowed = new boolean[capacity];
+            }
+        }
+    }
+
+    private BannedWordMatcher(char[] symbolOf, int alphabetSize, int[] transitions,
+                              int[] matchLength, int[] allowLength, int wordCount, int allowedCount) {
+        this.symbolOf = symbolOf;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.matchLength = matchLength;
+        this.allowLength = allowLength;
+        this.wordCount = wordCount;
+        this.allowedCount = allowedCount;
+    }
+
+    public static BannedWordMatcher compile(Collection<String> words) {
+        return compile(words, List.of());
+    }
+
+    /**
+     * @param allowedWords 금칙어를 품고 있지만 가리면 안 되는 단어 (예: 시발점)
+     */
+    public static BannedWordMatcher compile(Collection<String> words, Collection<String> allowedWords) {
+        char[][] patterns = new char[words.size() + allowedWords.size()][];
+        int count = 0;
+        int totalLength = 0;
+        for (String word : words) {
+            char[] pattern = normalizeWord(word);
+            if (pattern == null) continue;
+            patterns[count++] = pattern;
+            totalLength += pattern.length;
+        }
+        int wordCount = count;
+        for (String word : allowedWords) {
+            char[] pattern = normalizeWord(word);
+            if (pattern == null) continue;
+            patterns[count++] = pattern;
+            totalLength += pattern.length;
+        }
+
+        // 알파벳: 목록에 나오는 문자만 번호를 매김
+        char[] symbolOf = new char[Character.MAX_VALUE + 1];
+        int alphabetSize = 1;
+        for (int p = 0; p < count; p++) {
+            for (char c : patterns[p]) {
+                if (symbolOf[c] == 0) {
+                    symbolOf[c] = (char) alphabetSize++;
+                }
+            }
+        }
+
+        // 트라이 (0 = 전이 없음, 루트는 다른 상태의 자식이 될 수 없으므로 구분됨)
+        int[] transitions = new int[(totalLength + 1) * alphabetSize];
+        int[] matchLength = new int[totalLength + 1];
+        int[] allowLength = new int[totalLength + 1];
+        int states = 1;
+        for (int p = 0; p < count; p++) {
+            int state = 0;
+            for (char c : patterns[p]) {
+                int slot = state * alphabetSize + symbolOf[c];
+                if (transitions[slot] == 0) {
+                    transitions[slot] = states++;
+                }
+                state = transitions[slot];
+            }
+            if (p < wordCount) {
+                matchLength[state] = patterns[p].length;
+            } else {
+                allowLength[state] = patterns[p].length;
+            }
+        }
+
+        // 실패 링크를 BFS 로 구하면서 빠진 전이를 실패 상태의 전이로 채움
+        int[] fail = new int[states];
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int state = queue[head++];
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int slot = state * alphabetSize + symbol;
+                int child = transitions[slot];
+                int fallback = (state == 0) ? 0 : transitions[fail[state] * alphabetSize + symbol];
+                if (child != 0) {
+                    fail[child] = fallback;
+                    matchLength[child] = Math.max(matchLength[child], matchLength[fallback]);
+                    allowLength[child] = Math.max(allowLength[child], allowLength[fallback]);
+                    queue[tail++] = child;
+                } else {
+                    transitions[slot] = fallback;
+                }
+            }
+        }
+
+        return new BannedWordMatcher(symbolOf, alphabetSize, Arrays.copyOf(transitions, states * alphabetSize),
+                Arrays.copyOf(matchLength, states), Arrays.copyOf(allowLength, states), wordCount, count - wordCount);
+    }
+
+    private static char[] normalizeWord(String word) {
+        if (word == null) return null;
+        int capacity = word.length() * HangulNormalizer.MAX_EXPANSION;
+        char[] buffer = new char[capacity];
+        int length = HangulNormalizer.normalize(word, buffer, new int[capacity], new int[capacity]);
+        return length == 0 ? null : Arrays.copyOf(buffer, length);
+    }
+
+    public boolean containsMatch(CharSequence text) {
+        if (wordCount == 0 || text == null || text.isEmpty()) return false;
+
+        Scratch scratch = scratchFor(text);
+        int length = HangulNormalizer.normalize(text, scratch.chars, scratch.starts, scratch.ends);
+        boolean hasAllowed = markAllowed(scratch, length);
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf[scratch.chars[i]]];
+            int matched = matchLength[state];
+            if (matched > 0 && !(hasAllowed && isAllowed(scratch.allowed, i - matched + 1, i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 금칙어에 해당하는 원문 글자를 '*' 로 바꿉니다 (공백은 유지). 일치가 없으면 text 를 그대로 돌려줍니다.
+     */
+    public String mask(String text) {
+        if (wordCount == 0 || text == null || text.isEmpty()) return text;
+
+        Scratch scratch = scratchFor(text);
+        int length = HangulNormalizer.normalize(text, scratch.chars, scratch.starts, scratch.ends);
+        boolean hasAllowed = markAllowed(scratch, length);
+        char[] masked = null;
+        int maskedUntil = -1;
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf[scratch.chars[i]]];
+            int matched = matchLength[state];
+            if (matched == 0 || (hasAllowed && isAllowed(scratch.allowed, i - matched + 1, i))) continue;
+
+            if (masked == null) {
+                masked = text.toCharArray();
+            }
+            int end = scratch.ends[i];
+            for (int k = Math.max(scratch.starts[i - matched + 1], maskedUntil + 1); k <= end; k++) {
+                if (!Character.isWhitespace(masked[k])) {
+                    masked[k] = '*';
+                }
+            }
+            maskedUntil = Math.max(maskedUntil, end);
+        }
+        return masked == null ? text : new String(masked);
+    }
+
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * 허용어가 차지하는 정규화 위치를 표시합니다.
+     * @return 허용어가 하나라도 나왔으면 true
+     */
+    private boolean markAllowed(Scratch scratch, int length) {
+        if (allowedCount == 0) return false;
+
+        boolean[] allowed = scratch.allowed;
+        Arrays.fill(allowed, 0, length, false);
+        boolean found = false;
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = transitions[state * alphabetSize + symbolOf[scratch.chars[i]]];
+            int matched = allowLength[state];
+            if (matched > 0) {
+                Arrays.fill(allowed, i - matched + 1, i + 1, true);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isAllowed(boolean[] allowed, int from, int to) {
+        for (int k = from; k <= to; k++) {
+            if (!allowed[k]) return false;
+        }
+        return true;
+    }
+
+    private static Scratch scratchFor(CharSequence text) {
+        Scratch scratch = SCRATCH.get();
+        scratch.ensure(text.length() * HangulNormalizer.MAX_EXPANSION);
+        return scratch;
+    }
+}
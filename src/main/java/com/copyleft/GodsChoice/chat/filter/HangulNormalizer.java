@@ -0,0 +1,128 @@
+package com.copyleft.GodsChoice.chat.filter;
+
+/**
+ * 금칙어 비교용 정규화
+ * - 완성형 한글은 음절 그대로 비교 (자모로 풀면 "입술" 의 ㅂㅅ, "조작" 의 좆 처럼 음절 경계를 넘는 오탐이 생김)
+ * - 따로 입력한 자모가 이어지면 음절로 조합 ("ㅅㅣ발" → "시발"), 조합되지 않는 자모는 그대로 둠 ("ㅅㅂ")
+ * - 겹자음(ㄳ, ㅄ 등)은 낱자로 풀어서, 따로 입력한 경우와 같게 만듦
+ * - 공백, 기호 등 글자/숫자가 아닌 문자는 버려서 띄어쓰기/특수문자 끼워 넣기를 무시
+ * - 영문은 소문자, 전각 영문/숫자는 반각으로
+ * 정규화된 글자마다 원문 시작/끝 위치를 함께 기록해서 가리기(mask)에 씁니다.
+ */
+final class HangulNormalizer {
+
+    /** 원문 한 글자가 늘어날 수 있는 최대 길이 (겹자음 2) */
+    static final int MAX_EXPANSION = 2;
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private HangulNormalizer() {}
+
+    /**
+     * @param out    정규화된 문자 (text.length() * MAX_EXPANSION 이상)
+     * @param starts out[i] 가 나온 원문 시작 위치
+     * @param ends   out[i] 가 나온 원문 끝 위치 (자모를 조합한 음절은 마지막 자모 위치)
+     * @return out 에 쓴 길이
+     */
+    static int normalize(CharSequence text, char[] out, int[] starts, int[] ends) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                length = emit(c, i, out, starts, ends, length);
+            } else if (c >= 0x3131 && c <= 0x318E) {
+                length = emitJamo(c, i, out, starts, ends, length);
+            } else if (c >= 0x1100 && c <= 0x1112) {
+                length = emitJamo(CHO.charAt(c - 0x1100), i, out, starts, ends, length);
+            } else if (c >= 0x1161 && c <= 0x1175) {
+                length = emitJamo(JUNG.charAt(c - 0x1161), i, out, starts, ends, length);
+            } else if (c >= 0x11A8 && c <= 0x11C2) {
+                length = emitJamo(JONG.charAt(c - 0x11A8 + 1), i, out, starts, ends, length);
+            } else {
+                if (c >= 0xFF01 && c <= 0xFF5E) {
+                    c = (char) (c - 0xFEE0);
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    length = emit(Character.toLowerCase(c), i, out, starts, ends, length);
+                }
+            }
+        }
+        return compose(out, starts, ends, length);
+    }
+
+    /**
+     * 이어진 자모(초성 + 중성, 뒤에 모음이 오지 않는 자음은 종성)를 음절 하나로 합칩니다. 제자리에서 줄이기만 합니다.
+     */
+    private static int compose(char[] out, int[] starts, int[] ends, int length) {
+        int written = 0;
+        for (int read = 0; read < length; ) {
+            int cho = CHO.indexOf(out[read]);
+            int jung = read + 1 < length ? JUNG.indexOf(out[read + 1]) : -1;
+            if (cho < 0 || jung < 0) {
+                out[written] = out[read];
+                starts[written] = starts[read];
+                ends[written++] = ends[read++];
+                continue;
+            }
+
+            int consumed = 2;
+            int jong = 0;
+            if (read + 2 < length) {
+                int candidate = JONG.indexOf(out[read + 2]);
+                boolean vowelNext = read + 3 < length && JUNG.indexOf(out[read + 3]) >= 0;
+                if (candidate > 0 && !vowelNext) {
+                    jong = candidate;
+                    consumed = 3;
+                }
+            }
+            out[written] = (char) (SYLLABLE_BASE + (cho * JUNG_COUNT + jung) * JONG_COUNT + jong);
+            starts[written] = starts[read];
+            ends[written++] = ends[read + consumed - 1];
+            read += consumed;
+        }
+        return written;
+    }
+
+    /**
+     * 호환용 자모 하나를 씁니다. 겹자음은 낱자로 나눕니다.
+     */
+    private static int emitJamo(char jamo, int source, char[] out, int[] starts, int[] ends, int length) {
+        char first = jamo;
+        char second = 0;
+        switch (jamo) {
+            case 'ㄳ' -> { first = 'ㄱ'; second = 'ㅅ'; }
+            case 'ㄵ' -> { first = 'ㄴ'; second = 'ㅈ'; }
+            case 'ㄶ' -> { first = 'ㄴ'; second = 'ㅎ'; }
+            case 'ㄺ' -> { first = 'ㄹ'; second = 'ㄱ'; }
+            case 'ㄻ' -> { first = 'ㄹ'; second = 'ㅁ'; }
+            case 'ㄼ' -> { first = 'ㄹ'; second = 'ㅂ'; }
+            case 'ㄽ' -> { first = 'ㄹ'; second = 'ㅅ'; }
+            case 'ㄾ' -> { first = 'ㄹ'; second = 'ㅌ'; }
+            case 'ㄿ' -> { first = 'ㄹ'; second = 'ㅍ'; }
+            case 'ㅀ' -> { first = 'ㄹ'; second = 'ㅎ'; }
+            case 'ㅄ' -> { first = 'ㅂ'; second = 'ㅅ'; }
+            default -> { }
+        }
+
+        length = emit(first, source, out, starts, ends, length);
+        if (second != 0) {
+            length = emit(second, source, out, starts, ends, length);
+        }
+        return length;
+    }
+
+    private static int emit(char c, int source, char[] out, int[] starts, int[] ends, int length) {
+        out[length] = c;
+        starts[length] = source;
+        ends[length] = source;
+        return length + 1;
+    }
+}
@@ -0,0 +1,51 @@
+package com.copyleft.GodsChoice.chat.repository;
+
+import com.copyleft.GodsChoice.global.config.ChatProperties;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방별 최근 채팅 (Redis List 를 고정 길이 링 버퍼로 사용)
+ * 메시지마다가 아니라 묶음마다 한 번 파이프라인으로 씁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatHistoryRepository {
+
+    private static final long HISTORY_TTL_HOURS = 1L; // 방 TTL 과 같음
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatProperties properties;
+
+    public void append(String roomId, List<String> messages) {
+        if (messages.isEmpty()) return;
+
+        String key = RedisKey.CHAT_HISTORY.makeRoomKey(roomId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForList().rightPushAll(key, messages);
+                ops.opsForList().trim(key, -properties.historySize(), -1);
+                ops.expire(key, HISTORY_TTL_HOURS, TimeUnit.HOURS);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * @return 오래된 것부터 최근 historySize 개
+     */
+    public List<String> findRecent(String roomId) {
+        List<String> messages = redisTemplate.opsForList().range(RedisKey.CHAT_HISTORY.makeRoomKey(roomId), 0, -1);
+        return messages == null ? List.of() : messages;
+    }
+}
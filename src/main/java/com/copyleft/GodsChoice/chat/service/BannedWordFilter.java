@@ -0,0 +1,136 @@
+package com.copyleft.GodsChoice.chat.service;
+
+import com.copyleft.GodsChoice.chat.filter.BannedWordMatcher;
+import com.copyleft.GodsChoice.global.config.BannedWordProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 채팅/닉네임 금칙어 필터
+ * 기본 목록과 app.banned-words.path 파일을 합쳐(허용어는 기본 허용어 목록) 매처를 만들고, 파일이 바뀌면 새로 만든 매처로 참조만 바꿉니다.
+ * 읽는 쪽은 락 없이 그 시점의 매처를 씁니다.
+ */
+@Slf4j
+@Component
+public class BannedWordFilter {
+
+    private static final String BUILT_IN = "/filter/banned-words.txt";
+    private static final String ALLOWED = "/filter/allowed-words.txt";
+
+    private final BannedWordProperties properties;
+    private final Counter maskedCounter;
+
+    private volatile BannedWordMatcher matcher;
+    private volatile long fileModifiedAt = -1;
+
+    public BannedWordFilter(BannedWordProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.maskedCounter = meterRegistry.counter("chat.banned_words.masked");
+        Gauge.builder("chat.banned_words.size", this, filter -> filter.matcher.size()).register(meterRegistry);
+        reload();
+    }
+
+    public boolean containsBannedWord(String text) {
+        return matcher.containsMatch(text);
+    }
+
+    /**
+     * 금칙어를 '*' 로 가린 문자열, 없으면 text 그대로
+     */
+    public String mask(String text) {
+        String masked = matcher.mask(text);
+        if (masked != text) {
+            maskedCounter.increment();
+        }
+        return masked;
+    }
+
+    /**
+     * 파일 없이 목록을 직접 바꿔 끼웁니다 (기본 목록은 유지).
+     */
+    public void replace(Collection<String> words) {
+        List<String> all = readResource(BUILT_IN);
+        all.addAll(words);
+        swap(all);
+    }
+
+    @Scheduled(fixedDelayString = "${app.banned-words.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (currentFileModifiedAt() != fileModifiedAt) {
+            log.info("금칙어 파일 변경 감지, 다시 읽습니다.");
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        long modifiedAt = currentFileModifiedAt();
+        List<String> words = readResource(BUILT_IN);
+
+        if (StringUtils.hasText(properties.path()) && modifiedAt != -1) {
+            try {
+                words.addAll(parse(Files.newBufferedReader(Path.of(properties.path()), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                log.error("금칙어 파일 로드 실패, 기본 목록만 사용: path={}", properties.path(), e);
+            }
+        }
+
+        swap(words);
+        fileModifiedAt = modifiedAt;
+    }
+
+    private void swap(List<String> words) {
+        BannedWordMatcher compiled = BannedWordMatcher.compile(words, readResource(ALLOWED));
+        this.matcher = compiled;
+        log.info("금칙어 매처 교체 완료: words={}", compiled.size());
+    }
+
+    private List<String> readResource(String resource) {
+        try (InputStream in = BannedWordFilter.class.getResourceAsStream(resource)) {
+            if (in == null) return new ArrayList<>();
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            log.error("기본 목록 로드 실패: {}", resource, e);
+            return new ArrayList<>();
+        }
+    }
+
+    private static List<String> parse(BufferedReader reader) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (reader) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    words.add(line);
+                }
+            }
+        }
+        return words;
+    }
+
+    private long currentFileModifiedAt() {
+        if (!StringUtils.hasText(properties.path())) return -1;
+        try {
+            Path file = Path.of(properties.path());
+            return Files.exists(file) ? Files.getLastModifiedTime(file).toMillis() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.copyleft.GodsChoice.chat.service;
+
+import com.copyleft.GodsChoice.chat.dto.ChatResponse;
+import com.copyleft.GodsChoice.chat.repository.ChatHistoryRepository;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.global.config.ChatProperties;
+import com.copyleft.GodsChoice.global.util.BoundedTtlMap;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 채팅 묶음 전송
+ * - batchWindowMs 가 0 이면 모으지 않고 메시지마다 바로 CHAT_MESSAGE 로 보냄 (기본값, CHAT_BATCH 를 모르는 클라이언트용)
+ * - 0 보다 크면, 최근 batchWindowMs 안에 보낸 적이 없는 방의 메시지는 바로 보내고,
+ *   연달아 들어온 메시지만 batchWindowMs 뒤에 한 프레임으로 보내며 최근 채팅에도 한 번에 넣음
+ * 방 락이나 방 전체 문서는 건드리지 않고, 받는 사람은 방 스냅샷 캐시에서 구합니다.
+ */
+@Slf4j
+@Component
+public class ChatBatcher {
+
+    private final RoomRepository roomRepository;
+    private final ChatHistoryRepository chatHistoryRepository;
+    private final ChatResponseSender chatResponseSender;
+    private final TaskScheduler taskScheduler;
+    private final ObjectMapper objectMapper;
+    private final ChatProperties properties;
+    private final DistributionSummary batchSize;
+
+    private static final int MAX_TRACKED_ROOMS = 10_000;
+
+    private final Map<String, List<ChatResponse>> pending = new ConcurrentHashMap<>();
+    // 방별 마지막 전송 시각 + batchWindowMs (이 시각 전에 들어온 메시지만 모음)
+    private final BoundedTtlMap<String, Long> quietUntil = new BoundedTtlMap<>(MAX_TRACKED_ROOMS, until -> until);
+
+    public ChatBatcher(RoomRepository roomRepository,
+                       ChatHistoryRepository chatHistoryRepository,
+                       ChatResponseSender chatResponseSender,
+                       TaskScheduler taskScheduler,
+                       ObjectMapper objectMapper,
+                       ChatProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        this.chatHistoryRepository = chatHistoryRepository;
+        this.chatResponseSender = chatResponseSender;
+        this.taskScheduler = taskScheduler;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("chat.batch.size").register(meterRegistry);
+    }
+
+    public void enqueue(String roomId, ChatResponse message) {
+        if (properties.batchWindowMs() <= 0) {
+            send(roomId, List.of(message));
+            return;
+        }
+
+        boolean[] first = new boolean[1];
+        boolean[] full = new boolean[1];
+
+        pending.compute(roomId, (key, messages) -> {
+            if (messages == null) {
+                messages = new ArrayList<>();
+                first[0] = true;
+            }
+            messages.add(message);
+            full[0] = messages.size() >= properties.maxBatchSize();
+            return messages;
+        });
+
+        // 조용하던 방의 첫 메시지는 기다리지 않고 보냄 (예약 없이)
+        boolean busy = quietUntil.get(roomId, System.currentTimeMillis()) != null;
+        if (full[0] || (first[0] && !busy)) {
+            flush(roomId);
+        } else if (first[0]) {
+            taskScheduler.schedule(() -> flush(roomId), Instant.now().plusMillis(properties.batchWindowMs()));
+        }
+    }
+
+    /**
+     * 모인 메시지를 보냅니다. 이미 보냈으면(예약과 maxBatchSize 가 겹친 경우) 아무 일도 하지 않습니다.
+     */
+    public void flush(String roomId) {
+        List<ChatResponse> messages = pending.remove(roomId);
+        if (messages == null || messages.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        quietUntil.put(roomId, now + properties.batchWindowMs(), now);
+        send(roomId, messages);
+    }
+
+    private void send(String roomId, List<ChatResponse> messages) {
+        try {
+            batchSize.record(messages.size());
+            RoomSnapshot room = roomRepository.findRoomSnapshot(roomId).orElse(null);
+            if (room == null) return;
+
+            chatResponseSender.broadcastChat(room, messages);
+            chatHistoryRepository.append(roomId, serialize(messages));
+        } catch (Exception e) {
+            log.error("채팅 묶음 전송 실패: room={}, count={}", roomId, messages.size(), e);
+        }
+    }
+
+    private List<String> serialize(List<ChatResponse> messages) throws JsonProcessingException {
+        List<String> jsons = new ArrayList<>(messages.size());
+        for (ChatResponse message : messages) {
+            jsons.add(objectMapper.writeValueAsString(message));
+        }
+        return jsons;
+    }
+}
@@ -0,0 +1,56 @@
+package com.copyleft.GodsChoice.chat.service;
+
+import com.copyleft.GodsChoice.global.config.ChatProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 채팅 토큰 버킷
+ * 채팅은 세션이 연결된 노드로만 들어오므로 Redis 없이 노드 로컬로 셉니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRateLimiter {
+
+    private final ChatProperties properties;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private static final class Bucket {
+        private double tokens;
+        private volatile long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+    }
+
+    public boolean tryAcquire(String sessionId) {
+        long now = System.currentTimeMillis();
+        Bucket bucket = buckets.computeIfAbsent(sessionId, key -> new Bucket(properties.burst(), now));
+
+        synchronized (bucket) {
+            double refill = (now - bucket.refilledAt) * properties.ratePerSecond() / 1000.0;
+            bucket.tokens = Math.min(properties.burst(), bucket.tokens + refill);
+            bucket.refilledAt = now;
+
+            if (bucket.tokens < 1) return false;
+            bucket.tokens -= 1;
+            return true;
+        }
+    }
+
+    /**
+     * 한동안 채팅이 없던 세션(끊긴 세션 포함)의 버킷은 다시 가득 찬 상태와 같으므로 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.idle-bucket-ttl-ms:600000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - properties.idleBucketTtlMs();
+        buckets.values().removeIf(bucket -> bucket.refilledAt < threshold);
+    }
+}
@@ -1,34 +1,46 @@
 package com.copyleft.GodsChoice.chat.service;
 
-import com.copyleft.GodsChoice.domain.Player;
-import com.copyleft.GodsChoice.domain.Room;
-import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
 import com.copyleft.GodsChoice.chat.dto.ChatResponse;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
 import com.copyleft.GodsChoice.global.constant.SocketEvent;
 import com.copyleft.GodsChoice.global.websocket.WebSocketSender;
 import com.copyleft.GodsChoice.global.websocket.dto.WebSocketResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class ChatResponseSender {
 
     private final WebSocketSender webSocketSender;
 
-    public void broadcastChat(Room room, ChatResponse chatData) {
-        WebSocketResponse<ChatResponse> response = WebSocketResponse.<ChatResponse>builder()
-                .event(SocketEvent.CHAT_MESSAGE.name())
-                .data(chatData)
-                .build();
+    /**
+     * 한 건이면 기존과 같은 CHAT_MESSAGE, 여러 건이면 CHAT_BATCH 한 프레임으로 보냅니다.
+     */
+    public void broadcastChat(RoomSnapshot room, List<ChatResponse> messages) {
+        if (room == null || messages.isEmpty()) return;
 
-        if (room != null && room.getPlayers() != null) {
-            for (Player player : room.getPlayers()) {
-                if (player.getConnectionStatus() == ConnectionStatus.CONNECTED) {
-                    webSocketSender.sendEventToSession(player.getSessionId(), response);
-                }
-            }
-        }
+        Object response = messages.size() == 1
+                ? WebSocketResponse.<ChatResponse>builder()
+                        .event(SocketEvent.CHAT_MESSAGE.name())
+                        .data(messages.getFirst())
+                        .build()
+                : WebSocketResponse.<List<ChatResponse>>builder()
+                        .event(SocketEvent.CHAT_BATCH.name())
+                        .data(messages)
+                        .build();
+
+        webSocketSender.sendEventToSessions(room.connectedSessionIds(), response);
+    }
+
+    public void sendHistory(String sessionId, List<ChatResponse> messages) {
+        WebSocketResponse<List<ChatResponse>> response = WebSocketResponse.<List<ChatResponse>>builder()
+                .event(SocketEvent.CHAT_HISTORY.name())
+                .data(messages)
+                .build();
+        webSocketSender.sendEventToSession(sessionId, response);
     }
 
     public void sendError(String sessionId, String errorCode, String errorMessage) {
@@ -39,4 +51,4 @@ public class ChatResponseSender {
                 .build();
         webSocketSender.sendEventToSession(sessionId, response);
     }
-}
\ No newline at end of file
+}
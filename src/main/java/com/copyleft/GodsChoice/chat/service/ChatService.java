@@ -1,15 +1,19 @@
 package com.copyleft.GodsChoice.chat.service;
 
-import com.copyleft.GodsChoice.domain.Player;
-import com.copyleft.GodsChoice.domain.Room;
 import com.copyleft.GodsChoice.chat.dto.ChatResponse;
+import com.copyleft.GodsChoice.chat.repository.ChatHistoryRepository;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
 import com.copyleft.GodsChoice.global.constant.ErrorCode;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -19,6 +23,11 @@ public class ChatService {
 
     private final RoomRepository roomRepository;
     private final ChatResponseSender chatResponseSender;
+    private final ChatRateLimiter chatRateLimiter;
+    private final ChatBatcher chatBatcher;
+    private final ChatHistoryRepository chatHistoryRepository;
+    private final BannedWordFilter bannedWordFilter;
+    private final ObjectMapper objectMapper;
 
     private static final String CHAT_FORMAT = "%s[%s] : %s";
 
@@ -29,40 +38,65 @@ public class ChatService {
             return;
         }
 
+        if (!chatRateLimiter.tryAcquire(sessionId)) {
+            chatResponseSender.sendError(sessionId, ErrorCode.CHAT_RATE_LIMITED.name(), ErrorCode.CHAT_RATE_LIMITED.getMessage());
+            return;
+        }
+
         String roomId = roomRepository.getRoomIdBySessionId(sessionId);
         if (roomId == null) {
             chatResponseSender.sendError(sessionId, ErrorCode.ROOM_NOT_FOUND.name(), ErrorCode.ROOM_NOT_FOUND.getMessage());
             return;
         }
 
-        Optional<Room> roomOpt = roomRepository.findRoomById(roomId);
+        // 채팅은 방을 바꾸지 않으므로 로컬 캐시의 스냅샷을 사용
+        Optional<RoomSnapshot> roomOpt = roomRepository.findRoomSnapshot(roomId);
         if (roomOpt.isEmpty()) {
             chatResponseSender.sendError(sessionId, ErrorCode.ROOM_NOT_FOUND.name(), ErrorCode.ROOM_NOT_FOUND.getMessage());
             return;
         }
-        Room room = roomOpt.get();
+        RoomSnapshot room = roomOpt.get();
 
-        Player sender = room.getPlayers().stream()
-                .filter(p -> p.getSessionId().equals(sessionId))
-                .findFirst()
-                .orElse(null);
+        RoomSnapshot.Member sender = room.findMember(sessionId).orElse(null);
 
         if (sender == null) {
             return;
         }
 
-        String colorCode = sender.getColor() != null ? sender.getColor().name() : "UNKNOWN";
-        String formattedMessage = String.format(CHAT_FORMAT, sender.getNickname(), colorCode, message);
+        message = bannedWordFilter.mask(message);
+        String colorCode = sender.color() != null ? sender.color().name() : "UNKNOWN";
+        String formattedMessage = String.format(CHAT_FORMAT, sender.nickname(), colorCode, message);
 
         ChatResponse chatData = ChatResponse.builder()
-                .sender(sender.getNickname())
+                .sender(sender.nickname())
                 .color(colorCode)
                 .content(message)
                 .formattedMessage(formattedMessage)
                 .build();
 
-        chatResponseSender.broadcastChat(room, chatData);
+        chatBatcher.enqueue(roomId, chatData);
+
+        log.info("채팅 전송: room={}, sender={}, msg={}", roomId, sender.nickname(), message);
+    }
+
+    /**
+     * 방에 늦게 들어온 사람에게 최근 채팅을 보냅니다.
+     */
+    public void sendHistory(String sessionId) {
+        String roomId = roomRepository.getRoomIdBySessionId(sessionId);
+        if (roomId == null) {
+            chatResponseSender.sendError(sessionId, ErrorCode.ROOM_NOT_FOUND.name(), ErrorCode.ROOM_NOT_FOUND.getMessage());
+            return;
+        }
 
-        log.info("채팅 전송: room={}, sender={}, msg={}", roomId, sender.getNickname(), message);
+        List<ChatResponse> messages = new ArrayList<>();
+        for (String json : chatHistoryRepository.findRecent(roomId)) {
+            try {
+                messages.add(objectMapper.readValue(json, ChatResponse.class));
+            } catch (JsonProcessingException e) {
+                // 형식이 깨진 메시지는 건너뜀
+            }
+        }
+        chatResponseSender.sendHistory(sessionId, messages);
     }
-}
\ No newline at end of file
+}
@@ -26,6 +26,7 @@ public class Room {
     private String roomId;        // 내부 관리용 UUID
     private String roomCode;      // 유저 공유용 코드
     private String hostSessionId; // 방장의 sessionId
+    private String ownerNode;     // 이 방을 처리하는 서버 노드 (방을 만든 노드)
 
     @Builder.Default
     private List<Player> players = new ArrayList<>();
@@ -39,9 +40,15 @@ public class Room {
     private GodPersonality godPersonality; // 이번 판의 신 성향
     private Oracle oracle;         // 이번 라운드 신탁
 
+    private String deckTheme;      // 방장이 고른 덱 테마 (없으면 기본)
+    private String deckName;       // 이번 판에 사용하는 덱
+
     @Builder.Default
     private Set<Oracle> usedOracles = new HashSet<>();
 
+    @Builder.Default
+    private Set<String> usedCards = new HashSet<>(); // 이번 게임에서 이미 나눠준 카드
+
     @Builder.Default
     private boolean votingDisabled = false; // 배신자 색출 후 투표 잠금 여부
 
@@ -123,8 +130,10 @@ public class Room {
         this.currentPhase = null;
         this.godPersonality = null;
         this.oracle = null;
+        this.deckName = null;
         this.votingDisabled = false;
         this.usedOracles.clear();
+        this.usedCards.clear();
 
         if (this.players != null) {
             for (Player p : this.players) {
@@ -0,0 +1,73 @@
+package com.copyleft.GodsChoice.domain.log;
+
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Kafka 로 내보내는 게임 이벤트 (outbox 에 방 상태와 함께 저장)
+ * 전달은 at-least-once 이므로 소비자는 eventId 로 중복을 걸러야 합니다.
+ */
+public record GameEvent(
+        String eventId,
+        Type type,
+        String roomId,
+        int round,
+        int hp,
+        long occurredAt,
+        Map<String, Object> data
+) {
+
+    public enum Type {
+        GAME_STARTED, ROUND_JUDGED, TRIAL_RESULT, GAME_OVER
+    }
+
+    public static GameEvent gameStarted(Room room) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("playerCount", room.getPlayers().size());
+        data.put("personality", room.getGodPersonality());
+        data.put("deckName", room.getDeckName());
+        return of(Type.GAME_STARTED, room, data);
+    }
+
+    public static GameEvent roundJudged(Room room, int score, String sentence) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("score", score);
+        data.put("sentence", sentence);
+        data.put("personality", room.getGodPersonality());
+        data.put("oracle", room.getOracle());
+        return of(Type.ROUND_JUDGED, room, data);
+    }
+
+    /**
+     * @param targetRole 무효 투표(동점/득표 없음)면 null
+     */
+    public static GameEvent trialResult(Room room, boolean success, PlayerRole targetRole) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("success", success);
+        data.put("targetRole", targetRole);
+        return of(Type.TRIAL_RESULT, room, data);
+    }
+
+    public static GameEvent gameOver(Room room, String winnerRole) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("winnerRole", winnerRole);
+        data.put("roomTitle", room.getRoomTitle());
+        return of(Type.GAME_OVER, room, data);
+    }
+
+    private static GameEvent of(Type type, Room room, Map<String, Object> data) {
+        return new GameEvent(
+                UUID.randomUUID().toString(),
+                type,
+                room.getRoomId(),
+                room.getCurrentRound(),
+                room.getCurrentHp(),
+                System.currentTimeMillis(),
+                data
+        );
+    }
+}
@@ -5,7 +5,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_logs")
+@Table(name = "game_logs", indexes = {
+        // 전체 기록 최신순 키셋 페이지네이션 (played_at, id)
+        @Index(name = "idx_game_logs_played_at_id", columnList = "playedAt, id"),
+        // 방별 기록 최신순 키셋 페이지네이션 (room_id, played_at, id)
+        @Index(name = "idx_game_logs_room_played_at_id", columnList = "roomId, playedAt, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -24,6 +29,8 @@ public class GameLog {
     @Column(nullable = false)
     private String winnerRole; // "CITIZEN" or "TRAITOR"
 
+    private String godPersonality; // 이번 판의 신 성향 (통계 재계산용)
+
     private int finalHp;
     private int totalRounds;
 
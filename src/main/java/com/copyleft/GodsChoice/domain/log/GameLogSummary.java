@@ -0,0 +1,17 @@
+package com.copyleft.GodsChoice.domain.log;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임 기록 목록용 프로젝션 (엔티티를 만들지 않고 필요한 컬럼만 조회)
+ */
+public record GameLogSummary(
+        Long id,
+        String roomId,
+        String roomTitle,
+        String winnerRole,
+        String godPersonality,
+        int finalHp,
+        int totalRounds,
+        LocalDateTime playedAt
+) {}
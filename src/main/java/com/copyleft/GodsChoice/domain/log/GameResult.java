@@ -0,0 +1,31 @@
+package com.copyleft.GodsChoice.domain.log;
+
+import com.copyleft.GodsChoice.domain.Room;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임 결과 스냅샷 (게임 종료 시점에 방에서 값을 복사해 두고, 나중에 묶어서 저장)
+ */
+public record GameResult(
+        String roomId,
+        String roomTitle,
+        String winnerRole,
+        String godPersonality,
+        int finalHp,
+        int totalRounds,
+        LocalDateTime playedAt
+) {
+
+    public static GameResult of(Room room, String winnerRole) {
+        return new GameResult(
+                room.getRoomId(),
+                room.getRoomTitle(),
+                winnerRole,
+                room.getGodPersonality() == null ? null : room.getGodPersonality().name(),
+                room.getCurrentHp(),
+                room.getCurrentRound(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.copyleft.GodsChoice.domain.log;
+
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+
+/**
+ * 라운드 분석용 이벤트 (성향/신탁 밸런싱용)
+ * 종류에 해당하지 않는 값은 null
+ */
+public record RoundEvent(
+        Type type,
+        String roomId,
+        int round,
+        long timestamp,
+        GodPersonality personality,
+        Oracle oracle,
+        String sentence,           // ROUND_JUDGED
+        Integer score,             // ROUND_JUDGED
+        Boolean votePassed,        // VOTE_PROPOSAL
+        Boolean trialSuccess,      // TRIAL
+        PlayerRole trialTargetRole, // TRIAL (무효 투표면 null)
+        int hpAfter
+) {
+
+    public enum Type {
+        ROUND_JUDGED, VOTE_PROPOSAL, TRIAL
+    }
+
+    public static RoundEvent judged(Room room, String sentence, int score) {
+        return of(Type.ROUND_JUDGED, room, sentence, score, null, null, null);
+    }
+
+    public static RoundEvent voteProposal(Room room, boolean passed) {
+        return of(Type.VOTE_PROPOSAL, room, null, null, passed, null, null);
+    }
+
+    public static RoundEvent trial(Room room, boolean success, PlayerRole targetRole) {
+        return of(Type.TRIAL, room, null, null, null, success, targetRole);
+    }
+
+    private static RoundEvent of(Type type, Room room, String sentence, Integer score,
+                                 Boolean votePassed, Boolean trialSuccess, PlayerRole trialTargetRole) {
+        return new RoundEvent(
+                type,
+                room.getRoomId(),
+                room.getCurrentRound(),
+                System.currentTimeMillis(),
+                room.getGodPersonality(),
+                room.getOracle(),
+                sentence,
+                score,
+                votePassed,
+                trialSuccess,
+                trialTargetRole,
+                room.getCurrentHp()
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.copyleft.GodsChoice.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+/**
+ * 랭킹 집계 기간
+ * 일간/주간은 기간마다 새 키를 쓰고(rolling key), 기간이 지나면 TTL 로 사라집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LeaderboardWindow {
+
+    DAILY(Duration.ofDays(2)),
+    WEEKLY(Duration.ofDays(15)),
+    ALL(null);
+
+    private final Duration ttl; // null 이면 만료 없음
+
+    public String suffix(LocalDate date) {
+        return switch (this) {
+            case DAILY -> "daily:" + date;
+            case WEEKLY -> "weekly:" + date.get(IsoFields.WEEK_BASED_YEAR) + "-W" + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+            case ALL -> "all";
+        };
+    }
+}
@@ -2,8 +2,9 @@ package com.copyleft.GodsChoice.domain.type;
 
 import lombok.Getter;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public enum WordData {
@@ -35,23 +36,22 @@ public enum WordData {
             "요리했다", "판매했다", "전시했다", "폭파했다", "핥았다", "숨겼다"
     ));
 
+    private static final Map<SlotType, WordData> BY_SLOT = new EnumMap<>(SlotType.class);
+
+    static {
+        for (SlotType slotType : SlotType.values()) {
+            BY_SLOT.put(slotType, WordData.valueOf(slotType.name()));
+        }
+    }
+
     private final List<String> words;
 
     WordData(List<String> words) {
-        this.words = words;
+        this.words = List.copyOf(words);
     }
 
-    // 랜덤으로 5장 뽑기
-    public static List<String> getRandomCards(SlotType slotType, int count) {
-        if (slotType == null) return Collections.emptyList();
-
-        try {
-            WordData data = WordData.valueOf(slotType.name());
-            List<String> allWords = new java.util.ArrayList<>(data.getWords());
-            Collections.shuffle(allWords);
-            return allWords.subList(0, Math.min(count, allWords.size()));
-        } catch (Exception e) {
-            return Arrays.asList("오류", "카드", "없음");
-        }
+    // 슬롯에 해당하는 단어 묶음 (문자열 조회 없이 EnumMap으로 찾음)
+    public static WordData of(SlotType slotType) {
+        return BY_SLOT.get(slotType);
     }
-}
\ No newline at end of file
+}
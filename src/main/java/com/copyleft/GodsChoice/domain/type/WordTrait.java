@@ -0,0 +1,16 @@
+package com.copyleft.GodsChoice.domain.type;
+
+// 로컬 심판(HeuristicJudge)이 단어를 채점할 때 쓰는 특징
+public enum WordTrait {
+    VIOLENCE, // 폭력, 파괴
+    FILTH,    // 더러움
+    HOLY,     // 성스러움, 신성
+    CHAOS,    // 혼돈, 광기
+    ORDER,    // 질서, 규칙
+    LOVE,     // 사랑, 생명, 따뜻함
+    POWER,    // 권력, 위엄, 허세
+    GREED,    // 욕망, 탐욕
+    DARK,     // 어둠, 공포
+    SILLY,    // 유치함, 장난
+    TIMID     // 소심함, 나약함
+}
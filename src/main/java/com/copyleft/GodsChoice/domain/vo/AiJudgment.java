@@ -1,8 +1,15 @@
 package com.copyleft.GodsChoice.domain.vo;
 
 public record AiJudgment(int score, String reason) {
+
+    private static final String FALLBACK_REASON = "신이 침묵합니다.";
+
     // 실패 시 사용할 기본값 (Null Object Pattern)
     public static AiJudgment fallback() {
-        return new AiJudgment(0, "신이 침묵합니다.");
+        return new AiJudgment(0, FALLBACK_REASON);
+    }
+
+    public boolean isFallback() {
+        return score == 0 && FALLBACK_REASON.equals(reason);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.copyleft.GodsChoice.domain.vo;
+
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 누적 게임 통계
+ * @param winsByPersonality 성향 → 승리 진영(CITIZEN/TRAITOR) → 판 수
+ * @param hpHistogram       최종 HP 구간 하한 → 판 수
+ * @param scoreByOracle     신탁 → 라운드 점수 요약
+ */
+public record GameStats(
+        Map<String, Map<String, Long>> winsByPersonality,
+        SortedMap<Integer, Long> hpHistogram,
+        Map<String, OracleScore> scoreByOracle
+) {
+
+    public record OracleScore(long rounds, double averageScore) {}
+}
@@ -0,0 +1,12 @@
+package com.copyleft.GodsChoice.domain.vo;
+
+/**
+ * 로컬 심판 결과
+ * @param confidence 0~1, 아는 단어 비율과 점수 크기로 계산한 확신도
+ */
+public record HeuristicJudgment(int score, String reason, double confidence) {
+
+    public AiJudgment toAiJudgment() {
+        return new AiJudgment(score, reason);
+    }
+}
@@ -0,0 +1,60 @@
+package com.copyleft.GodsChoice.domain.vo;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
+import com.copyleft.GodsChoice.domain.type.GamePhase;
+import com.copyleft.GodsChoice.domain.type.PlayerColor;
+import com.copyleft.GodsChoice.domain.type.RoomStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 읽기 전용 경로(채팅, 방 목록)에서 쓰는 방 스냅샷
+ * Room 은 가변 객체라 캐시해서 나눠 쓸 수 없으므로, 필요한 값만 복사한 불변 객체로 보관합니다.
+ * @param version 방을 저장할 때마다 1씩 올라가는 번호 (오래된 스냅샷 판별용)
+ */
+public record RoomSnapshot(
+        String roomId,
+        String roomCode,
+        String roomTitle,
+        String ownerNode,
+        RoomStatus status,
+        GamePhase currentPhase,
+        long version,
+        List<Member> members
+) {
+
+    public record Member(String sessionId, String nickname, PlayerColor color, boolean connected) {}
+
+    public static RoomSnapshot of(Room room, long version) {
+        List<Member> members = room.getPlayers() == null ? List.of() : room.getPlayers().stream()
+                .map(RoomSnapshot::toMember)
+                .toList();
+        return new RoomSnapshot(room.getRoomId(), room.getRoomCode(), room.getRoomTitle(), room.getOwnerNode(),
+                room.getStatus(), room.getCurrentPhase(), version, members);
+    }
+
+    private static Member toMember(Player player) {
+        return new Member(player.getSessionId(), player.getNickname(), player.getColor(),
+                player.getConnectionStatus() == ConnectionStatus.CONNECTED);
+    }
+
+    public Optional<Member> findMember(String sessionId) {
+        return members.stream()
+                .filter(member -> member.sessionId().equals(sessionId))
+                .findFirst();
+    }
+
+    public List<String> connectedSessionIds() {
+        return members.stream()
+                .filter(Member::connected)
+                .map(Member::sessionId)
+                .toList();
+    }
+
+    public int playerCount() {
+        return members.size();
+    }
+}
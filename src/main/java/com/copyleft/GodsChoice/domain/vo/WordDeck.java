@@ -0,0 +1,77 @@
+package com.copyleft.GodsChoice.domain.vo;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카드 덱 (불변)
+ * 단어 배열은 intern 되어 있으며 외부에서 수정하면 안 됩니다.
+ */
+@Getter
+public final class WordDeck {
+
+    public static final String DEFAULT_NAME = "default";
+    public static final String DEFAULT_THEME = "basic";
+
+    private final String name;
+    private final String theme;
+    private final int maxSlotSize;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private final Map<SlotType, String[]> words;
+
+    private WordDeck(String name, String theme, Map<SlotType, String[]> words) {
+        this.name = name;
+        this.theme = theme;
+        this.words = words;
+
+        int max = 0;
+        for (String[] slotWords : words.values()) {
+            max = Math.max(max, slotWords.length);
+        }
+        this.maxSlotSize = max;
+    }
+
+    public static WordDeck of(String name, String theme, Map<SlotType, ? extends Collection<String>> source) {
+        Map<SlotType, String[]> words = new EnumMap<>(SlotType.class);
+
+        for (SlotType slotType : SlotType.values()) {
+            Collection<String> slotWords = source.get(slotType);
+            if (slotWords == null || slotWords.isEmpty()) {
+                throw new IllegalArgumentException("덱에 비어 있는 슬롯이 있습니다: deck=" + name + ", slot=" + slotType);
+            }
+
+            Set<String> distinct = new LinkedHashSet<>();
+            for (String word : slotWords) {
+                if (word != null && !word.isBlank()) {
+                    distinct.add(word.strip().intern());
+                }
+            }
+            if (distinct.isEmpty()) {
+                throw new IllegalArgumentException("덱에 비어 있는 슬롯이 있습니다: deck=" + name + ", slot=" + slotType);
+            }
+            words.put(slotType, distinct.toArray(String[]::new));
+        }
+
+        return new WordDeck(name.intern(), (theme == null ? DEFAULT_THEME : theme).intern(), words);
+    }
+
+    // 읽기 전용 배열 (복사하지 않음)
+    public String[] words(SlotType slotType) {
+        return words.get(slotType);
+    }
+
+    public int size() {
+        int total = 0;
+        for (String[] slotWords : words.values()) {
+            total += slotWords.length;
+        }
+        return total;
+    }
+}
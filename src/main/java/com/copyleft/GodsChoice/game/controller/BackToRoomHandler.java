@@ -18,6 +18,11 @@ public class BackToRoomHandler implements WebSocketCommandHandler {
         return "BACK_TO_ROOM";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         gameFlowService.backToRoom(session.getId());
@@ -23,6 +23,11 @@ public class CastVoteHandler implements WebSocketCommandHandler {
         return "CAST_VOTE";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         try {
@@ -0,0 +1,41 @@
+package com.copyleft.GodsChoice.game.controller;
+
+import com.copyleft.GodsChoice.game.dto.GameHistoryRequest;
+import com.copyleft.GodsChoice.game.service.GameHistoryService;
+import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GetGameHistoryHandler implements WebSocketCommandHandler {
+
+    private final GameHistoryService gameHistoryService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getAction() {
+        return "GET_GAME_HISTORY";
+    }
+
+    @Override
+    public void handle(WebSocketSession session, JsonNode payload) {
+        GameHistoryRequest dto = null;
+        if (payload != null && !payload.isNull()) {
+            try {
+                dto = objectMapper.treeToValue(payload, GameHistoryRequest.class);
+            } catch (Exception e) {
+                log.warn("[GET_GAME_HISTORY] payload 파싱 실패, 전체 기록 첫 페이지 조회: session={}", session.getId());
+            }
+        }
+        gameHistoryService.getHistory(session.getId(),
+                dto != null ? dto.getRoomId() : null,
+                dto != null ? dto.getCursor() : null,
+                dto != null ? dto.getSize() : null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.copyleft.GodsChoice.game.controller;
+
+import com.copyleft.GodsChoice.game.service.GameResponseSender;
+import com.copyleft.GodsChoice.game.service.GameStatsService;
+import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+@Component
+@RequiredArgsConstructor
+public class GetGameStatsHandler implements WebSocketCommandHandler {
+
+    private final GameStatsService gameStatsService;
+    private final GameResponseSender gameResponseSender;
+
+    @Override
+    public String getAction() {
+        return "GET_GAME_STATS";
+    }
+
+    @Override
+    public void handle(WebSocketSession session, JsonNode payload) {
+        gameResponseSender.sendGameStats(session.getId(), gameStatsService.getStats());
+    }
+}
@@ -23,6 +23,11 @@ public class ProposeVoteHandler implements WebSocketCommandHandler {
         return "PROPOSE_VOTE";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         try {
@@ -18,6 +18,11 @@ public class SelectCardHandler implements WebSocketCommandHandler {
         return "SELECT_CARD";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         if (payload != null && payload.has("card")) {
@@ -18,6 +18,11 @@ public class StartGameHandler implements WebSocketCommandHandler {
         return "START_GAME";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         gameFlowService.tryStartGame(session.getId());
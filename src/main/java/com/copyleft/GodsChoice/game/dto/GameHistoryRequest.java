@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.game.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GameHistoryRequest {
+
+    private String roomId;  // 없으면 전체 기록
+    private String cursor;  // 이전 응답의 nextCursor, 없으면 첫 페이지
+    private Integer size;
+}
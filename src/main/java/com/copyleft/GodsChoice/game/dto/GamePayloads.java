@@ -1,6 +1,7 @@
 package com.copyleft.GodsChoice.game.dto;
 
 import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
 import com.copyleft.GodsChoice.domain.type.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -97,4 +98,12 @@ public class GamePayloads {
         private Room room;
         private PlayerRole winnerRole;
     }
+
+    // 게임 기록 한 페이지
+    @Getter
+    @Builder
+    public static class GameHistory {
+        private List<GameLogSummary> logs;
+        private String nextCursor; // 다음 페이지 요청에 그대로 전달, 마지막 페이지면 null
+    }
 }
\ No newline at end of file
@@ -3,26 +3,55 @@ package com.copyleft.GodsChoice.game.infra;
 import com.copyleft.GodsChoice.domain.type.GodPersonality;
 import com.copyleft.GodsChoice.domain.type.Oracle;
 import com.copyleft.GodsChoice.domain.vo.AiJudgment;
-import com.copyleft.GodsChoice.game.infra.dto.GroqRequest;
-import com.copyleft.GodsChoice.game.infra.dto.GroqResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.copyleft.GodsChoice.game.repository.JudgeRateLimiter;
+import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GroqApiClient {
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final GroqResilienceProperties resilienceProperties;
+    private final GameProperties gameProperties;
+    private final GroqCircuitBreaker circuitBreaker;
+    private final JudgeRateLimiter rateLimiter;
+    private final GroqLatencyTracker latencyTracker;
+    private final GroqPromptTemplates promptTemplates;
+    private final GroqResponseReader responseReader;
+    private final MeterRegistry meterRegistry;
+
+    // 응답 본문을 읽는 실행기 (헤지 요청 포함, 읽는 중에 끊을 수 있도록 요청마다 가상 스레드 하나)
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Value("${app.groq.api-key}")
     private String apiKey;
@@ -30,126 +59,223 @@ public class GroqApiClient {
     @Value("${app.groq.url}")
     private String apiUrl;
 
-    @Value("${app.groq.model}")
-    private String model;
-
     /**
-     * AI에게 문장 심판을 요청합니다.
+     * AI에게 문장 심판을 요청합니다. 기한은 라운드 결과 시간에서 계산합니다.
      * @param sentence 플레이어들이 조합한 문장
      * @param personality 신의 성향 (예: "분노한", "너그러운")
      * @param oracle 이번 라운드의 신탁 내용 (예: "마을에 활력을 불어넣어라")
      * @return AI의 답변
      */
     public AiJudgment judgeSentence(String sentence, GodPersonality personality, Oracle oracle) {
+        return judgeSentence(sentence, personality, oracle, resilienceProperties.deadline(gameProperties.roundResultDuration()));
+    }
 
-        String godKeyword = personality.getKeyword(); // 예: "파괴와 엄격한 심판"
-        String godName = personality.getDisplayName();// 예: "분노한", "장난꾸러기 같은"
-        String oracleMsg = oracle.getMessage();       // 예: "메마른 대지에 활력을..."
-
-        String forbiddenWordRule = String.format(
-                "Do NOT use the word '%s' or its synonyms directly in the reason.",
-                godName.split(" ")[0]
-        );
-
-        String systemPrompt = String.format("""
-            ### Role
-            You are a mysterious god with a unique **Aesthetic Philosophy**: ['%s'].
-            **Crucial:** Humans do not know your identity. You must judge based on your philosophy, but **hide your true name**.
-            
-            ### Context
-            1. Oracle: "%s"
-            2. Human Sentence: "%s" (Structure: [Subject] [Target] [How] [Action])
-            
-            ### Judging Process
-            1. **Twist the Oracle**: Interpret the Oracle through your philosophy.
-               - (e.g., If you like 'Chaos' and Oracle is 'Order', maybe 'Order' means 'A perfect mess'.)
-            2. **Evaluate**: Does the sentence satisfy your twisted taste?
-               - Don't just look for logic. Look for 'Flavor' that matches your philosophy.
-            3. **Critique (Output)**: Write a short, cynical, or profound comment in Korean.
-               - **%s** (Forbidden Word Rule)
-               - Don't explain like a teacher. Mumble like an arrogant judge.
-            
-            ### Constraints
-            1. JSON Output: {"score": -100~100, "reason": "Korean string under 60 chars"}
-            2. **Subtlety is Key**: Do not say "I am angry" or "I like pranks". 
-               - Instead of "Funny prank!", say "Predictability is boring. This twist pleases me."
-               - Instead of "I am angry!", say "Weakness disgusts me. Show me more power."
-            
-            ### Examples (Study the Nuance)
-            
-            Q. Philo: Destruction / Oracle: Vitality / Sentence: "The King scattered gold"
-            A. {"score": -40, "reason": "차가운 금붙이에 맥박이 뛰더냐? 나약한 기만이 역겹구나."}
-            (Hint: Dislikes weak things, prefers power. Doesn't say "I am Angry".)
-            
-            Q. Philo: Chaos & Fun / Oracle: Order / Sentence: "The developer wrote messy code"
-            A. {"score": 90, "reason": "숨 막히는 규칙을 깨부수는 그 엉망진창인 파격... 아주 훌륭해."}
-            (Hint: Likes breaking rules. Doesn't say "It's a prank".)
-            
-            Q. Philo: Pain & Reality / Oracle: Love / Sentence: "The sky ate poop deliciously"
-            A. {"score": 60, "reason": "살기 위해 오물을 삼키는 그 처절함... 그것이 진실된 애정이지."}
-            (Hint: Finds beauty in suffering. Doesn't say "I am Cruel".)
-            
-            Q. Philo: Growth & Warmth / Oracle: Silence / Sentence: "A bird screamed loudly"
-            A. {"score": -20, "reason": "너무 소란스럽구나. 때로는 멈춰서 품어주는 고요함이 필요한 법."}
-            (Hint: Values gentle growth. Doesn't say "I am Generous".)
-            """,
-                godKeyword, oracleMsg, sentence, forbiddenWordRule
-        );
-
-        GroqRequest request = GroqRequest.builder()
-                .model(model)
-                .temperature(0.4)
-                .messages(java.util.List.of(
-                        GroqRequest.Message.builder()
-                                .role("system")
-                                .content("You are a god in a game. Act according to your personality. Response strictly in JSON format.")
-                                .build(),
-                        GroqRequest.Message.builder()
-                                .role("user")
-                                .content(systemPrompt)
-                                .build()
-                ))
-                .build();
+    /**
+     * 기한 안에 응답이 없거나, 서킷 브레이커가 열려 있거나, 호출이 실패하면 대체 응답을 반환합니다.
+     * @param deadline 응답을 기다리는 최대 시간 (헤지 요청 포함)
+     */
+    public AiJudgment judgeSentence(String sentence, GodPersonality personality, Oracle oracle, Duration deadline) {
+        byte[] body = promptTemplates.render(sentence, personality, oracle);
+        BodyReader<AiJudgment> reader = promptTemplates.isStream() ? responseReader::readStream : responseReader::readCompletion;
+        return guardedCall(() -> send(body, deadline, reader), deadline, AiJudgment::fallback);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+    /**
+     * 여러 방의 문장을 한 번의 요청으로 심판합니다. 결과는 요청 순서와 같습니다.
+     * 응답에서 빠지거나 형식이 잘못된 항목만 대체 응답으로 채우고, 요청 자체가 실패하면 전부 대체 응답입니다.
+     */
+    public List<AiJudgment> judgeBatch(List<JudgeRequest> requests, Duration deadline) {
+        if (requests.size() == 1) {
+            JudgeRequest request = requests.getFirst();
+            return List.of(judgeSentence(request.sentence(), request.personality(), request.oracle(), deadline));
+        }
+
+        byte[] body = promptTemplates.renderBatch(requests);
+        return guardedCall(() -> send(body, deadline, in -> fillMissing(responseReader.readBatch(in, requests.size()))), deadline,
+                () -> Collections.nCopies(requests.size(), AiJudgment.fallback()));
+    }
 
+    private <T> T guardedCall(Supplier<Attempt<T>> call, Duration deadline, Supplier<T> fallback) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("Groq 서킷 브레이커가 열려 있어 호출을 건너뜁니다.");
+            return fallback.get();
+        }
+
+        long startedAt = System.nanoTime();
         try {
-            HttpEntity<GroqRequest> entity = new HttpEntity<>(request, headers);
-            GroqResponse response = restTemplate.postForObject(apiUrl, entity, GroqResponse.class);
-
-            if (response != null && response.getChoices() != null && !response.getChoices().isEmpty()) {
-                GroqResponse.Choice firstChoice = response.getChoices().get(0);
-                if (firstChoice != null && firstChoice.getMessage() != null && firstChoice.getMessage().getContent() != null) {
-                    String content = firstChoice.getMessage().getContent();
-                    log.info("AI 응답 원본: {}", content);
-                    return parseContent(content);
-                }
-                log.warn("Groq API 응답 구조 이상 (content 없음): {}", response);
-            }
+            T result = callWithHedge(call, deadline.toMillis());
+            long elapsedMs = elapsedMs(startedAt);
+            latencyTracker.recordSuccess(elapsedMs);
+            circuitBreaker.onSuccess(elapsedMs);
+            return result;
+        } catch (TimeoutException e) {
+            long elapsedMs = elapsedMs(startedAt);
+            latencyTracker.recordTimeout(elapsedMs);
+            circuitBreaker.onFailure();
+            log.warn("Groq API 응답 기한 초과: {}ms", elapsedMs);
         } catch (Exception e) {
-            log.error("Groq API 호출 실패", e);
+            latencyTracker.recordFailure(elapsedMs(startedAt));
+            circuitBreaker.onFailure();
+            log.error("Groq API 호출 실패", e instanceof ExecutionException ? e.getCause() : e);
         }
 
-        return AiJudgment.fallback();
+        return fallback.get();
     }
 
-    private AiJudgment parseContent(String content) {
+    /**
+     * 첫 요청이 p95 지연 안에 오지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 씁니다.
+     * 두 요청이 모두 실패해야 실패로 봅니다.
+     * 헤지 요청도 공급자 할당량을 쓰므로 토큰 버킷에서 토큰을 얻을 수 있을 때만 보냅니다 (기다리지 않음).
+     * 승자가 정해지거나 기한이 지나면 남은 요청은 연결을 끊어, 응답을 끝까지 기다리며 자원을 잡지 않게 합니다.
+     */
+    private <T> T callWithHedge(Supplier<Attempt<T>> call, long deadlineMs) throws Exception {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        List<Attempt<T>> attempts = new CopyOnWriteArrayList<>();
+
+        Attempt<T> primary = call.get();
+        attempts.add(primary);
+        primary.result().whenComplete((result, error) -> complete(winner, pending, result, error));
+
+        long hedgeDelayMs = latencyTracker.hedgeDelayMs();
+        if (resilienceProperties.hedgeEnabled() && hedgeDelayMs < deadlineMs) {
+            CompletableFuture.delayedExecutor(hedgeDelayMs, TimeUnit.MILLISECONDS, callExecutor).execute(() -> {
+                pending.incrementAndGet();
+                if (winner.isDone()) return;
+                if (rateLimiter.tryAcquire() > 0) {
+                    meterRegistry.counter("groq.judge.hedge.skipped").increment();
+                    complete(winner, pending, null, new IllegalStateException("헤지 요청 토큰 없음"));
+                    return;
+                }
+
+                log.info("Groq 응답 지연 {}ms 초과, 헤지 요청 전송", hedgeDelayMs);
+                meterRegistry.counter("groq.judge.hedged").increment();
+                Attempt<T> hedge = call.get();
+                attempts.add(hedge);
+                // finally 에서 요청들을 끊은 뒤에 추가됐을 수 있음
+                if (winner.isDone()) hedge.abort();
+                hedge.result().whenComplete((result, error) -> complete(winner, pending, result, error));
+            });
+        }
+
         try {
-            int start = content.indexOf("{");
-            int end = content.lastIndexOf("}");
-            if (start != -1 && end != -1) {
-                String jsonStr = content.substring(start, end + 1);
-                JsonNode root = objectMapper.readTree(jsonStr);
-                return new AiJudgment(
-                        root.path("score").asInt(),
-                        root.path("reason").asText()
-                );
+            return winner.get(deadlineMs, TimeUnit.MILLISECONDS);
+        } finally {
+            winner.cancel(false);
+            attempts.forEach(Attempt::abort);
+        }
+    }
+
+    private <T> void complete(CompletableFuture<T> winner, AtomicInteger pending, T result, Throwable error) {
+        if (error == null) {
+            winner.complete(result);
+        } else if (pending.decrementAndGet() == 0) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 미리 만든 요청 본문을 그대로 보내고, 응답은 스트리밍으로 읽습니다.
+     * 응답 헤더를 기다리는 시간도 기한으로 제한해, 끊지 못한 요청이 남아도 기한 뒤에는 정리되게 합니다.
+     */
+    private <T> Attempt<T> send(byte[] body, Duration deadline, BodyReader<T> reader) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl))
+                .timeout(deadline)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+        return new Attempt<>(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()), reader, callExecutor);
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 묶음 응답에서 빠지거나 형식이 잘못된 항목을 대체 응답으로 채웁니다.
+     */
+    private List<AiJudgment> fillMissing(AiJudgment[] parsed) {
+        List<AiJudgment> judgments = new ArrayList<>(parsed.length);
+        int missing = 0;
+        for (AiJudgment judgment : parsed) {
+            if (judgment == null) missing++;
+            judgments.add(judgment != null ? judgment : AiJudgment.fallback());
+        }
+
+        if (missing > 0) {
+            log.warn("AI 묶음 응답 일부 누락: {}/{}", missing, parsed.length);
+            meterRegistry.counter("groq.batch.missing").increment(missing);
+        }
+        return judgments;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    /**
+     * 보낸 요청 하나. abort 하면 응답 대기 중이면 요청을 취소하고, 본문을 읽는 중이면 스트림을 닫아 연결을 끊습니다.
+     * (CompletableFuture.cancel 만으로는 진행 중인 HTTP 호출이 멈추지 않음)
+     */
+    private static final class Attempt<T> {
+
+        private final CompletableFuture<HttpResponse<InputStream>> response;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile boolean aborted;
+        private volatile InputStream body;
+        private volatile Thread readerThread;
+
+        Attempt(CompletableFuture<HttpResponse<InputStream>> response, BodyReader<T> reader, Executor executor) {
+            this.response = response;
+            response.whenComplete((res, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    executor.execute(() -> read(res, reader));
+                }
+            });
+        }
+
+        CompletableFuture<T> result() {
+            return result;
+        }
+
+        private void read(HttpResponse<InputStream> res, BodyReader<T> reader) {
+            try (InputStream in = res.body()) {
+                body = in;
+                readerThread = Thread.currentThread();
+                if (aborted) throw new CancellationException("Groq 요청 취소됨");
+                if (res.statusCode() / 100 != 2) {
+                    throw new IllegalStateException("Groq API 응답 오류: status=" + res.statusCode());
+                }
+
+                T value = reader.read(in);
+                if (value == null) throw new IllegalStateException("Groq API 응답 없음");
+                result.complete(value);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                readerThread = null;
+            }
+        }
+
+        void abort() {
+            aborted = true;
+            response.cancel(true);
+
+            // 본문을 읽다 막혀 있는 스레드를 깨우고 연결을 닫음 (이미 끝난 요청이면 영향 없음)
+            Thread thread = readerThread;
+            if (thread != null) thread.interrupt();
+            InputStream in = body;
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
             }
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 실패: content={}", content, e);
         }
-        return AiJudgment.fallback();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.copyleft.GodsChoice.game.infra;
+
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Groq 호출용 서킷 브레이커
+ * 최근 N건의 결과 중 실패율이나 느린 호출 비율이 기준을 넘으면 열려서, 일정 시간 동안 호출 없이 바로 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class GroqCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final byte OK = 0;
+    private static final byte SLOW = 1;
+    private static final byte FAILED = 2;
+
+    private final GroqResilienceProperties properties;
+    private final Counter rejectedCounter;
+
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenIssued;
+    private int halfOpenSucceeded;
+
+    public GroqCircuitBreaker(GroqResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.outcomes = new byte[Math.max(1, properties.breakerWindowSize())];
+        this.rejectedCounter = meterRegistry.counter("groq.breaker.rejected");
+
+        Gauge.builder("groq.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출해도 되는지 확인합니다. false면 호출하지 말고 바로 대체 응답을 써야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= properties.breakerOpenMs()) {
+            transitionTo(State.HALF_OPEN);
+        }
+
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> halfOpenIssued++ < properties.breakerHalfOpenCalls();
+        };
+
+        if (!permitted) {
+            rejectedCounter.increment();
+        }
+        return permitted;
+    }
+
+    public synchronized void onSuccess(long elapsedMs) {
+        record(elapsedMs >= properties.breakerSlowCallMs() ? SLOW : OK);
+    }
+
+    public synchronized void onFailure() {
+        record(FAILED);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(byte outcome) {
+        if (state == State.HALF_OPEN) {
+            if (outcome != OK) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= properties.breakerHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) return;
+
+        outcomes[next] = outcome;
+        next = (next + 1) % outcomes.length;
+        recorded = Math.min(recorded + 1, outcomes.length);
+
+        if (recorded < properties.breakerMinCalls()) return;
+
+        int failed = 0;
+        int slow = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (outcomes[i] == FAILED) failed++;
+            else if (outcomes[i] == SLOW) slow++;
+        }
+
+        if ((double) failed / recorded >= properties.breakerFailureRate()
+                || (double) slow / recorded >= properties.breakerSlowCallRate()) {
+            log.warn("Groq 서킷 브레이커 OPEN: failed={}, slow={}, calls={}", failed, slow, recorded);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        log.info("Groq 서킷 브레이커 상태 변경: {} -> {}", state, target);
+        state = target;
+        switch (target) {
+            case OPEN -> openedAt = System.currentTimeMillis();
+            case HALF_OPEN -> {
+                halfOpenIssued = 0;
+                halfOpenSucceeded = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.copyleft.GodsChoice.game.infra;
+
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groq 응답 지연 기록
+ * 결과별 지연 히스토그램(groq.judge.latency)을 내보내고, 최근 성공 응답으로 헤지 요청 기준(p95)을 계산합니다.
+ */
+@Component
+public class GroqLatencyTracker {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final GroqResilienceProperties properties;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer timeoutTimer;
+
+    private final long[] window;
+    private int next;
+    private int recorded;
+
+    public GroqLatencyTracker(GroqResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.window = new long[Math.max(1, properties.latencyWindowSize())];
+        this.successTimer = timer(meterRegistry, "success");
+        this.failureTimer = timer(meterRegistry, "failure");
+        this.timeoutTimer = timer(meterRegistry, "timeout");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("groq.judge.latency")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordSuccess(long elapsedMs) {
+        successTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+        synchronized (window) {
+            window[next] = elapsedMs;
+            next = (next + 1) % window.length;
+            recorded = Math.min(recorded + 1, window.length);
+        }
+    }
+
+    public void recordFailure(long elapsedMs) {
+        failureTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordTimeout(long elapsedMs) {
+        timeoutTimer.record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다릴 시간 (최근 성공 응답의 p95, 최소 hedgeMinDelayMs)
+     */
+    public long hedgeDelayMs() {
+        long[] samples;
+        synchronized (window) {
+            if (recorded < MIN_SAMPLES) return properties.hedgeMinDelayMs();
+            samples = Arrays.copyOf(window, recorded);
+        }
+        Arrays.sort(samples);
+        long p95 = samples[(int) Math.ceil(samples.length * 0.95) - 1];
+        return Math.max(properties.hedgeMinDelayMs(), p95);
+    }
+}
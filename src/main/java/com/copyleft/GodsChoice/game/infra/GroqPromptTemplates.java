@@ -0,0 +1,244 @@
+package com.copyleft.GodsChoice.game.infra;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.game.infra.dto.GroqRequest;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 심판 요청 본문 템플릿
+ * (성향, 신탁) 조합마다 요청 JSON을 문장 자리 앞뒤로 잘라 UTF-8 바이트로 미리 만들어 두고,
+ * 호출 시에는 JSON 이스케이프한 문장만 끼워 넣습니다.
+ * 묶음 요청도 같은 방식: 본문은 항목 자리 앞뒤로, 항목 한 줄은 (성향, 신탁)마다 번호와 문장 자리를 빼고 미리 만들어 둡니다.
+ */
+@Component
+public class GroqPromptTemplates {
+
+    private static final String SENTENCE_SLOT = "{{sentence}}";
+
+    private static final String SYSTEM_MESSAGE =
+            "You are a god in a game. Act according to your personality. Response strictly in JSON format.";
+
+    private static final String JUDGE_PROMPT = """
+            ### Role
+            You are a mysterious god with a unique **Aesthetic Philosophy**: ['%s'].
+            **Crucial:** Humans do not know your identity. You must judge based on your philosophy, but **hide your true name**.
+            
+            ### Context
+            1. Oracle: "%s"
+            2. Human Sentence: "%s" (Structure: [Subject] [Target] [How] [Action])
+            
+            ### Judging Process
+            1. **Twist the Oracle**: Interpret the Oracle through your philosophy.
+               - (e.g., If you like 'Chaos' and Oracle is 'Order', maybe 'Order' means 'A perfect mess'.)
+            2. **Evaluate**: Does the sentence satisfy your twisted taste?
+               - Don't just look for logic. Look for 'Flavor' that matches your philosophy.
+            3. **Critique (Output)**: Write a short, cynical, or profound comment in Korean.
+               - **%s** (Forbidden Word Rule)
+               - Don't explain like a teacher. Mumble like an arrogant judge.
+            
+            ### Constraints
+            1. JSON Output: {"score": -100~100, "reason": "Korean string under 60 chars"}
+            2. **Subtlety is Key**: Do not say "I am angry" or "I like pranks". 
+               - Instead of "Funny prank!", say "Predictability is boring. This twist pleases me."
+               - Instead of "I am angry!", say "Weakness disgusts me. Show me more power."
+            
+            ### Examples (Study the Nuance)
+            
+            Q. Philo: Destruction / Oracle: Vitality / Sentence: "The King scattered gold"
+            A. {"score": -40, "reason": "차가운 금붙이에 맥박이 뛰더냐? 나약한 기만이 역겹구나."}
+            (Hint: Dislikes weak things, prefers power. Doesn't say "I am Angry".)
+            
+            Q. Philo: Chaos & Fun / Oracle: Order / Sentence: "The developer wrote messy code"
+            A. {"score": 90, "reason": "숨 막히는 규칙을 깨부수는 그 엉망진창인 파격... 아주 훌륭해."}
+            (Hint: Likes breaking rules. Doesn't say "It's a prank".)
+            
+            Q. Philo: Pain & Reality / Oracle: Love / Sentence: "The sky ate poop deliciously"
+            A. {"score": 60, "reason": "살기 위해 오물을 삼키는 그 처절함... 그것이 진실된 애정이지."}
+            (Hint: Finds beauty in suffering. Doesn't say "I am Cruel".)
+            
+            Q. Philo: Growth & Warmth / Oracle: Silence / Sentence: "A bird screamed loudly"
+            A. {"score": -20, "reason": "너무 소란스럽구나. 때로는 멈춰서 품어주는 고요함이 필요한 법."}
+            (Hint: Values gentle growth. Doesn't say "I am Generous".)
+            """;
+
+    private static final String ITEMS_SLOT = "{{items}}";
+
+    private static final String BATCH_SYSTEM_MESSAGE =
+            "You are gods in a game. Judge each item by its own personality. Response strictly as a JSON array.";
+
+    private static final String BATCH_PROMPT = """
+            ### Role
+            You are several mysterious gods, each with a unique **Aesthetic Philosophy**.
+            **Crucial:** Humans do not know your identities. Judge each item only by its own philosophy, and **hide your true names**.
+            
+            ### Items (Sentence Structure: [Subject] [Target] [How] [Action])
+            %s
+            ### Judging Process (for each item independently)
+            1. **Twist the Oracle**: Interpret the Oracle through that item's philosophy.
+            2. **Evaluate**: Does the sentence satisfy that twisted taste? Look for 'Flavor', not logic.
+            3. **Critique**: Write a short, cynical, or profound comment in Korean.
+               - Do NOT use the item's Forbidden word or its synonyms in the reason.
+               - Don't explain like a teacher. Mumble like an arrogant judge.
+            
+            ### Constraints
+            1. JSON Output: an array with exactly one object per item, in any order.
+               [{"id": <item number>, "score": -100~100, "reason": "Korean string under 60 chars"}]
+            2. **Subtlety is Key**: Never state the philosophy directly.
+            
+            ### Example
+            Q. 0. Philosophy: ['Destruction'] / Oracle: "Vitality" / Sentence: "The King scattered gold"
+            A. [{"id": 0, "score": -40, "reason": "차가운 금붙이에 맥박이 뛰더냐? 나약한 기만이 역겹구나."}]
+            """;
+
+    // 항목 한 줄: "{번호}. Philosophy: ... / Sentence: \"{문장}\" / Forbidden word: ..." 중 번호와 문장을 뺀 부분
+    private static final String BATCH_ITEM_HEAD = ". Philosophy: ['%s'] / Oracle: \"%s\" / Sentence: \"";
+    private static final String BATCH_ITEM_TAIL = "\" / Forbidden word: '%s'\n";
+
+    private record Template(byte[] head, byte[] tail) {}
+
+    private final Template[][] templates = new Template[GodPersonality.values().length][Oracle.values().length];
+    private final Template[][] batchItems = new Template[GodPersonality.values().length][Oracle.values().length];
+    private final Template batchTemplate;
+    private final boolean stream;
+
+    public GroqPromptTemplates(ObjectMapper objectMapper,
+                               @Value("${app.groq.model}") String model,
+                               @Value("${app.groq.stream:false}") boolean stream) {
+        this.stream = stream;
+        for (GodPersonality personality : GodPersonality.values()) {
+            for (Oracle oracle : Oracle.values()) {
+                templates[personality.ordinal()][oracle.ordinal()] = compile(objectMapper, model, personality, oracle);
+                batchItems[personality.ordinal()][oracle.ordinal()] = compileBatchItem(personality, oracle);
+            }
+        }
+        this.batchTemplate = compileBatch(objectMapper, model);
+    }
+
+    /**
+     * 요청 본문(JSON)을 바이트로 만듭니다.
+     */
+    public byte[] render(String sentence, GodPersonality personality, Oracle oracle) {
+        Template template = templates[personality.ordinal()][oracle.ordinal()];
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(sentence);
+
+        byte[] body = Arrays.copyOf(template.head(), template.head().length + escaped.length + template.tail().length);
+        System.arraycopy(escaped, 0, body, template.head().length, escaped.length);
+        System.arraycopy(template.tail(), 0, body, template.head().length + escaped.length, template.tail().length);
+        return body;
+    }
+
+    /**
+     * 묶음 요청 본문(JSON)을 바이트로 만듭니다. 항목 번호는 요청 순서 (응답의 id 와 맞춰 봄)
+     * 묶음 응답은 배열을 다 받아야 쓸 수 있어 스트림 모드와 관계없이 일반 응답으로 받습니다.
+     */
+    public byte[] renderBatch(List<JudgeRequest> requests) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(
+                batchTemplate.head().length + batchTemplate.tail().length + requests.size() * 512);
+        body.writeBytes(batchTemplate.head());
+
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        for (int i = 0; i < requests.size(); i++) {
+            JudgeRequest request = requests.get(i);
+            Template item = batchItems[request.personality().ordinal()][request.oracle().ordinal()];
+            body.writeBytes(Integer.toString(i).getBytes(StandardCharsets.US_ASCII));
+            body.writeBytes(item.head());
+            body.writeBytes(encoder.quoteAsUTF8(request.sentence()));
+            body.writeBytes(item.tail());
+        }
+
+        body.writeBytes(batchTemplate.tail());
+        return body.toByteArray();
+    }
+
+    /**
+     * SSE 스트림 모드 여부 (응답을 읽는 방식도 달라짐)
+     */
+    public boolean isStream() {
+        return stream;
+    }
+
+    // JSON 문자열 안에 들어갈 조각이라 미리 이스케이프해 둠
+    private static Template compileBatchItem(GodPersonality personality, Oracle oracle) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        String head = String.format(BATCH_ITEM_HEAD, personality.getKeyword(), oracle.getMessage());
+        String tail = String.format(BATCH_ITEM_TAIL, personality.getDisplayName().split(" ")[0]);
+        return new Template(encoder.quoteAsUTF8(head), encoder.quoteAsUTF8(tail));
+    }
+
+    private static Template compileBatch(ObjectMapper objectMapper, String model) {
+        GroqRequest request = GroqRequest.builder()
+                .model(model)
+                .temperature(0.4)
+                .messages(List.of(
+                        GroqRequest.Message.builder()
+                                .role("system")
+                                .content(BATCH_SYSTEM_MESSAGE)
+                                .build(),
+                        GroqRequest.Message.builder()
+                                .role("user")
+                                .content(String.format(BATCH_PROMPT, ITEMS_SLOT))
+                                .build()
+                ))
+                .build();
+
+        try {
+            return split(objectMapper.writeValueAsString(request), ITEMS_SLOT);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("묶음 프롬프트 템플릿 생성 실패", e);
+        }
+    }
+
+    private static Template split(String body, String slot) {
+        int index = body.indexOf(slot);
+        return new Template(
+                body.substring(0, index).getBytes(StandardCharsets.UTF_8),
+                body.substring(index + slot.length()).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private Template compile(ObjectMapper objectMapper, String model, GodPersonality personality, Oracle oracle) {
+        String godKeyword = personality.getKeyword(); // 예: "파괴와 엄격한 심판"
+        String godName = personality.getDisplayName();// 예: "분노한", "장난꾸러기 같은"
+        String oracleMsg = oracle.getMessage();       // 예: "메마른 대지에 활력을..."
+
+        String forbiddenWordRule = String.format(
+                "Do NOT use the word '%s' or its synonyms directly in the reason.",
+                godName.split(" ")[0]
+        );
+
+        String prompt = String.format(JUDGE_PROMPT, godKeyword, oracleMsg, SENTENCE_SLOT, forbiddenWordRule);
+
+        GroqRequest request = GroqRequest.builder()
+                .model(model)
+                .temperature(0.4)
+                .stream(stream ? Boolean.TRUE : null)
+                .messages(List.of(
+                        GroqRequest.Message.builder()
+                                .role("system")
+                                .content(SYSTEM_MESSAGE)
+                                .build(),
+                        GroqRequest.Message.builder()
+                                .role("user")
+                                .content(prompt)
+                                .build()
+                ))
+                .build();
+
+        try {
+            return split(objectMapper.writeValueAsString(request), SENTENCE_SLOT);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프롬프트 템플릿 생성 실패: " + personality + "/" + oracle, e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.copyleft.GodsChoice.game.infra;
+
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Groq 응답 읽기
+ * 응답 전체를 트리로 만들지 않고 토큰 단위로 읽어, score와 reason이 나오는 즉시 판정을 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class GroqResponseReader {
+
+    private static final String SSE_DATA = "data:";
+    private static final String SSE_DONE = "[DONE]";
+
+    private final JsonFactory jsonFactory;
+
+    public GroqResponseReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 일반 응답: choices[0].message.content 를 찾으면 나머지(usage 등)는 읽지 않습니다.
+     */
+    public AiJudgment readCompletion(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            String content = findContent(parser, "message");
+            if (content == null) {
+                throw new IllegalStateException("Groq API 응답 구조 이상 (content 없음)");
+            }
+            log.info("AI 응답 원본: {}", content);
+
+            VerdictParser verdict = new VerdictParser(jsonFactory);
+            verdict.feed(content);
+            return verdict.result();
+        }
+    }
+
+    /**
+     * 일반 응답의 choices[0].message.content 원문 (묶음 심판처럼 판정 형식이 다른 응답용)
+     */
+    public String readContent(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            String content = findContent(parser, "message");
+            if (content == null) {
+                throw new IllegalStateException("Groq API 응답 구조 이상 (content 없음)");
+            }
+            log.info("AI 응답 원본: {}", content);
+            return content;
+        }
+    }
+
+    /**
+     * 묶음 응답: content 안의 JSON 배열을 트리로 만들지 않고 항목 단위로 읽습니다.
+     * 배열 자체를 읽을 수 없으면 예외, 항목이 빠지거나 형식이 잘못됐으면 그 자리만 null 입니다.
+     * @return 요청 순서대로의 판정 (id 가 요청 번호)
+     */
+    public AiJudgment[] readBatch(InputStream body, int size) throws IOException {
+        String content = readContent(body);
+        int start = content.indexOf('[');
+        if (start == -1) {
+            throw new IllegalStateException("AI 묶음 응답에 배열이 없음: " + content);
+        }
+
+        AiJudgment[] judgments = new AiJudgment[size];
+        try (JsonParser parser = jsonFactory.createParser(new StringReader(content.substring(start)))) {
+            parser.nextToken();
+            JsonToken token;
+            // 배열이 끝나면 뒤에 붙은 말은 읽지 않음
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) throw new EOFException("AI 묶음 응답 배열이 끝나지 않음");
+                if (token == JsonToken.START_OBJECT) {
+                    readBatchItem(parser, judgments);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("AI 묶음 응답 파싱 실패: " + content, e);
+        }
+        return judgments;
+    }
+
+    private static void readBatchItem(JsonParser parser, AiJudgment[] judgments) throws IOException {
+        int id = -1;
+        Integer score = null;
+        String reason = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsInt(-1);
+                case "score" -> score = value.isNumeric() ? parser.getValueAsInt() : null;
+                case "reason" -> reason = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                default -> { }
+            }
+            parser.skipChildren();
+        }
+
+        if (id >= 0 && id < judgments.length && judgments[id] == null && score != null && reason != null) {
+            judgments[id] = new AiJudgment(score, reason);
+        }
+    }
+
+    /**
+     * SSE 스트림 응답: delta.content 조각을 이어서 읽다가 score와 reason이 모두 나오면 스트림을 끊습니다.
+     */
+    public AiJudgment readStream(InputStream body) throws IOException {
+        VerdictParser verdict = new VerdictParser(jsonFactory);
+        boolean received = false;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.startsWith(SSE_DATA)) continue;
+
+            String data = line.substring(SSE_DATA.length()).trim();
+            if (data.equals(SSE_DONE)) break;
+
+            try (JsonParser parser = jsonFactory.createParser(data)) {
+                String chunk = findContent(parser, "delta");
+                if (chunk == null) continue;
+
+                received = true;
+                verdict.feed(chunk);
+            }
+
+            if (verdict.isComplete()) {
+                // 남은 스트림을 끝까지 읽지 않도록 먼저 닫음 (닫지 않으면 응답 정리 시 전부 읽어 버림)
+                body.close();
+                break;
+            }
+        }
+
+        if (!received) {
+            throw new IllegalStateException("Groq API 스트림 응답에 content 없음");
+        }
+        return verdict.result();
+    }
+
+    /**
+     * choices[0].{container}.content 문자열을 찾습니다.
+     */
+    private static String findContent(JsonParser parser, String container) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token != JsonToken.FIELD_NAME || !"content".equals(parser.currentName())) continue;
+
+            JsonStreamContext parent = parser.getParsingContext().getParent();
+            if (parent != null && container.equals(parent.getCurrentName())) {
+                return parser.nextToken() == JsonToken.VALUE_STRING ? parser.getText() : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * content 안의 {"score": .., "reason": ..} 를 조각 단위로 읽는 비동기 파서
+     * 모델이 JSON 앞에 다른 말을 붙이는 경우가 있어, 첫 '{' 전까지는 버립니다.
+     */
+    private static final class VerdictParser {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private boolean started;
+        private boolean failed;
+        private int depth;
+        private String pendingField;
+        private Integer score;
+        private String reason;
+
+        VerdictParser(JsonFactory jsonFactory) throws IOException {
+            this.parser = jsonFactory.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        void feed(String chunk) {
+            if (failed || isComplete()) return;
+
+            if (!started) {
+                int start = chunk.indexOf('{');
+                if (start == -1) return;
+                chunk = chunk.substring(start);
+                started = true;
+            }
+
+            try {
+                byte[] bytes = chunk.getBytes(StandardCharsets.UTF_8);
+                feeder.feedInput(bytes, 0, bytes.length);
+
+                JsonToken token;
+                while (!isComplete() && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+                    read(token);
+                }
+            } catch (IOException e) {
+                log.error("AI 응답 파싱 실패: chunk={}", chunk, e);
+                failed = true;
+            }
+        }
+
+        private void read(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> depth++;
+                case END_OBJECT, END_ARRAY -> depth--;
+                case FIELD_NAME -> pendingField = (depth == 1) ? parser.currentName() : null;
+                default -> {
+                    if (depth != 1) return;
+                    if ("score".equals(pendingField) && (token.isNumeric() || token == JsonToken.VALUE_STRING)) {
+                        score = parser.getValueAsInt(0);
+                    } else if ("reason".equals(pendingField) && token == JsonToken.VALUE_STRING) {
+                        reason = parser.getText();
+                    }
+                    pendingField = null;
+                }
+            }
+        }
+
+        boolean isComplete() {
+            return score != null && reason != null;
+        }
+
+        AiJudgment result() {
+            return isComplete() ? new AiJudgment(score, reason) : AiJudgment.fallback();
+        }
+    }
+}
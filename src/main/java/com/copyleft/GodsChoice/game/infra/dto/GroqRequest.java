@@ -1,5 +1,6 @@
 package com.copyleft.GodsChoice.game.infra.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -14,6 +15,9 @@ public class GroqRequest {
     @Builder.Default
     private Double temperature = 0.5;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+
     @Getter
     @Builder
     public static class Message {
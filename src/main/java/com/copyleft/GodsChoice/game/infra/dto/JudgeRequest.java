@@ -0,0 +1,9 @@
+package com.copyleft.GodsChoice.game.infra.dto;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+
+/**
+ * 심판할 문장 한 건 (묶음 요청의 한 항목)
+ */
+public record JudgeRequest(String sentence, GodPersonality personality, Oracle oracle) {}
@@ -0,0 +1,237 @@
+package com.copyleft.GodsChoice.game.infra.stub;
+
+import com.copyleft.GodsChoice.global.config.GroqStubProperties;
+import com.copyleft.GodsChoice.global.config.GroqStubProperties.Verdict;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI/Groq 호환 chat-completions 스텁 서버
+ * groq-stub 프로필에서 함께 떠서 app.groq.url 이 이 서버를 가리키게 하면, 네트워크나 토큰 없이 심판 경로 전체를 부하 시험할 수 있습니다.
+ * 지연 분포, 500/429 비율, 돌려줄 판정을 설정할 수 있고, stream 요청(SSE)과 묶음 요청(JSON 배열)도 흉내 냅니다.
+ */
+@Slf4j
+@Component
+@Profile("groq-stub")
+public class GroqStubServer {
+
+    public static final String PATH = "/openai/v1/chat/completions";
+
+    private static final double Z_99 = 2.326;
+    private static final Pattern BATCH_ITEM = Pattern.compile("(?m)^(\\d+)\\. Philosophy:");
+    private static final List<Verdict> DEFAULT_VERDICTS = List.of(
+            new Verdict(40, "나쁘지 않구나. 조금은 마음에 드는군."),
+            new Verdict(-30, "이 정도로는 내 눈에 차지 않는다."),
+            new Verdict(80, "훌륭하다. 바로 그것이 내가 바라던 것이지."),
+            new Verdict(-70, "어리석구나. 다시는 이런 것을 바치지 마라.")
+    );
+
+    private final GroqStubProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<Verdict> verdicts;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+
+    private HttpServer server;
+
+    public GroqStubServer(GroqStubProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.verdicts = (properties.verdicts() == null || properties.verdicts().isEmpty())
+                ? DEFAULT_VERDICTS
+                : List.copyOf(properties.verdicts());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", properties.port()), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        log.info("Groq 스텁 서버 시작: http://127.0.0.1:{}{}", getPort(), PATH);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + getPort() + PATH;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+
+            Thread.sleep(sampleLatencyMs());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < properties.rateLimitRate()) {
+                rateLimitedCount.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, error("rate_limit_exceeded", "Rate limit reached (stub)"));
+                return;
+            }
+            if (roll < properties.rateLimitRate() + properties.errorRate()) {
+                errorCount.incrementAndGet();
+                respond(exchange, 500, error("internal_error", "Injected failure (stub)"));
+                return;
+            }
+
+            String content = content(request);
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, request, content);
+            } else {
+                respond(exchange, 200, completion(request, content));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Groq 스텁 요청 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private long sampleLatencyMs() {
+        long median = Math.max(0, properties.latencyMedianMs());
+        if (median == 0 || properties.latency() == null) return median;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (properties.latency()) {
+            case FIXED -> median;
+            case EXPONENTIAL -> (long) (-Math.log(1 - random.nextDouble()) * median / Math.log(2));
+            case LOG_NORMAL -> {
+                double mu = Math.log(median);
+                double sigma = Math.max(0, Math.log(Math.max(median, properties.latencyP99Ms())) - mu) / Z_99;
+                yield (long) Math.exp(mu + sigma * random.nextGaussian());
+            }
+        };
+    }
+
+    /**
+     * 묶음 요청(항목 번호가 붙은 프롬프트)이면 항목마다 판정을 담은 배열, 아니면 판정 하나
+     */
+    private String content(JsonNode request) throws IOException {
+        String prompt = "";
+        for (JsonNode message : request.path("messages")) {
+            if ("user".equals(message.path("role").asText())) {
+                prompt = message.path("content").asText();
+            }
+        }
+
+        Matcher matcher = BATCH_ITEM.matcher(prompt);
+        if (!matcher.find()) {
+            return objectMapper.writeValueAsString(verdict(null));
+        }
+
+        ArrayNode items = objectMapper.createArrayNode();
+        do {
+            items.add(verdict(Integer.parseInt(matcher.group(1))));
+        } while (matcher.find());
+        return objectMapper.writeValueAsString(items);
+    }
+
+    private ObjectNode verdict(Integer id) {
+        Verdict verdict = verdicts.get(ThreadLocalRandom.current().nextInt(verdicts.size()));
+        ObjectNode node = objectMapper.createObjectNode();
+        if (id != null) node.put("id", id);
+        node.put("score", verdict.score());
+        node.put("reason", verdict.reason());
+        return node;
+    }
+
+    private byte[] completion(JsonNode request, String content) throws IOException {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-stub-" + requestCount.get());
+        response.put("object", "chat.completion");
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("model", request.path("model").asText());
+
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+
+        ObjectNode usage = response.putObject("usage");
+        usage.put("prompt_tokens", 0);
+        usage.put("completion_tokens", 0);
+        usage.put("total_tokens", 0);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * 내용을 몇 조각으로 나눠 SSE(data: ...) 로 보냅니다.
+     */
+    private void stream(HttpExchange exchange, JsonNode request, String content) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        OutputStream out = exchange.getResponseBody();
+        int step = Math.max(1, content.length() / 4);
+        for (int i = 0; i < content.length(); i += step) {
+            ObjectNode chunk = objectMapper.createObjectNode();
+            chunk.put("object", "chat.completion.chunk");
+            chunk.put("model", request.path("model").asText());
+            chunk.putArray("choices").addObject()
+                    .put("index", 0)
+                    .putObject("delta").put("content", content.substring(i, Math.min(content.length(), i + step)));
+
+            out.write(("data: " + objectMapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] error(String code, String message) throws IOException {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("error").put("message", message).put("type", code).put("code", code);
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+}
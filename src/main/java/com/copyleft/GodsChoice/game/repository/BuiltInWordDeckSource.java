@@ -0,0 +1,31 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.type.WordData;
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// WordData enum에 들어 있는 기본 덱
+@Order(0)
+@Component
+public class BuiltInWordDeckSource implements WordDeckSource {
+
+    @Override
+    public List<WordDeck> load() {
+        Map<SlotType, List<String>> words = new EnumMap<>(SlotType.class);
+        for (SlotType slotType : SlotType.values()) {
+            words.put(slotType, WordData.of(slotType).getWords());
+        }
+        return List.of(WordDeck.of(WordDeck.DEFAULT_NAME, WordDeck.DEFAULT_THEME, words));
+    }
+
+    @Override
+    public String fingerprint() {
+        return "built-in";
+    }
+}
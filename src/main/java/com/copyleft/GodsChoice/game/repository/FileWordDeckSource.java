@@ -0,0 +1,84 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+import com.copyleft.GodsChoice.global.config.DeckProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * app.deck.path 디렉터리의 *.json 덱 파일
+ * 형식: {"name": "halloween", "theme": "season", "words": {"SUBJECT": [...], "TARGET": [...], "HOW": [...], "ACTION": [...]}}
+ */
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class FileWordDeckSource implements WordDeckSource {
+
+    private final DeckProperties deckProperties;
+    private final ObjectMapper objectMapper;
+
+    private record DeckFile(String name, String theme, Map<SlotType, List<String>> words) {}
+
+    @Override
+    public List<WordDeck> load() {
+        List<WordDeck> decks = new ArrayList<>();
+        for (Path file : listDeckFiles()) {
+            try {
+                DeckFile deckFile = objectMapper.readValue(file.toFile(), DeckFile.class);
+                String name = StringUtils.hasText(deckFile.name())
+                        ? deckFile.name()
+                        : file.getFileName().toString().replace(".json", "");
+                decks.add(WordDeck.of(name, deckFile.theme(), deckFile.words() == null ? Map.of() : deckFile.words()));
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("덱 파일 로드 실패, 건너뜀: file={}, msg={}", file, e.getMessage());
+            }
+        }
+        return decks;
+    }
+
+    @Override
+    public String fingerprint() {
+        StringBuilder sb = new StringBuilder();
+        for (Path file : listDeckFiles()) {
+            try {
+                sb.append(file.getFileName()).append(':')
+                        .append(Files.getLastModifiedTime(file).toMillis()).append(':')
+                        .append(Files.size(file)).append(';');
+            } catch (IOException e) {
+                sb.append(file.getFileName()).append(":?;");
+            }
+        }
+        return sb.toString();
+    }
+
+    private List<Path> listDeckFiles() {
+        if (!StringUtils.hasText(deckProperties.path())) return Collections.emptyList();
+
+        Path dir = Path.of(deckProperties.path());
+        if (!Files.isDirectory(dir)) return Collections.emptyList();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".json"))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("덱 디렉터리 조회 실패: path={}", dir, e);
+            return Collections.emptyList();
+        }
+    }
+}
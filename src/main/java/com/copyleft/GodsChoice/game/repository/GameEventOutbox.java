@@ -0,0 +1,105 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 이벤트 outbox (샤드별 Redis List)
+ * 쓰기는 RoomRepository.saveRoom(room, event) 가 방 저장과 같은 Lua 스크립트 안에서 방과 같은 샤드에 하고,
+ * 여기서는 GameEventRelay 가 샤드마다 앞에서부터 읽고 Kafka ack 를 받은 만큼 지웁니다.
+ * 한 방의 이벤트는 항상 같은 샤드에 쌓이므로 샤드 안의 순서만 지키면 방 단위 순서가 유지됩니다.
+ * 보내지 않은 이벤트를 잃지 않도록 길이 제한으로 자르지 않습니다 (길어지면 GameEventRelay 가 경보).
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameEventOutbox {
+
+    // 앞쪽이 읽어 간 이벤트 그대로일 때만 지움 (다른 노드의 relay 가 이미 지웠거나 바뀌었으면 그대로 둠)
+    private static final RedisScript<Long> REMOVE_IF_HEAD = new DefaultRedisScript<>("""
+            local count = tonumber(ARGV[1])
+            if redis.call('LINDEX', KEYS[1], 0) ~= ARGV[2] or redis.call('LINDEX', KEYS[1], count - 1) ~= ARGV[3] then
+              return 0
+            end
+            redis.call('LTRIM', KEYS[1], count, -1)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 모든 샤드의 앞쪽 count 개를 파이프라인 한 번으로 읽습니다.
+     * @return 샤드 번호 → 이벤트 (비어 있는 샤드는 빠짐)
+     */
+    public Map<Integer, List<String>> peekAll(int count) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int shard = 0; shard < RedisKey.ROOM_SHARDS; shard++) {
+                    ops.opsForList().range(key(shard), 0, count - 1);
+                }
+                return null;
+            }
+        });
+
+        Map<Integer, List<String>> events = new LinkedHashMap<>();
+        for (int shard = 0; shard < results.size(); shard++) {
+            if (results.get(shard) instanceof List<?> list && !list.isEmpty()) {
+                @SuppressWarnings("unchecked")
+                List<String> shardEvents = (List<String>) list;
+                events.put(shard, shardEvents);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * peekAll 로 읽은 이벤트를 샤드 앞에서 지웁니다. 앞쪽의 첫/마지막 이벤트가 읽은 것과 같을 때만 지웁니다.
+     * @return 지웠으면 true
+     */
+    public boolean remove(int shard, List<String> events) {
+        if (events.isEmpty()) return true;
+
+        Long removed = redisTemplate.execute(REMOVE_IF_HEAD, List.of(key(shard)),
+                String.valueOf(events.size()), events.getFirst(), events.getLast());
+        return removed != null && removed == 1;
+    }
+
+    /**
+     * 모든 샤드의 남은 이벤트 수 (파이프라인 한 번)
+     */
+    public long size() {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int shard = 0; shard < RedisKey.ROOM_SHARDS; shard++) {
+                    ops.opsForList().size(key(shard));
+                }
+                return null;
+            }
+        });
+
+        long size = 0;
+        for (Object shardSize : results) {
+            if (shardSize instanceof Long length) size += length;
+        }
+        return size;
+    }
+
+    private static String key(int shard) {
+        return RedisKey.GAME_EVENT_OUTBOX.makeShardKey(shard);
+    }
+}
@@ -0,0 +1,312 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
+import com.copyleft.GodsChoice.global.config.ArchiveProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * game_logs 월 단위 아카이브
+ * 보관 기간이 지난 달의 행을 game_logs-YYYY-MM.jsonl.gz 로 옮기고 MySQL 에서 지웁니다.
+ * - 읽기: 전진 전용 스트리밍 커서 (Connector/J 는 fetchSize=Integer.MIN_VALUE 일 때 한 행씩 받음), 결과 전체를 메모리에 올리지 않음
+ * - 파일을 끝까지 쓰고 이름을 바꾼 뒤에만 삭제, 삭제는 batchSize 씩 끊어서 긴 잠금을 피함
+ * - 복원: 파일을 한 줄씩 읽어 INSERT IGNORE 배치 (같은 파일을 두 번 복원해도 중복 없음)
+ *   기동 인자 --restore-game-logs=/path/game_logs-2025-01.jsonl.gz 로 실행
+ * - 통계 재계산(GameStatsRebuildJob)은 forEachArchivedRow 로 아카이브된 행도 함께 셉니다
+ */
+@Slf4j
+@Component
+public class GameLogArchiver implements ApplicationRunner {
+
+    static final String FILE_PREFIX = "game_logs-";
+    static final String FILE_SUFFIX = ".jsonl.gz";
+    private static final String RESTORE_OPTION = "restore-game-logs";
+    private static final String LOCK_KEY = "game_log_archive";
+    private static final long LOCK_LEASE_HOURS = 1;
+
+    private static final String SELECT_MONTH = """
+            SELECT id, room_id, room_title, winner_role, god_personality, final_hp, total_rounds, played_at
+            FROM game_logs WHERE played_at >= ? AND played_at < ? ORDER BY played_at, id
+            """;
+    private static final String DELETE_MONTH = """
+            DELETE FROM game_logs WHERE played_at >= ? AND played_at < ? AND id <= ? LIMIT ?
+            """;
+    private static final String SELECT_MONTH_IDS = """
+            SELECT id FROM game_logs WHERE played_at >= ? AND played_at < ?
+            """;
+    private static final String INSERT_IGNORE = """
+            INSERT IGNORE INTO game_logs (id, room_id, room_title, winner_role, god_personality, final_hp, total_rounds, played_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedissonClient redissonClient;
+    private final ArchiveProperties properties;
+
+    public GameLogArchiver(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                           RedissonClient redissonClient, ArchiveProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues(RESTORE_OPTION);
+        if (files == null) return;
+
+        for (String file : files) {
+            restore(Path.of(file));
+        }
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 4 * * *}")
+    public void archiveExpired() {
+        if (!StringUtils.hasText(properties.path())) return;
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, LOCK_LEASE_HOURS, TimeUnit.HOURS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            YearMonth firstKept = YearMonth.now().minusMonths(Math.max(1, properties.retentionMonths()) - 1L);
+            for (YearMonth month : expiredMonths(firstKept)) {
+                archiveMonth(month);
+            }
+        } catch (Exception e) {
+            log.error("게임 기록 아카이브 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 한 달치 행을 파일로 옮기고 지웁니다.
+     * @return 아카이브 파일, 옮길 행이 없으면 null
+     */
+    public Path archiveMonth(YearMonth month) throws IOException {
+        Path dir = Files.createDirectories(Path.of(properties.path()));
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+        Path temp = dir.resolve(FILE_PREFIX + month + FILE_SUFFIX + ".tmp");
+        long[] stats = new long[2]; // [행 수, 최대 id]
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(SELECT_MONTH, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setTimestamp(1, from);
+                ps.setTimestamp(2, to);
+                return ps;
+            }, (ResultSet rs) -> {
+                GameLogSummary row = toSummary(rs);
+                try {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                stats[0]++;
+                stats[1] = Math.max(stats[1], row.id());
+            });
+        }
+
+        if (stats[0] == 0) {
+            Files.deleteIfExists(temp);
+            return null;
+        }
+
+        // 이전 실행이 파일만 만들고 삭제 전에 죽었으면 같은 달 파일이 이미 있음 → 덮어쓰지 않고 따로 둠
+        Path target = dir.resolve(FILE_PREFIX + month + FILE_SUFFIX);
+        if (Files.exists(target)) {
+            target = dir.resolve(FILE_PREFIX + month + "-" + System.currentTimeMillis() + FILE_SUFFIX);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(DELETE_MONTH, from, to, stats[1], properties.batchSize());
+            deleted += affected;
+        } while (affected > 0);
+
+        log.info("게임 기록 아카이브 완료: month={}, rows={}, deleted={}, file={}", month, stats[0], deleted, target.getFileName());
+        return target;
+    }
+
+    /**
+     * 아카이브 파일을 다시 game_logs 로 넣습니다.
+     * @return 읽은 행 수 (이미 있는 id 는 건너뜀)
+     */
+    public long restore(Path file) throws IOException {
+        long total = 0;
+        List<GameLogSummary> batch = new ArrayList<>(properties.batchSize());
+
+        try (BufferedReader reader = openArchive(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                batch.add(objectMapper.readValue(line, GameLogSummary.class));
+                if (batch.size() >= properties.batchSize()) {
+                    total += insertIgnore(batch);
+                    batch.clear();
+                }
+            }
+        }
+        total += insertIgnore(batch);
+
+        log.info("게임 기록 복원 완료: file={}, rows={}", file.getFileName(), total);
+        return total;
+    }
+
+    /**
+     * 아카이브 파일의 행을 월 순서로 넘깁니다 (통계 재계산용).
+     * 아직 삭제 전이거나 복원으로 game_logs 에 다시 있는 행, 같은 달 파일이 여러 개라 겹치는 행은 건너뛰어 한 번만 셉니다.
+     * @return 넘긴 행 수
+     */
+    public long forEachArchivedRow(Consumer<GameLogSummary> action) throws IOException {
+        if (!StringUtils.hasText(properties.path())) return 0;
+        Path dir = Path.of(properties.path());
+        if (!Files.isDirectory(dir)) return 0;
+
+        Map<YearMonth, List<Path>> filesByMonth = new TreeMap<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.sorted().toList()) {
+                YearMonth month = monthOf(file);
+                if (month != null) {
+                    filesByMonth.computeIfAbsent(month, m -> new ArrayList<>()).add(file);
+                }
+            }
+        }
+
+        long total = 0;
+        for (Map.Entry<YearMonth, List<Path>> entry : filesByMonth.entrySet()) {
+            YearMonth month = entry.getKey();
+            Set<Long> seen = new HashSet<>(jdbcTemplate.queryForList(SELECT_MONTH_IDS, Long.class,
+                    Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                    Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay())));
+
+            for (Path file : entry.getValue()) {
+                try (BufferedReader reader = openArchive(file)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) continue;
+                        GameLogSummary row = objectMapper.readValue(line, GameLogSummary.class);
+                        if (seen.add(row.id())) {
+                            action.accept(row);
+                            total++;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * game_logs-2025-01.jsonl.gz, game_logs-2025-01-{millis}.jsonl.gz → 2025-01 (쓰는 중인 .tmp 는 제외)
+     */
+    private static YearMonth monthOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(FILE_PREFIX) || !name.endsWith(FILE_SUFFIX)) return null;
+        try {
+            return YearMonth.parse(name.substring(FILE_PREFIX.length(), FILE_PREFIX.length() + 7));
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static BufferedReader openArchive(Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8));
+    }
+
+    private int insertIgnore(List<GameLogSummary> batch) {
+        if (batch.isEmpty()) return 0;
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE, batch, batch.size(), (ps, row) -> {
+            ps.setLong(1, row.id());
+            ps.setString(2, row.roomId());
+            ps.setString(3, row.roomTitle());
+            ps.setString(4, row.winnerRole());
+            ps.setString(5, row.godPersonality());
+            ps.setInt(6, row.finalHp());
+            ps.setInt(7, row.totalRounds());
+            ps.setTimestamp(8, Timestamp.valueOf(row.playedAt()));
+        });
+        return batch.size();
+    }
+
+    private List<YearMonth> expiredMonths(YearMonth firstKept) {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(played_at) FROM game_logs WHERE played_at < ?", Timestamp.class,
+                Timestamp.valueOf(firstKept.atDay(1).atStartOfDay()));
+        if (oldest == null) return List.of();
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(oldest.toLocalDateTime()); month.isBefore(firstKept); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    private static GameLogSummary toSummary(ResultSet rs) throws SQLException {
+        Timestamp playedAt = rs.getTimestamp("played_at");
+        return new GameLogSummary(
+                rs.getLong("id"),
+                rs.getString("room_id"),
+                rs.getString("room_title"),
+                rs.getString("winner_role"),
+                rs.getString("god_personality"),
+                rs.getInt("final_hp"),
+                rs.getInt("total_rounds"),
+                playedAt == null ? null : playedAt.toLocalDateTime()
+        );
+    }
+}
@@ -1,8 +1,43 @@
 package com.copyleft.GodsChoice.game.repository;
 
 import com.copyleft.GodsChoice.domain.log.GameLog;
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface GameLogRepository extends JpaRepository<GameLog, Long> {
 
-}
\ No newline at end of file
+    String SUMMARY = "select new com.copyleft.GodsChoice.domain.log.GameLogSummary("
+            + "g.id, g.roomId, g.roomTitle, g.winnerRole, g.godPersonality, g.finalHp, g.totalRounds, g.playedAt) from GameLog g ";
+    String LATEST_FIRST = " order by g.playedAt desc, g.id desc";
+    // (playedAt, id) < (:playedAt, :id), 앞 조건으로 인덱스 범위를 먼저 자름
+    String BEFORE_CURSOR = "g.playedAt <= :playedAt and (g.playedAt < :playedAt or g.id < :id)";
+
+    // 통계 재계산용 집계 [godPersonality, winnerRole, count]
+    @Query("select g.godPersonality, g.winnerRole, count(g) from GameLog g group by g.godPersonality, g.winnerRole")
+    List<Object[]> countWinsByPersonality();
+
+    // 통계 재계산용 집계 [finalHp, count]
+    @Query("select g.finalHp, count(g) from GameLog g group by g.finalHp")
+    List<Object[]> countByFinalHp();
+
+    // 게임 기록 키셋 페이지네이션 (idx_game_logs_played_at_id)
+    @Query(SUMMARY + LATEST_FIRST)
+    List<GameLogSummary> findLatest(Limit limit);
+
+    @Query(SUMMARY + "where " + BEFORE_CURSOR + LATEST_FIRST)
+    List<GameLogSummary> findBefore(@Param("playedAt") LocalDateTime playedAt, @Param("id") Long id, Limit limit);
+
+    // 방별 게임 기록 키셋 페이지네이션 (idx_game_logs_room_played_at_id)
+    @Query(SUMMARY + "where g.roomId = :roomId" + LATEST_FIRST)
+    List<GameLogSummary> findLatestByRoomId(@Param("roomId") String roomId, Limit limit);
+
+    @Query(SUMMARY + "where g.roomId = :roomId and " + BEFORE_CURSOR + LATEST_FIRST)
+    List<GameLogSummary> findBeforeByRoomId(@Param("roomId") String roomId, @Param("playedAt") LocalDateTime playedAt,
+                                            @Param("id") Long id, Limit limit);
+}
@@ -0,0 +1,212 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.log.GameResult;
+import com.copyleft.GodsChoice.global.config.GameLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 결과 write-behind 저장소
+ * 결과를 크기 제한이 있는 대기열에 모았다가 batchSize 건이 차거나 flushIntervalMs 가 지나면 JDBC 배치로 한 번에 INSERT 합니다.
+ * id는 AUTO_INCREMENT 컬럼이 채우므로 배치 INSERT 를 막지 않습니다 (MySQL 은 rewriteBatchedStatements 로 다중 행 INSERT 로 바뀜).
+ * 배치 INSERT 가 실패하면 같은 배치를 maxRetries 번까지 간격을 늘려 가며 다시 보내고,
+ * 그래도 실패하면 한 건씩 INSERT 해 문제가 되는 행만 버립니다 (행 하나 때문에 배치 전체를 잃지 않음).
+ * 종료 시에는 남은 결과를 모두 저장한 뒤 내려갑니다.
+ */
+@Slf4j
+@Repository
+public class GameLogWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO game_logs (room_id, room_title, winner_role, god_personality, final_hp, total_rounds, played_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameLogProperties properties;
+    private final BlockingQueue<GameResult> queue;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public GameLogWriter(JdbcTemplate jdbcTemplate, GameLogProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+
+        this.writtenCounter = meterRegistry.counter("game_log.written");
+        this.droppedCounter = meterRegistry.counter("game_log.dropped");
+        this.failedCounter = meterRegistry.counter("game_log.failed");
+        this.retriedCounter = meterRegistry.counter("game_log.retried");
+        this.flushTimer = meterRegistry.timer("game_log.flush");
+        meterRegistry.gaugeCollectionSize("game_log.queue.depth", List.of(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("game-log-writer").daemon().start(this::flushLoop);
+    }
+
+    /**
+     * 종료 시 대기열을 비울 때까지 저장합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(SHUTDOWN_WAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<GameResult> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize()) {
+            flush(rest.subList(from, Math.min(rest.size(), from + batchSize())));
+        }
+        log.info("게임 결과 저장 대기열 정리 완료: {}건", rest.size());
+    }
+
+    /**
+     * 결과를 저장 대기열에 넣습니다. 대기열이 꽉 차 있으면 enqueueTimeoutMs 까지 기다리고, 그래도 자리가 없으면 버립니다.
+     */
+    public boolean enqueue(GameResult result) {
+        try {
+            if (queue.offer(result, properties.enqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedCounter.increment();
+        log.error("게임 결과 저장 대기열 초과로 버림: room={}, winner={}", result.roomId(), result.winnerRole());
+        return false;
+    }
+
+    private void flushLoop() {
+        List<GameResult> batch = new ArrayList<>(batchSize());
+        try {
+            while (running) {
+                GameResult first = queue.poll(properties.flushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + properties.flushIntervalMs();
+                while (batch.size() < batchSize()) {
+                    queue.drainTo(batch, batchSize() - batch.size());
+                    long remainingMs = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize() || remainingMs <= 0) break;
+
+                    GameResult next = queue.poll(remainingMs, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 모으던 중에 종료되면 모은 것까지는 저장
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void flush(List<GameResult> batch) {
+        if (batch.isEmpty()) return;
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), GameLogWriter::bind));
+                writtenCounter.increment(batch.size());
+                log.info("게임 결과 MySQL 저장 완료: {}건", batch.size());
+                return;
+            } catch (Exception e) {
+                if (attempt >= properties.maxRetries()) {
+                    log.error("게임 결과 배치 저장 {}회 실패, 한 건씩 저장: {}건", attempt + 1, batch.size(), e);
+                    break;
+                }
+                log.warn("게임 결과 배치 저장 실패, 재시도 {}/{}: {}건", attempt + 1, properties.maxRetries(), batch.size(), e);
+                retriedCounter.increment();
+                if (!backoff(attempt)) break;
+            }
+        }
+
+        insertEach(batch);
+    }
+
+    /**
+     * 한 건씩 INSERT 해 실패한 행만 버립니다.
+     */
+    private void insertEach(List<GameResult> batch) {
+        int written = 0;
+        for (GameResult result : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, result));
+                written++;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("게임 결과 저장 실패로 버림: room={}, winner={}", result.roomId(), result.winnerRole(), e);
+            }
+        }
+        writtenCounter.increment(written);
+        log.info("게임 결과 한 건씩 저장 완료: {}/{}건", written, batch.size());
+    }
+
+    /**
+     * @return 기다렸으면 true, 종료 중이라 끊겼으면 false (바로 한 건씩 저장으로 넘어감)
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(properties.retryBackoffMs() << Math.min(attempt, 10));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void bind(PreparedStatement ps, GameResult result) throws SQLException {
+        ps.setString(1, result.roomId());
+        ps.setString(2, result.roomTitle());
+        ps.setString(3, result.winnerRole());
+        ps.setString(4, result.godPersonality());
+        ps.setInt(5, result.finalHp());
+        ps.setInt(6, result.totalRounds());
+        ps.setTimestamp(7, Timestamp.valueOf(result.playedAt()));
+    }
+
+    private int batchSize() {
+        return Math.max(1, properties.batchSize());
+    }
+}
@@ -0,0 +1,92 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 누적 게임 통계 (Redis Hash, HINCRBY 로만 갱신)
+ * - game_stats:wins          "{성향}:{승리 진영}" → 판 수
+ * - game_stats:hp            "{HP 구간 하한}" → 판 수
+ * - game_stats:oracle_score  "{신탁}:sum" / "{신탁}:count" → 라운드 점수 합 / 라운드 수
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameStatsRepository {
+
+    public static final String WINS = "wins";
+    public static final String HP = "hp";
+    public static final String ORACLE_SCORE = "oracle_score";
+    public static final int HP_BUCKET_SIZE = 100;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void incrementGameOver(String personality, String winnerRole, int finalHp) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(key(WINS), winField(personality, winnerRole), 1);
+                ops.opsForHash().increment(key(HP), hpField(finalHp), 1);
+                return null;
+            }
+        });
+    }
+
+    public void incrementRoundScore(String oracle, int score) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(key(ORACLE_SCORE), oracle + ":sum", score);
+                ops.opsForHash().increment(key(ORACLE_SCORE), oracle + ":count", 1);
+                return null;
+            }
+        });
+    }
+
+    public Map<String, Long> findAll(String name) {
+        Map<String, Long> values = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(key(name))
+                .forEach((field, value) -> values.put(field, Long.parseLong(value)));
+        return values;
+    }
+
+    /**
+     * 재계산한 값으로 통째로 바꿉니다. 임시 키에 다 쓴 뒤 RENAME 하므로 읽는 쪽은 중간 상태를 보지 않습니다.
+     */
+    public void replaceAll(String name, Map<String, Long> values) {
+        if (values.isEmpty()) {
+            redisTemplate.delete(key(name));
+            return;
+        }
+
+        String tempKey = key(name) + ":rebuild";
+        Map<String, String> fields = new HashMap<>();
+        values.forEach((field, value) -> fields.put(field, String.valueOf(value)));
+
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForHash().putAll(tempKey, fields);
+        redisTemplate.rename(tempKey, key(name));
+    }
+
+    public static String winField(String personality, String winnerRole) {
+        return personality + ":" + winnerRole;
+    }
+
+    public static String hpField(int finalHp) {
+        return String.valueOf(Math.floorDiv(finalHp, HP_BUCKET_SIZE) * HP_BUCKET_SIZE);
+    }
+
+    private static String key(String name) {
+        return RedisKey.GAME_STATS.makeKey(name);
+    }
+}
@@ -0,0 +1,62 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.global.config.JudgeSchedulerProperties;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * LLM 요청용 클러스터 공용 토큰 버킷
+ * 시간은 Redis 서버 시간(TIME)을 사용하므로 노드 간 시계 차이의 영향을 받지 않습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class JudgeRateLimiter {
+
+    private static final RedisScript<Long> TAKE_TOKEN = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local ratePerMs = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * ratePerMs)
+            local waitMs = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+            else
+              waitMs = math.ceil((1 - tokens) / ratePerMs)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / ratePerMs) + 1000)
+            return waitMs
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JudgeSchedulerProperties properties;
+
+    /**
+     * 토큰 하나를 가져갑니다.
+     * @return 0이면 획득, 아니면 다음 토큰까지 기다려야 하는 시간 (밀리초)
+     */
+    public long tryAcquire() {
+        try {
+            Long waitMs = redisTemplate.execute(TAKE_TOKEN, List.of(RedisKey.GROQ_RATE_LIMIT.getKey()),
+                    String.valueOf(properties.bucketCapacity()),
+                    String.valueOf(properties.refillPerSecond() / 1000.0));
+            return waitMs == null ? 0 : waitMs;
+        } catch (Exception e) {
+            // Redis 장애 시 LLM 호출까지 막지 않음 (노드별 동시성 제한은 그대로 적용)
+            log.warn("토큰 버킷 조회 실패, 제한 없이 진행: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
+import com.copyleft.GodsChoice.domain.type.GamePhase;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerColor;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+import com.copyleft.GodsChoice.domain.type.RoomStatus;
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Redis 에 저장하는 Room 바이너리 형식
+ * - 첫 바이트는 형식 버전, 필드 이름 없이 정해진 순서로 씀
+ * - 정수는 varint (음수가 될 수 있는 값은 zigzag), enum 은 ordinal + 1 (0 = null)
+ * - 문자열은 방 하나 안에서 테이블로 관리해 두 번째부터는 번호만 씀 (sessionId 가 플레이어, 방장, 페이즈 데이터에 반복됨)
+ * - 첫 바이트가 '{' 이면 예전 JSON 으로 저장된 방이라 ObjectMapper 로 읽음 (방 TTL 이 지나면 모두 바이너리)
+ * 필드를 추가하거나 enum 상수의 순서를 바꾸면 VERSION 을 올리고, 이전 버전 읽기를 남겨 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomCodec {
+
+    static final byte VERSION = 1;
+    private static final byte LEGACY_JSON = '{';
+
+    private static final GodPersonality[] GOD_PERSONALITIES = GodPersonality.values();
+    private static final Oracle[] ORACLES = Oracle.values();
+    private static final RoomStatus[] ROOM_STATUSES = RoomStatus.values();
+    private static final GamePhase[] GAME_PHASES = GamePhase.values();
+    private static final PlayerColor[] PLAYER_COLORS = PlayerColor.values();
+    private static final PlayerRole[] PLAYER_ROLES = PlayerRole.values();
+    private static final SlotType[] SLOT_TYPES = SlotType.values();
+    private static final ConnectionStatus[] CONNECTION_STATUSES = ConnectionStatus.values();
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(Room room) {
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+
+        out.writeString(room.getRoomTitle());
+        out.writeString(room.getRoomId());
+        out.writeString(room.getRoomCode());
+        out.writeString(room.getHostSessionId());
+        out.writeString(room.getOwnerNode());
+        out.writeSignedVarInt(room.getCurrentHp());
+        out.writeSignedVarInt(room.getCurrentRound());
+        out.writeEnum(room.getGodPersonality());
+        out.writeEnum(room.getOracle());
+        out.writeString(room.getDeckTheme());
+        out.writeString(room.getDeckName());
+        out.writeByte(room.isVotingDisabled() ? 1 : 0);
+        out.writeEnum(room.getStatus());
+        out.writeEnum(room.getCurrentPhase());
+        out.writeVarLong(room.getCreatedAt());
+
+        writeCollection(out, room.getUsedOracles(), out::writeEnum);
+        writeCollection(out, room.getUsedCards(), out::writeString);
+
+        Map<String, String> phaseData = room.getCurrentPhaseData();
+        out.writeSize(phaseData);
+        if (phaseData != null) {
+            for (Map.Entry<String, String> entry : phaseData.entrySet()) {
+                out.writeString(entry.getKey());
+                out.writeString(entry.getValue());
+            }
+        }
+
+        writeCollection(out, room.getPlayers(), player -> writePlayer(out, player));
+        return out.toByteArray();
+    }
+
+    public Room decode(byte[] data) throws IOException {
+        if (data.length == 0) throw new EOFException("빈 방 데이터");
+
+        return switch (data[0]) {
+            case LEGACY_JSON -> objectMapper.readValue(data, Room.class);
+            case VERSION -> decodeV1(new Reader(data, 1));
+            default -> throw new IOException("알 수 없는 방 데이터 형식: version=" + data[0]);
+        };
+    }
+
+    private Room decodeV1(Reader in) throws IOException {
+        Room room = new Room();
+        room.setRoomTitle(in.readString());
+        room.setRoomId(in.readString());
+        room.setRoomCode(in.readString());
+        room.setHostSessionId(in.readString());
+        room.setOwnerNode(in.readString());
+        room.setCurrentHp(in.readSignedVarInt());
+        room.setCurrentRound(in.readSignedVarInt());
+        room.setGodPersonality(in.readEnum(GOD_PERSONALITIES));
+        room.setOracle(in.readEnum(ORACLES));
+        room.setDeckTheme(in.readString());
+        room.setDeckName(in.readString());
+        room.setVotingDisabled(in.readByte() != 0);
+        room.setStatus(in.readEnum(ROOM_STATUSES));
+        room.setCurrentPhase(in.readEnum(GAME_PHASES));
+        room.setCreatedAt(in.readVarLong());
+
+        int oracleCount = in.readSize();
+        Set<Oracle> usedOracles = oracleCount < 0 ? null : new HashSet<>();
+        for (int i = 0; i < oracleCount; i++) {
+            usedOracles.add(in.readEnum(ORACLES));
+        }
+        room.setUsedOracles(usedOracles);
+
+        int cardCount = in.readSize();
+        Set<String> usedCards = cardCount < 0 ? null : new HashSet<>();
+        for (int i = 0; i < cardCount; i++) {
+            usedCards.add(in.readString());
+        }
+        room.setUsedCards(usedCards);
+
+        // JSON 으로 읽을 때와 같은 구현 (ConcurrentHashMap 은 null 값을 받지 않음)
+        int phaseDataCount = in.readSize();
+        Map<String, String> phaseData = phaseDataCount < 0 ? null : new LinkedHashMap<>();
+        for (int i = 0; i < phaseDataCount; i++) {
+            phaseData.put(in.readString(), in.readString());
+        }
+        room.setCurrentPhaseData(phaseData);
+
+        int playerCount = in.readSize();
+        List<Player> players = playerCount < 0 ? null : new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(readPlayer(in));
+        }
+        room.setPlayers(players);
+
+        if (in.remaining() != 0) {
+            throw new IOException("방 데이터 끝에 남은 바이트: " + in.remaining());
+        }
+        return room;
+    }
+
+    private static void writePlayer(Writer out, Player player) {
+        out.writeString(player.getSessionId());
+        out.writeString(player.getNickname());
+        out.writeByte(player.isHost() ? 1 : 0);
+        out.writeEnum(player.getColor());
+        out.writeEnum(player.getRole());
+        out.writeEnum(player.getSlot());
+        out.writeEnum(player.getConnectionStatus());
+        out.writeString(player.getSelectedCard());
+        out.writeString(player.getVoteTarget());
+    }
+
+    private static Player readPlayer(Reader in) throws IOException {
+        Player player = new Player();
+        player.setSessionId(in.readString());
+        player.setNickname(in.readString());
+        player.setHost(in.readByte() != 0);
+        player.setColor(in.readEnum(PLAYER_COLORS));
+        player.setRole(in.readEnum(PLAYER_ROLES));
+        player.setSlot(in.readEnum(SLOT_TYPES));
+        player.setConnectionStatus(in.readEnum(CONNECTION_STATUSES));
+        player.setSelectedCard(in.readString());
+        player.setVoteTarget(in.readString());
+        return player;
+    }
+
+    private static <T> void writeCollection(Writer out, Collection<T> values, Consumer<T> element) {
+        out.writeSize(values);
+        if (values != null) {
+            values.forEach(element);
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int position;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeSignedVarInt(int value) {
+            writeVarLong(Integer.toUnsignedLong((value << 1) ^ (value >> 31)));
+        }
+
+        // 0 = null, 그 외 size + 1
+        void writeSize(Collection<?> values) {
+            writeVarLong(values == null ? 0 : values.size() + 1L);
+        }
+
+        void writeSize(Map<?, ?> values) {
+            writeVarLong(values == null ? 0 : values.size() + 1L);
+        }
+
+        void writeEnum(Enum<?> value) {
+            writeVarLong(value == null ? 0 : value.ordinal() + 1L);
+        }
+
+        /**
+         * 0 = null, 홀수 = 새 문자열 (UTF-8 길이 << 1 | 1, 이어서 바이트), 짝수 = 테이블 번호 ((index + 1) << 1)
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarLong((index + 1L) << 1);
+                return;
+            }
+            strings.put(value, strings.size());
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(((long) bytes.length << 1) | 1);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int position;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        int remaining() {
+            return data.length - position;
+        }
+
+        byte readByte() throws IOException {
+            if (position >= data.length) throw new EOFException("방 데이터가 잘림");
+            return data[position++];
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IOException("varint 가 너무 김");
+        }
+
+        int readSignedVarInt() throws IOException {
+            int raw = (int) readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        /**
+         * @return 크기, null 이면 -1
+         */
+        int readSize() throws IOException {
+            long size = readVarLong() - 1;
+            if (size > remaining()) throw new IOException("컬렉션 크기 이상: " + size);
+            return (int) size;
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+            long code = readVarLong();
+            if (code == 0) return null;
+            if (code > values.length) throw new IOException("enum 값 범위 밖: " + code);
+            return values[(int) code - 1];
+        }
+
+        String readString() throws IOException {
+            long code = readVarLong();
+            if (code == 0) return null;
+
+            if ((code & 1) == 0) {
+                long index = (code >>> 1) - 1;
+                if (index >= strings.size()) throw new IOException("문자열 테이블 범위 밖: " + index);
+                return strings.get((int) index);
+            }
+
+            long length = code >>> 1;
+            if (length > remaining()) throw new EOFException("방 데이터가 잘림");
+            String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            strings.add(value);
+            return value;
+        }
+    }
+}
@@ -1,47 +1,182 @@
 package com.copyleft.GodsChoice.game.repository;
 
 import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.log.GameEvent;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.global.config.OutboxProperties;
 import com.copyleft.GodsChoice.global.constant.RedisKey;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * 방 저장소
+ * 방 단위 키는 room:{샤드}:uuid 처럼 샤드를 해시 태그로 써서, 방/버전/outbox 를 한 슬롯에 둡니다 (RedisKey.ROOM_SHARDS).
+ * 방 저장은 MULTI 대신 Lua 스크립트 한 번으로 합니다 (클러스터 연결의 Lettuce 는 MULTI 를 지원하지 않음).
+ * 배포: 샤드 키로 바꾸기 전의 방(room:uuid)은 읽을 때만 한 번 더 찾아봅니다.
+ * 그 방을 다시 저장하면 샤드 키로 옮기면서 예전 키를 지우고, 방을 지울 때도 예전 키를 함께 지워 되살아나지 않게 합니다.
+ * 락 키(room-lock:uuid → room-lock:{샤드}:uuid)도 바뀌어 이전 버전 노드와는 서로 다른 락을 잡으므로,
+ * 롤링 배포로 섞어 돌리지 않고 이전 노드를 모두 내린 뒤(drain) 새 노드로 트래픽을 넘깁니다.
+ */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RoomRepository {
 
+    // KEYS: 방, 방 버전, (outbox) — 모두 같은 샤드 태그 / ARGV: 방 데이터, ttlMs, (이벤트 JSON)
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            if #KEYS > 2 then
+              redis.call('RPUSH', KEYS[3], ARGV[3])
+            end
+            return version
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper; // Room 객체 변환용
+    private final RedisTemplate<String, byte[]> roomRedisTemplate; // 방 키 전용 (RoomCodec 바이너리)
+    private final RoomCodec roomCodec;
+    private final ObjectMapper objectMapper; // 게임 이벤트 변환용
+    private final OutboxProperties outboxProperties;
+    private final SessionNearCache sessionNearCache;
+    private final RoomSnapshotCache roomSnapshotCache;
+
+    // 예전 키(room:uuid)에서 읽은 방, 다음 저장 때 예전 키를 지움
+    private final Set<String> legacyRoomIds = ConcurrentHashMap.newKeySet();
 
-    private static final long ROOM_TTL_HOURS = 1L;
+    static final long ROOM_TTL_HOURS = 1L;
+    private static final byte[] ROOM_TTL_MS = String.valueOf(TimeUnit.HOURS.toMillis(ROOM_TTL_HOURS)).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 방 요청 하나의 쓰기를 모아 파이프라인 한 번으로 보낼 묶음을 엽니다. 다 모으면 {@link RoomWriteBatch#commit()}.
+     */
+    public RoomWriteBatch batch() {
+        return new RoomWriteBatch(roomRedisTemplate, roomCodec, sessionNearCache, roomSnapshotCache, legacyRoomIds);
+    }
 
+    /**
+     * 방을 저장하면서 버전(room_version)을 올리고, 같은 버전으로 방 스냅샷 캐시를 갱신합니다.
+     */
     public void saveRoom(Room room) {
-        String key = RedisKey.ROOM.makeKey(room.getRoomId());
+        Long version = roomRedisTemplate.execute(SAVE,
+                List.of(RedisKey.ROOM.makeRoomKey(room.getRoomId()), RedisKey.ROOM_VERSION.makeRoomKey(room.getRoomId())),
+                roomCodec.encode(room), ROOM_TTL_MS);
+        updateSnapshot(room, version);
+        deleteLegacyKey(room.getRoomId());
+    }
+
+    /**
+     * 방 상태와 게임 이벤트를 스크립트 한 번으로 원자적으로 저장합니다.
+     * 상태만 바뀌고 이벤트가 빠지거나, 이벤트만 나가고 상태가 안 바뀌는 일이 없도록 outbox 에 함께 넣습니다.
+     * outbox 도 방과 같은 샤드 태그라 스크립트의 키가 모두 한 슬롯입니다.
+     * outbox 는 자르지 않습니다 (보내지 않은 이벤트를 잃지 않도록). relay 를 끈 환경에서는 읽어 갈 곳이 없어 방만 저장합니다.
+     */
+    public void saveRoom(Room room, GameEvent event) {
+        if (!outboxProperties.relayEnabled()) {
+            saveRoom(room);
+            return;
+        }
+
+        String roomId = room.getRoomId();
+        List<String> keys = List.of(
+                RedisKey.ROOM.makeRoomKey(roomId),
+                RedisKey.ROOM_VERSION.makeRoomKey(roomId),
+                RedisKey.GAME_EVENT_OUTBOX.makeShardKey(RedisKey.shardOf(roomId)));
 
         try {
-            String roomJson = objectMapper.writeValueAsString(room);
-            redisTemplate.opsForValue().set(key, roomJson, ROOM_TTL_HOURS, TimeUnit.HOURS);
+            byte[] eventJson = objectMapper.writeValueAsBytes(event);
+            Long version = roomRedisTemplate.execute(SAVE, keys, roomCodec.encode(room), ROOM_TTL_MS, eventJson);
+            updateSnapshot(room, version);
+            deleteLegacyKey(roomId);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Room Save Error", e);
         }
     }
 
+    // 샤드 키로 옮겨 저장한 뒤 한 번만 지움 (예전 키는 슬롯이 달라 저장 스크립트에 넣을 수 없음)
+    private void deleteLegacyKey(String roomId) {
+        if (legacyRoomIds.remove(roomId)) {
+            roomRedisTemplate.delete(RedisKey.ROOM.makeKey(roomId));
+        }
+    }
+
+    private void updateSnapshot(Room room, Long version) {
+        if (version != null) {
+            roomSnapshotCache.update(RoomSnapshot.of(room, version));
+        }
+    }
+
     public Optional<Room> findRoomById(String roomId) {
-        String key = RedisKey.ROOM.makeKey(roomId);
-        String roomJson = redisTemplate.opsForValue().get(key);
+        String key = RedisKey.ROOM.makeRoomKey(roomId);
+        byte[] roomData = roomRedisTemplate.opsForValue().get(key);
+        if (roomData == null) {
+            roomData = roomRedisTemplate.opsForValue().get(RedisKey.ROOM.makeKey(roomId));
+            if (roomData != null) {
+                legacyRoomIds.add(roomId);
+            }
+        }
 
-        if (roomJson == null) return Optional.empty();
+        if (roomData == null) return Optional.empty();
 
         try {
-            Room room = objectMapper.readValue(roomJson, Room.class);
-            return Optional.of(room);
-        } catch (JsonProcessingException e) {
+            return Optional.of(roomCodec.decode(roomData));
+        } catch (IOException e) {
+            log.warn("방 데이터 읽기 실패: roomId={}", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 읽기 전용 경로(채팅, 방 목록)용. 로컬 캐시에 없을 때만 방과 버전을 한 번에 읽습니다.
+     */
+    public Optional<RoomSnapshot> findRoomSnapshot(String roomId) {
+        RoomSnapshot cached = roomSnapshotCache.get(roomId);
+        if (cached != null) return Optional.of(cached);
+
+        List<byte[]> values = roomRedisTemplate.opsForValue().multiGet(
+                List.of(RedisKey.ROOM.makeRoomKey(roomId), RedisKey.ROOM_VERSION.makeRoomKey(roomId)));
+        if (values == null) return Optional.empty();
+        if (values.get(0) == null) {
+            return findLegacyRoomSnapshot(roomId);
+        }
+        return loadSnapshot(values.get(0), values.get(1));
+    }
+
+    /**
+     * 샤드 키로 바꾸기 전에 저장된 방 (room:uuid, 예전 JSON). 방 TTL(1시간)이 지나면 남지 않으므로 그 뒤에는 지워도 됩니다.
+     * 버전은 0 으로 둡니다. 새 노드가 저장하면 샤드 키의 버전(1부터)이 이 스냅샷을 대신합니다.
+     */
+    private Optional<RoomSnapshot> findLegacyRoomSnapshot(String roomId) {
+        return loadSnapshot(roomRedisTemplate.opsForValue().get(RedisKey.ROOM.makeKey(roomId)), null);
+    }
+
+    private Optional<RoomSnapshot> loadSnapshot(byte[] roomData, byte[] version) {
+        if (roomData == null) return Optional.empty();
+
+        try {
+            Room room = roomCodec.decode(roomData);
+            long parsedVersion = version == null ? 0 : Long.parseLong(new String(version, StandardCharsets.UTF_8));
+            RoomSnapshot snapshot = RoomSnapshot.of(room, parsedVersion);
+            roomSnapshotCache.offer(snapshot);
+            return Optional.of(snapshot);
+        } catch (IOException | NumberFormatException e) {
             return Optional.empty();
         }
     }
@@ -63,34 +198,29 @@ public class RoomRepository {
     }
 
     public void addWaitingRoom(String roomId) {
-        redisTemplate.opsForSet().add(RedisKey.WAITING_ROOMS.getKey(), roomId);
+        redisTemplate.opsForSet().add(waitingRoomsKey(roomId), roomId);
     }
 
     public void removeWaitingRoom(String roomId) {
-        redisTemplate.opsForSet().remove(RedisKey.WAITING_ROOMS.getKey(), roomId);
+        redisTemplate.opsForSet().remove(waitingRoomsKey(roomId), roomId);
     }
 
     public List<Room> findAllWaitingRooms() {
-        Set<String> roomIds = redisTemplate.opsForSet().members(RedisKey.WAITING_ROOMS.getKey());
-
-        if (roomIds == null || roomIds.isEmpty()) {
-            return Collections.emptyList();
+        List<List<String>> keysByShard = new ArrayList<>();
+        for (Set<String> roomIds : findWaitingRoomIdsByShard()) {
+            if (roomIds.isEmpty()) continue;
+            keysByShard.add(roomIds.stream()
+                    .map(RedisKey.ROOM::makeRoomKey)
+                    .collect(Collectors.toList()));
         }
-
-        List<String> keys = roomIds.stream()
-                .map(RedisKey.ROOM::makeKey)
-                .collect(Collectors.toList());
-
-        List<String> jsonList = redisTemplate.opsForValue().multiGet(keys);
-
-        if (jsonList == null) return Collections.emptyList();
+        if (keysByShard.isEmpty()) return Collections.emptyList();
 
         List<Room> rooms = new ArrayList<>();
-        for (String json : jsonList) {
-            if (json != null) {
+        for (byte[] roomData : multiGetByShard(keysByShard)) {
+            if (roomData != null) {
                 try {
-                    rooms.add(objectMapper.readValue(json, Room.class));
-                } catch (JsonProcessingException e) {
+                    rooms.add(roomCodec.decode(roomData));
+                } catch (IOException e) {
                     // 파싱 에러 난 방은 무시
                 }
             }
@@ -98,10 +228,98 @@ public class RoomRepository {
         return rooms;
     }
 
+    /**
+     * 대기 방 목록용 스냅샷. 캐시에 없는 방만 모아 샤드마다 MGET 한 번으로 읽습니다.
+     */
+    public List<RoomSnapshot> findWaitingRoomSnapshots() {
+        List<RoomSnapshot> snapshots = new ArrayList<>();
+        List<List<String>> missingKeysByShard = new ArrayList<>();
+        for (Set<String> roomIds : findWaitingRoomIdsByShard()) {
+            List<String> missingKeys = new ArrayList<>();
+            for (String roomId : roomIds) {
+                RoomSnapshot cached = roomSnapshotCache.get(roomId);
+                if (cached != null) {
+                    snapshots.add(cached);
+                } else {
+                    missingKeys.add(RedisKey.ROOM.makeRoomKey(roomId));
+                    missingKeys.add(RedisKey.ROOM_VERSION.makeRoomKey(roomId));
+                }
+            }
+            if (!missingKeys.isEmpty()) {
+                missingKeysByShard.add(missingKeys);
+            }
+        }
+        if (missingKeysByShard.isEmpty()) return snapshots;
+
+        List<byte[]> values = multiGetByShard(missingKeysByShard);
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            loadSnapshot(values.get(i), values.get(i + 1)).ifPresent(snapshots::add);
+        }
+        return snapshots;
+    }
+
+    private String waitingRoomsKey(String roomId) {
+        return RedisKey.WAITING_ROOMS.makeShardKey(RedisKey.shardOf(roomId));
+    }
+
+    /**
+     * 샤드별 대기 방 색인을 파이프라인 한 번으로 읽습니다. (index = 샤드 번호)
+     */
+    private List<Set<String>> findWaitingRoomIdsByShard() {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int shard = 0; shard < RedisKey.ROOM_SHARDS; shard++) {
+                    ops.opsForSet().members(RedisKey.WAITING_ROOMS.makeShardKey(shard));
+                }
+                return null;
+            }
+        });
+
+        List<Set<String>> roomIdsByShard = new ArrayList<>(results.size());
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            Set<String> roomIds = result instanceof Set<?> set ? (Set<String>) set : Set.of();
+            roomIdsByShard.add(roomIds);
+        }
+        return roomIdsByShard;
+    }
+
+    /**
+     * 한 묶음의 키는 모두 같은 샤드(= 같은 슬롯)여야 합니다. 묶음마다 MGET 하고, 묶음들은 파이프라인으로 보냅니다.
+     * @return 키 순서대로 이어 붙인 값 (없는 키는 null)
+     */
+    private List<byte[]> multiGetByShard(List<List<String>> keysByShard) {
+        List<Object> results = roomRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                for (List<String> keys : keysByShard) {
+                    ops.opsForValue().multiGet(keys);
+                }
+                return null;
+            }
+        });
+
+        List<byte[]> values = new ArrayList<>();
+        for (int i = 0; i < keysByShard.size(); i++) {
+            Object result = i < results.size() ? results.get(i) : null;
+            if (result instanceof List<?> list) {
+                list.forEach(value -> values.add((byte[]) value));
+            } else {
+                keysByShard.get(i).forEach(key -> values.add(null));
+            }
+        }
+        return values;
+    }
+
     public void deleteRoom(String roomId, String roomCode) {
-        redisTemplate.delete(RedisKey.ROOM.makeKey(roomId));
-        redisTemplate.delete(RedisKey.ROOM_CODE.makeKey(roomCode));
-        removeWaitingRoom(roomId);
+        RoomWriteBatch batch = batch();
+        batch.deleteRoom(roomId, roomCode);
+        batch.commit();
     }
 
     public void saveSessionRoomMapping(String sessionId, String roomId) {
@@ -110,13 +328,16 @@ public class RoomRepository {
                 roomId,
                 ROOM_TTL_HOURS, TimeUnit.HOURS
         );
+        sessionNearCache.update(SessionNearCache.Kind.ROOM, sessionId, roomId);
     }
 
     public String getRoomIdBySessionId(String sessionId) {
-        return redisTemplate.opsForValue().get(RedisKey.SESSION_ROOM.makeKey(sessionId));
+        return sessionNearCache.get(SessionNearCache.Kind.ROOM, sessionId,
+                () -> redisTemplate.opsForValue().get(RedisKey.SESSION_ROOM.makeKey(sessionId)));
     }
 
     public void deleteSessionRoomMapping(String sessionId) {
         redisTemplate.delete(RedisKey.SESSION_ROOM.makeKey(sessionId));
+        sessionNearCache.update(SessionNearCache.Kind.ROOM, sessionId, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.global.config.RoomCacheProperties;
+import com.copyleft.GodsChoice.global.util.BoundedTtlMap;
+import com.copyleft.GodsChoice.global.websocket.dto.RoomCacheInvalidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 방 스냅샷 로컬 캐시
+ * - 방을 저장한 노드는 새 스냅샷으로 교체하고, 다른 노드에는 (방 ID, 버전) 무효화 메시지를 보냄
+ * - 무효화를 받으면 그 버전을 기억해 두고(스냅샷 없는 항목), 그보다 오래된 스냅샷은 넣지 않음
+ * - 메시지를 놓쳐도 ttlMs 가 지나면 다시 Redis 에서 읽음
+ * - 가득 차면 오래된 스냅샷부터 지우고, 무효화 기록(버전, 삭제)은 만료될 때까지 남김
+ */
+@Slf4j
+@Component
+public class RoomSnapshotCache {
+
+    public static final long DELETED = Long.MAX_VALUE;
+
+    private static final String TOPIC_NAME = "room-cache-topic";
+
+    private final RedissonClient redissonClient;
+    private final RoomCacheProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final BoundedTtlMap<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    /**
+     * @param snapshot 무효화만 기록된 항목이면 null
+     */
+    private record Entry(RoomSnapshot snapshot, long version, long expiresAt) {}
+
+    public RoomSnapshotCache(RedissonClient redissonClient, RoomCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.entries = new BoundedTtlMap<>(properties.maxSize(), Entry::expiresAt, entry -> entry.snapshot() != null);
+        this.hits = meterRegistry.counter("room_cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("room_cache.requests", "result", "miss");
+        this.invalidations = meterRegistry.counter("room_cache.invalidations");
+        Gauge.builder("room_cache.size", entries, BoundedTtlMap::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.enabled()) return;
+
+        redissonClient.getTopic(TOPIC_NAME).addListener(RoomCacheInvalidation.class, (channel, msg) -> {
+            if (nodeId.equals(msg.getNodeId())) return;
+            try {
+                invalidate(msg.getRoomId(), msg.getVersion());
+            } catch (Exception e) {
+                log.error("방 캐시 무효화 처리 중 오류: {}", msg, e);
+            }
+        });
+        log.info("방 캐시 무효화 구독 시작: Topic={}", TOPIC_NAME);
+    }
+
+    /**
+     * 캐시에 유효한 스냅샷이 있으면 돌려주고, 없으면 null (호출한 쪽에서 Redis 로 읽은 뒤 {@link #offer})
+     */
+    public RoomSnapshot get(String roomId) {
+        if (!properties.enabled()) return null;
+
+        Entry entry = entries.get(roomId, System.currentTimeMillis());
+        if (entry != null && entry.snapshot() != null) {
+            hits.increment();
+            return entry.snapshot();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Redis 에서 읽은 스냅샷을 넣습니다. 그 사이 더 새로운 버전이 알려졌으면 넣지 않습니다.
+     */
+    public void offer(RoomSnapshot snapshot) {
+        if (!properties.enabled()) return;
+
+        long now = System.currentTimeMillis();
+        entries.compute(snapshot.roomId(), (roomId, existing) ->
+                existing != null && existing.expiresAt() > now && existing.version() > snapshot.version()
+                        ? existing
+                        : new Entry(snapshot, snapshot.version(), now + properties.ttlMs()), now);
+    }
+
+    /**
+     * 이 노드에서 방을 저장한 뒤 호출합니다.
+     */
+    public void update(RoomSnapshot snapshot) {
+        if (!properties.enabled()) return;
+
+        offer(snapshot);
+        publish(snapshot.roomId(), snapshot.version());
+    }
+
+    /**
+     * 이 노드에서 방을 삭제한 뒤 호출합니다.
+     */
+    public void remove(String roomId) {
+        if (!properties.enabled()) return;
+
+        invalidate(roomId, DELETED);
+        publish(roomId, DELETED);
+    }
+
+    private void invalidate(String roomId, long version) {
+        long now = System.currentTimeMillis();
+        entries.compute(roomId, (key, existing) ->
+                existing != null && existing.expiresAt() > now && existing.version() >= version
+                        ? existing
+                        : new Entry(null, version, now + properties.ttlMs()), now);
+        invalidations.increment();
+    }
+
+    private void publish(String roomId, long version) {
+        try {
+            redissonClient.getTopic(TOPIC_NAME).publish(new RoomCacheInvalidation(nodeId, roomId, version));
+        } catch (Exception e) {
+            // 다른 노드는 ttlMs 뒤에 다시 읽으므로 저장 자체는 실패시키지 않음
+            log.error("방 캐시 무효화 전송 실패: room={}", roomId, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 방 요청 하나의 쓰기 묶음 (unit of work)
+ * 방 저장, 세션 매핑, 대기 방 색인 쓰기를 모아 두었다가 commit 때 파이프라인 한 번으로 보냅니다.
+ * - MULTI 가 아니라 파이프라인: 세션 매핑과 방 키는 클러스터에서 슬롯이 다르고, 같은 방의 쓰기는 이미 방 락으로 직렬화됨
+ * - 방은 commit 시점의 상태로 저장하며, 같은 방을 여러 번 저장하면 마지막 한 번만 보냄
+ * - 로컬 캐시(방 스냅샷, 세션 near-cache)는 commit 이 끝난 뒤에 갱신
+ * 한 요청 안에서만 쓰고 버립니다 (스레드 안전하지 않음).
+ */
+public class RoomWriteBatch {
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RoomCodec roomCodec;
+    private final SessionNearCache sessionNearCache;
+    private final RoomSnapshotCache roomSnapshotCache;
+    private final Set<String> legacyRoomIds;
+
+    private final Map<String, Room> rooms = new LinkedHashMap<>();
+    private final List<Consumer<RedisOperations<String, byte[]>>> commands = new ArrayList<>();
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    RoomWriteBatch(RedisTemplate<String, byte[]> redisTemplate,
+                   RoomCodec roomCodec,
+                   SessionNearCache sessionNearCache,
+                   RoomSnapshotCache roomSnapshotCache,
+                   Set<String> legacyRoomIds) {
+        this.redisTemplate = redisTemplate;
+        this.roomCodec = roomCodec;
+        this.sessionNearCache = sessionNearCache;
+        this.roomSnapshotCache = roomSnapshotCache;
+        this.legacyRoomIds = legacyRoomIds;
+    }
+
+    public void saveRoom(Room room) {
+        rooms.put(room.getRoomId(), room);
+    }
+
+    public void deleteRoom(String roomId, String roomCode) {
+        rooms.remove(roomId);
+        // 같은 슬롯의 키만 한 번에 지움 (room_code 는 코드 기준 키라 따로)
+        List<String> roomKeys = List.of(
+                RedisKey.ROOM.makeRoomKey(roomId),
+                RedisKey.ROOM_VERSION.makeRoomKey(roomId),
+                RedisKey.CHAT_HISTORY.makeRoomKey(roomId));
+        commands.add(ops -> ops.delete(roomKeys));
+        commands.add(ops -> ops.delete(RedisKey.ROOM_CODE.makeKey(roomCode)));
+        // 샤드 키로 바꾸기 전의 방 키가 남아 있으면 읽기 폴백으로 방이 되살아나므로 함께 지움
+        legacyRoomIds.remove(roomId);
+        commands.add(ops -> ops.delete(RedisKey.ROOM.makeKey(roomId)));
+        removeWaitingRoom(roomId);
+        afterCommit.add(() -> roomSnapshotCache.remove(roomId));
+    }
+
+    public void addWaitingRoom(String roomId) {
+        String key = RedisKey.WAITING_ROOMS.makeShardKey(RedisKey.shardOf(roomId));
+        commands.add(ops -> ops.opsForSet().add(key, utf8(roomId)));
+    }
+
+    public void removeWaitingRoom(String roomId) {
+        String key = RedisKey.WAITING_ROOMS.makeShardKey(RedisKey.shardOf(roomId));
+        commands.add(ops -> ops.opsForSet().remove(key, (Object) utf8(roomId)));
+    }
+
+    public void saveSessionRoomMapping(String sessionId, String roomId) {
+        String key = RedisKey.SESSION_ROOM.makeKey(sessionId);
+        commands.add(ops -> ops.opsForValue().set(key, utf8(roomId), RoomRepository.ROOM_TTL_HOURS, TimeUnit.HOURS));
+        afterCommit.add(() -> sessionNearCache.update(SessionNearCache.Kind.ROOM, sessionId, roomId));
+    }
+
+    public void deleteSessionRoomMapping(String sessionId) {
+        String key = RedisKey.SESSION_ROOM.makeKey(sessionId);
+        commands.add(ops -> ops.delete(key));
+        afterCommit.add(() -> sessionNearCache.update(SessionNearCache.Kind.ROOM, sessionId, null));
+    }
+
+    /**
+     * 모은 쓰기를 파이프라인 한 번으로 보냅니다.
+     * 방 저장을 앞에 두어(방마다 SET, INCR, EXPIRE), 방 목록에 올라간 시점에는 방 키가 이미 있도록 합니다.
+     */
+    public void commit() {
+        if (rooms.isEmpty() && commands.isEmpty()) return;
+
+        List<Room> savedRooms = new ArrayList<>(rooms.values());
+        List<byte[]> roomData = new ArrayList<>(savedRooms.size());
+        for (Room room : savedRooms) {
+            roomData.add(roomCodec.encode(room));
+            // 예전 키에서 읽은 방은 샤드 키로 옮겨 저장하면서 예전 키를 지움 (방 저장 결과의 순서를 흩뜨리지 않도록 뒤에 붙임)
+            if (legacyRoomIds.remove(room.getRoomId())) {
+                String legacyKey = RedisKey.ROOM.makeKey(room.getRoomId());
+                commands.add(ops -> ops.delete(legacyKey));
+            }
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                for (int i = 0; i < savedRooms.size(); i++) {
+                    String roomId = savedRooms.get(i).getRoomId();
+                    String versionKey = RedisKey.ROOM_VERSION.makeRoomKey(roomId);
+                    ops.opsForValue().set(RedisKey.ROOM.makeRoomKey(roomId), roomData.get(i),
+                            RoomRepository.ROOM_TTL_HOURS, TimeUnit.HOURS);
+                    ops.opsForValue().increment(versionKey);
+                    ops.expire(versionKey, RoomRepository.ROOM_TTL_HOURS, TimeUnit.HOURS);
+                }
+                commands.forEach(command -> command.accept(ops));
+                return null;
+            }
+        });
+
+        for (int i = 0; i < savedRooms.size(); i++) {
+            Room room = savedRooms.get(i);
+            int versionIndex = i * 3 + 1; // 방마다 SET, INCR, EXPIRE 순서
+            if (versionIndex < results.size() && results.get(versionIndex) instanceof Long version) {
+                roomSnapshotCache.update(RoomSnapshot.of(room, version));
+            }
+        }
+        afterCommit.forEach(Runnable::run);
+    }
+
+    // 방 키 템플릿은 값을 바이트로 받으므로, 세션 매핑과 색인의 문자열 값은 StringRedisTemplate 과 같은 UTF-8 로 넘김
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
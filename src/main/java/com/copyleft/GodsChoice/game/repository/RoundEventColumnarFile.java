@@ -0,0 +1,284 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 라운드 이벤트 컬럼 파일 (*.gcol)
+ * 행 단위가 아니라 컬럼 단위로 저장해서, 분석할 때 필요한 컬럼만 읽고 나머지는 건너뜁니다.
+ * 문자열 컬럼은 사전(dictionary) 인코딩, 파일 전체는 gzip 압축
+ *
+ * 형식: MAGIC, VERSION, 행 수, 컬럼 수, [컬럼 이름, 타입, 바이트 길이, 데이터]...
+ */
+public final class RoundEventColumnarFile {
+
+    public static final String EXTENSION = ".gcol";
+
+    private static final int MAGIC = 0x47434F4C; // "GCOL"
+    private static final byte VERSION = 1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NULL_CODE = -1;
+
+    private enum Kind { INT, LONG, BOOL, DICT }
+
+    private enum Column {
+        TYPE("type", Kind.DICT, e -> e.type().name()),
+        ROOM_ID("room_id", Kind.DICT, RoundEvent::roomId),
+        ROUND("round", Kind.INT, RoundEvent::round),
+        TIMESTAMP("timestamp", Kind.LONG, RoundEvent::timestamp),
+        PERSONALITY("personality", Kind.DICT, e -> nameOf(e.personality())),
+        ORACLE("oracle", Kind.DICT, e -> nameOf(e.oracle())),
+        SENTENCE("sentence", Kind.DICT, RoundEvent::sentence),
+        SCORE("score", Kind.INT, RoundEvent::score),
+        VOTE_PASSED("vote_passed", Kind.BOOL, RoundEvent::votePassed),
+        TRIAL_SUCCESS("trial_success", Kind.BOOL, RoundEvent::trialSuccess),
+        TRIAL_TARGET_ROLE("trial_target_role", Kind.DICT, e -> nameOf(e.trialTargetRole())),
+        HP_AFTER("hp_after", Kind.INT, RoundEvent::hpAfter);
+
+        private final String columnName;
+        private final Kind kind;
+        private final Function<RoundEvent, Object> extractor;
+
+        Column(String columnName, Kind kind, Function<RoundEvent, Object> extractor) {
+            this.columnName = columnName;
+            this.kind = kind;
+            this.extractor = extractor;
+        }
+    }
+
+    public static final List<String> COLUMN_NAMES = Arrays.stream(Column.values()).map(c -> c.columnName).toList();
+
+    private RoundEventColumnarFile() {}
+
+    public static void write(Path file, List<RoundEvent> events) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(events.size());
+            out.writeInt(Column.values().length);
+
+            for (Column column : Column.values()) {
+                byte[] data = encode(column, events);
+                out.writeUTF(column.columnName);
+                out.writeByte(column.kind.ordinal());
+                out.writeInt(data.length);
+                out.write(data);
+            }
+        }
+    }
+
+    /**
+     * 지정한 컬럼만 읽습니다. 비어 있으면 전부 읽습니다.
+     */
+    public static Columns read(Path file, Set<String> columnNames) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("컬럼 파일 형식이 아님: " + file);
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 컬럼 파일 버전: " + version);
+            }
+
+            int rowCount = in.readInt();
+            int columnCount = in.readInt();
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < columnCount; i++) {
+                String name = in.readUTF();
+                Kind kind = Kind.values()[in.readByte()];
+                int length = in.readInt();
+
+                if (!columnNames.isEmpty() && !columnNames.contains(name)) {
+                    in.skipNBytes(length);
+                    continue;
+                }
+                values.put(name, decode(kind, rowCount, in));
+            }
+            return new Columns(rowCount, values);
+        }
+    }
+
+    public static List<RoundEvent> readAll(Path file) throws IOException {
+        return read(file, Set.of()).toEvents();
+    }
+
+    private static byte[] encode(Column column, List<RoundEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+
+        switch (column.kind) {
+            case INT -> {
+                for (RoundEvent event : events) {
+                    Object value = column.extractor.apply(event);
+                    out.writeInt(value == null ? NULL_INT : (Integer) value);
+                }
+            }
+            case LONG -> {
+                for (RoundEvent event : events) {
+                    out.writeLong((Long) column.extractor.apply(event));
+                }
+            }
+            case BOOL -> {
+                for (RoundEvent event : events) {
+                    Object value = column.extractor.apply(event);
+                    out.writeByte(value == null ? -1 : ((Boolean) value ? 1 : 0));
+                }
+            }
+            case DICT -> {
+                Map<String, Integer> dictionary = new LinkedHashMap<>();
+                int[] codes = new int[events.size()];
+                for (int i = 0; i < events.size(); i++) {
+                    Object value = column.extractor.apply(events.get(i));
+                    codes[i] = value == null ? NULL_CODE : dictionary.computeIfAbsent((String) value, k -> dictionary.size());
+                }
+                out.writeInt(dictionary.size());
+                for (String entry : dictionary.keySet()) {
+                    out.writeUTF(entry);
+                }
+                for (int code : codes) {
+                    out.writeInt(code);
+                }
+            }
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static Object decode(Kind kind, int rowCount, DataInputStream in) throws IOException {
+        switch (kind) {
+            case INT -> {
+                Integer[] values = new Integer[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    int value = in.readInt();
+                    values[i] = value == NULL_INT ? null : value;
+                }
+                return values;
+            }
+            case LONG -> {
+                long[] values = new long[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    values[i] = in.readLong();
+                }
+                return values;
+            }
+            case BOOL -> {
+                Boolean[] values = new Boolean[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    byte value = in.readByte();
+                    values[i] = value < 0 ? null : value == 1;
+                }
+                return values;
+            }
+            default -> {
+                String[] dictionary = new String[in.readInt()];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = in.readUTF();
+                }
+                String[] values = new String[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    int code = in.readInt();
+                    values[i] = code == NULL_CODE ? null : dictionary[code];
+                }
+                return values;
+            }
+        }
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, String name) {
+        return name == null ? null : Enum.valueOf(type, name);
+    }
+
+    /**
+     * 읽어 온 컬럼 묶음
+     */
+    public record Columns(int rowCount, Map<String, Object> values) {
+
+        public Integer[] ints(String name) {
+            return (Integer[]) require(name);
+        }
+
+        public long[] longs(String name) {
+            return (long[]) require(name);
+        }
+
+        public Boolean[] bools(String name) {
+            return (Boolean[]) require(name);
+        }
+
+        public String[] strings(String name) {
+            return (String[]) require(name);
+        }
+
+        private Object require(String name) {
+            Object column = values.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("읽지 않은 컬럼: " + name);
+            }
+            return column;
+        }
+
+        /**
+         * 모든 컬럼을 읽었을 때 행 단위 이벤트로 되돌립니다.
+         */
+        public List<RoundEvent> toEvents() {
+            String[] types = strings(Column.TYPE.columnName);
+            String[] roomIds = strings(Column.ROOM_ID.columnName);
+            Integer[] rounds = ints(Column.ROUND.columnName);
+            long[] timestamps = longs(Column.TIMESTAMP.columnName);
+            String[] personalities = strings(Column.PERSONALITY.columnName);
+            String[] oracles = strings(Column.ORACLE.columnName);
+            String[] sentences = strings(Column.SENTENCE.columnName);
+            Integer[] scores = ints(Column.SCORE.columnName);
+            Boolean[] votePassed = bools(Column.VOTE_PASSED.columnName);
+            Boolean[] trialSuccess = bools(Column.TRIAL_SUCCESS.columnName);
+            String[] targetRoles = strings(Column.TRIAL_TARGET_ROLE.columnName);
+            Integer[] hpAfter = ints(Column.HP_AFTER.columnName);
+
+            List<RoundEvent> events = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                events.add(new RoundEvent(
+                        RoundEvent.Type.valueOf(types[i]),
+                        roomIds[i],
+                        rounds[i],
+                        timestamps[i],
+                        enumOf(GodPersonality.class, personalities[i]),
+                        enumOf(Oracle.class, oracles[i]),
+                        sentences[i],
+                        scores[i],
+                        votePassed[i],
+                        trialSuccess[i],
+                        enumOf(PlayerRole.class, targetRoles[i]),
+                        hpAfter[i]
+                ));
+            }
+            return events;
+        }
+    }
+}
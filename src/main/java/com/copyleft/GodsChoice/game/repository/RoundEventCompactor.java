@@ -0,0 +1,112 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 닫힌 라운드 이벤트 세그먼트를 주기적으로 컬럼 파일(round-events-{첫 세그먼트}-{마지막 세그먼트}.gcol)로 합칩니다.
+ * 컬럼 파일을 먼저 만든 뒤 세그먼트를 지우므로, 중간에 죽어도 다음 실행에서 같은 이름을 보고 세그먼트만 정리합니다.
+ */
+@Slf4j
+@Component
+public class RoundEventCompactor {
+
+    static final String OUTPUT_PREFIX = "round-events-";
+
+    private final RoundEventLog roundEventLog;
+    private final ObjectMapper objectMapper;
+    private final Timer compactionTimer;
+
+    public RoundEventCompactor(RoundEventLog roundEventLog, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.roundEventLog = roundEventLog;
+        this.objectMapper = objectMapper;
+        this.compactionTimer = meterRegistry.timer("analytics.compaction");
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.compact-interval-ms:600000}")
+    public void compact() {
+        if (!roundEventLog.isEnabled()) return;
+
+        compactionTimer.record(() -> {
+            try {
+                compactSealedSegments();
+            } catch (IOException e) {
+                log.error("라운드 이벤트 컴팩션 실패", e);
+            }
+        });
+    }
+
+    /**
+     * @return 만든 컬럼 파일, 합칠 세그먼트가 없으면 null
+     */
+    public synchronized Path compactSealedSegments() throws IOException {
+        Path dir = roundEventLog.getDir();
+        List<Path> segments = listSealedSegments(dir);
+        if (segments.isEmpty()) return null;
+
+        Path output = dir.resolve(OUTPUT_PREFIX + segmentId(segments.getFirst()) + "-"
+                + segmentId(segments.getLast()) + RoundEventColumnarFile.EXTENSION);
+
+        if (!Files.exists(output)) {
+            List<RoundEvent> events = new ArrayList<>();
+            for (Path segment : segments) {
+                readSegment(segment, events);
+            }
+
+            Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+            RoundEventColumnarFile.write(temp, events);
+            Files.move(temp, output, StandardCopyOption.ATOMIC_MOVE);
+            log.info("라운드 이벤트 컴팩션 완료: segments={}, events={}, file={}", segments.size(), events.size(), output.getFileName());
+        }
+
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+        return output;
+    }
+
+    private void readSegment(Path segment, List<RoundEvent> events) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(segment)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    events.add(objectMapper.readValue(line, RoundEvent.class));
+                } catch (IOException e) {
+                    // 비정상 종료로 마지막 줄이 잘린 경우
+                    log.warn("라운드 이벤트 줄 읽기 실패, 건너뜀: file={}, msg={}", segment.getFileName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static List<Path> listSealedSegments(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> {
+                        String name = f.getFileName().toString();
+                        return name.startsWith(RoundEventLog.SEGMENT_PREFIX) && name.endsWith(RoundEventLog.SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(segmentId(a), segmentId(b)))
+                    .toList();
+        }
+    }
+
+    private static long segmentId(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(RoundEventLog.SEGMENT_PREFIX.length(), name.length() - RoundEventLog.SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,245 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
+import com.copyleft.GodsChoice.global.config.AnalyticsProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 라운드 이벤트 append-only 세그먼트 기록
+ * 게임 스레드는 대기열에 넣기만 하고, 전용 스레드가 JSON 한 줄씩 현재 세그먼트(segment-*.jsonl.open)에 이어 씁니다.
+ * 세그먼트가 segmentMaxBytes 나 segmentMaxAgeMs 를 넘으면 닫고(.jsonl 로 이름 변경) 새 세그먼트를 엽니다.
+ * 닫힌 세그먼트는 RoundEventCompactor 가 컬럼 파일로 합칩니다.
+ * 쓰기 중 IO 오류가 나면 그 이벤트만 실패로 세고, 세그먼트를 닫은 뒤 잠시 쉬었다가 새 세그먼트로 계속 씁니다.
+ * 기록 스레드 상태는 isWriterHealthy (health 의 roundEventLog, analytics.writer.up 게이지)로 확인합니다.
+ */
+@Slf4j
+@Repository
+public class RoundEventLog {
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".jsonl";
+    private static final String OPEN_SUFFIX = ".open";
+    private static final long POLL_MS = 200;
+    private static final long SHUTDOWN_WAIT_MS = 5_000;
+    private static final long ERROR_BACKOFF_MS = 1_000;
+
+    private final AnalyticsProperties properties;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<RoundEvent> queue;
+    private final Path dir;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+    private volatile String lastError; // 마지막 쓰기 실패 원인, 다음 쓰기가 성공하면 null
+
+    // 아래는 writer 스레드에서만 사용
+    private OutputStream segment;
+    private Path segmentPath;
+    private long segmentBytes;
+    private long segmentOpenedAt;
+    private long lastSegmentId;
+
+    public RoundEventLog(AnalyticsProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+        this.dir = StringUtils.hasText(properties.path()) ? Path.of(properties.path()) : null;
+
+        this.writtenCounter = meterRegistry.counter("analytics.events", "result", "written");
+        this.droppedCounter = meterRegistry.counter("analytics.events", "result", "dropped");
+        this.failedCounter = meterRegistry.counter("analytics.events", "result", "failed");
+        meterRegistry.gaugeCollectionSize("analytics.queue.depth", List.of(), queue);
+        meterRegistry.gauge("analytics.writer.up", this, eventLog -> eventLog.isWriterHealthy() ? 1 : 0);
+    }
+
+    public boolean isEnabled() {
+        return dir != null;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    /**
+     * 기록을 끈 경우는 정상, 켠 경우는 기록 스레드가 살아 있고 마지막 쓰기가 성공했을 때만 정상
+     */
+    public boolean isWriterHealthy() {
+        if (!isEnabled()) return true;
+        Thread thread = writer;
+        return thread != null && thread.isAlive() && lastError == null;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!isEnabled()) return;
+
+        Files.createDirectories(dir);
+        sealLeftoverSegments();
+        running = true;
+        writer = Thread.ofPlatform().name("round-event-writer").daemon().start(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(SHUTDOWN_WAIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 이벤트를 기록 대기열에 넣습니다. 게임 스레드를 붙잡지 않도록 기다리지 않고, 꽉 차 있으면 버립니다.
+     */
+    public void append(RoundEvent event) {
+        if (!isEnabled()) return;
+
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.warn("라운드 이벤트 대기열 초과로 버림: room={}, type={}", event.roomId(), event.type());
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (running || !queue.isEmpty()) {
+                RoundEvent event = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                try {
+                    if (event != null) {
+                        write(event);
+                    }
+                    if (queue.isEmpty() && segment != null) {
+                        segment.flush();
+                    }
+                    rollIfNeeded();
+                } catch (IOException e) {
+                    onWriteFailure(event, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            seal();
+        }
+    }
+
+    /**
+     * 쓰던 세그먼트는 쓴 데까지 닫아 넘기고, 다음 이벤트는 새 세그먼트에 씁니다.
+     * 디스크가 꽉 찬 경우처럼 바로 다시 실패할 수 있어 잠시 쉰 뒤 이어 갑니다 (그동안 대기열이 차면 append 에서 버림).
+     */
+    private void onWriteFailure(RoundEvent event, IOException e) throws InterruptedException {
+        failedCounter.increment();
+        lastError = e.toString();
+        log.error("라운드 이벤트 기록 실패, 세그먼트를 닫고 새로 엶: file={}, room={}",
+                segmentPath, event == null ? null : event.roomId(), e);
+        seal();
+        Thread.sleep(ERROR_BACKOFF_MS);
+    }
+
+    private void write(RoundEvent event) throws IOException {
+        byte[] line;
+        try {
+            line = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            // 이벤트 자체의 문제라 세그먼트는 그대로 씀
+            failedCounter.increment();
+            log.error("라운드 이벤트 직렬화 실패로 버림: room={}, type={}", event.roomId(), event.type(), e);
+            return;
+        }
+
+        if (segment == null) {
+            openSegment();
+        }
+        segment.write(line);
+        segment.write('\n');
+        segmentBytes += line.length + 1;
+        writtenCounter.increment();
+        lastError = null;
+    }
+
+    private void rollIfNeeded() {
+        if (segment == null) return;
+
+        boolean full = segmentBytes >= properties.segmentMaxBytes();
+        boolean old = System.currentTimeMillis() - segmentOpenedAt >= properties.segmentMaxAgeMs();
+        if (full || old) {
+            seal();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        // 이름 순서 = 생성 순서가 되도록 같은 밀리초에 열리면 1씩 올림
+        long segmentId = Math.max(System.currentTimeMillis(), lastSegmentId + 1);
+        lastSegmentId = segmentId;
+
+        segmentPath = dir.resolve(SEGMENT_PREFIX + segmentId + SEGMENT_SUFFIX + OPEN_SUFFIX);
+        segment = new BufferedOutputStream(new FileOutputStream(segmentPath.toFile(), true));
+        segmentBytes = 0;
+        segmentOpenedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 .open 을 떼서 컴팩션 대상으로 넘깁니다.
+     */
+    private void seal() {
+        if (segment == null) return;
+
+        try {
+            segment.close();
+            Files.move(segmentPath, sealedPath(segmentPath));
+        } catch (IOException e) {
+            log.error("라운드 이벤트 세그먼트 닫기 실패: file={}", segmentPath, e);
+        } finally {
+            segment = null;
+            segmentPath = null;
+        }
+    }
+
+    /**
+     * 비정상 종료로 남은 .open 세그먼트는 쓰던 내용까지만 닫힌 세그먼트로 취급합니다.
+     */
+    private void sealLeftoverSegments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX + OPEN_SUFFIX)).toList()) {
+                Files.move(file, sealedPath(file));
+                log.info("남은 라운드 이벤트 세그먼트 닫음: file={}", file);
+            }
+        }
+    }
+
+    private static Path sealedPath(Path openPath) {
+        String name = openPath.getFileName().toString();
+        return openPath.resolveSibling(name.substring(0, name.length() - OPEN_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 라운드 이벤트 기록 스레드 상태 (/actuator/health 의 roundEventLog)
+ */
+@Component
+@RequiredArgsConstructor
+public class RoundEventLogHealthIndicator implements HealthIndicator {
+
+    private final RoundEventLog roundEventLog;
+
+    @Override
+    public Health health() {
+        if (!roundEventLog.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+
+        Health.Builder builder = roundEventLog.isWriterHealthy() ? Health.up() : Health.down();
+        builder.withDetail("dir", roundEventLog.getDir().toString());
+        if (roundEventLog.getLastError() != null) {
+            builder.withDetail("lastError", roundEventLog.getLastError());
+        }
+        return builder.build();
+    }
+}
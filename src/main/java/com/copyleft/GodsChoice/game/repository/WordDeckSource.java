@@ -0,0 +1,22 @@
+package com.copyleft.GodsChoice.game.repository;
+
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+
+import java.util.List;
+
+/**
+ * 덱 공급원 (내장 단어, 파일, DB 등)
+ * 새 공급원은 이 인터페이스를 구현한 빈을 등록하면 WordDeckStore가 함께 읽어 들입니다.
+ */
+public interface WordDeckSource {
+
+    /**
+     * 현재 덱 목록을 읽어 옵니다. 실패한 덱은 건너뛰고 나머지만 반환합니다.
+     */
+    List<WordDeck> load();
+
+    /**
+     * 내용이 바뀌었는지 판단하기 위한 값. 이전 값과 다르면 다시 load() 합니다.
+     */
+    String fingerprint();
+}
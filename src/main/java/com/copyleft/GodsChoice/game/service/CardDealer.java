@@ -0,0 +1,83 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@RequiredArgsConstructor
+public class CardDealer {
+
+    private final WordDeckStore wordDeckStore;
+
+    // 부분 셔플용 작업 배열 (스레드마다 재사용, 덱이 커지면 늘림)
+    private final ThreadLocal<String[]> scratch = ThreadLocal.withInitial(() -> new String[32]);
+
+    public List<String> deal(String deckName, SlotType slotType, int count) {
+        return deal(deckName, slotType, count, Collections.emptySet());
+    }
+
+    /**
+     * 덱에서 슬롯의 단어 count장을 중복 없이 뽑습니다.
+     * @param deckName 방에 지정된 덱 (없으면 기본 덱)
+     * @param excluded 이번 게임에서 이미 나온 카드 (남은 카드가 부족하면 무시하고 전체에서 뽑음)
+     */
+    public List<String> deal(String deckName, SlotType slotType, int count, Set<String> excluded) {
+        if (slotType == null || count <= 0) return Collections.emptyList();
+
+        WordDeck deck = wordDeckStore.find(deckName);
+        String[] words = deck.words(slotType);
+        String[] pool = scratch(deck.getMaxSlotSize());
+
+        int size = fillPool(words, pool, excluded);
+        if (size < count) {
+            size = fillPool(words, pool, Collections.emptySet());
+        }
+
+        // 부분 Fisher–Yates: 앞에서부터 k장만 섞어서 확정
+        int k = Math.min(count, size);
+        String[] cards = new String[k];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(size - i);
+            String picked = pool[j];
+            pool[j] = pool[i];
+            pool[i] = picked;
+            cards[i] = picked;
+        }
+
+        wordDeckStore.recordDeal(deck, k);
+        return Arrays.asList(cards);
+    }
+
+    private String[] scratch(int minSize) {
+        String[] pool = scratch.get();
+        if (pool.length < minSize) {
+            pool = new String[minSize];
+            scratch.set(pool);
+        }
+        return pool;
+    }
+
+    private int fillPool(String[] words, String[] pool, Set<String> excluded) {
+        if (excluded == null || excluded.isEmpty()) {
+            System.arraycopy(words, 0, pool, 0, words.length);
+            return words.length;
+        }
+
+        int size = 0;
+        for (String word : words) {
+            if (!excluded.contains(word)) {
+                pool[size++] = word;
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,164 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.game.repository.GameEventOutbox;
+import com.copyleft.GodsChoice.global.config.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 의 게임 이벤트를 Kafka 로 묶어서 보냅니다.
+ * - 여러 노드 중 한 노드만 보내도록 Redisson 락을 잡고, 못 잡으면 이번 주기는 건너뜀
+ * - 방 ID를 메시지 키로 써서 같은 방의 이벤트 순서를 유지 (멱등 프로듀서라 재시도해도 중복/역전 없음)
+ * - 묶음 전체의 ack 를 받은 뒤에만 outbox 에서 지우므로, 실패하면 다음 주기에 다시 보냄 (at-least-once)
+ * - outbox 는 자르지 않으므로, 전체 길이가 alertLength 를 넘으면 outbox.backlog 게이지와 에러 로그로 알림
+ */
+@Slf4j
+@Component
+public class GameEventRelay {
+
+    private static final String LOCK_KEY = "game_event_outbox_relay";
+
+    private final GameEventOutbox outbox;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RedissonClient redissonClient;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    private boolean backlogAlerted;
+
+    public GameEventRelay(GameEventOutbox outbox,
+                          KafkaTemplate<String, String> kafkaTemplate,
+                          RedissonClient redissonClient,
+                          OutboxProperties properties,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.relayedCounter = meterRegistry.counter("outbox.relayed");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+        meterRegistry.gauge("outbox.backlog", backlog);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!properties.relayEnabled()) return;
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            // 한 주기에 보낼 수 있는 최대 시간만큼만 점유 (노드가 죽어도 락이 풀리도록)
+            if (!lock.tryLock(0, properties.sendTimeoutMs() * 2, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            relayBatch();
+            checkBacklog();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 샤드마다 outbox 앞쪽의 한 묶음을 보내고, 그 샤드의 묶음이 모두 ack 되면 지웁니다.
+     * 모든 샤드를 먼저 보낸 뒤 같은 기한(sendTimeoutMs) 안에서 ack 를 기다리므로, 락 점유 시간 안에 끝납니다.
+     * 한 샤드가 실패해도 다른 샤드는 지웁니다.
+     * @return 보낸 이벤트 수
+     */
+    public int relayBatch() {
+        Map<Integer, List<String>> eventsByShard = outbox.peekAll(properties.batchSize());
+        if (eventsByShard.isEmpty()) return 0;
+
+        Map<Integer, CompletableFuture<Void>> sendsByShard = new LinkedHashMap<>();
+        eventsByShard.forEach((shard, events) -> sendsByShard.put(shard, send(events)));
+
+        long deadline = System.currentTimeMillis() + properties.sendTimeoutMs();
+        int relayed = 0;
+        for (Map.Entry<Integer, CompletableFuture<Void>> entry : sendsByShard.entrySet()) {
+            int shard = entry.getKey();
+            List<String> events = eventsByShard.get(shard);
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return relayed;
+            } catch (Exception e) {
+                failedCounter.increment(events.size());
+                log.error("게임 이벤트 Kafka 전달 실패, 다음 주기에 재시도: shard={}, count={}", shard, events.size(), e);
+                continue;
+            }
+
+            if (!outbox.remove(shard, events)) {
+                // 락 점유 시간이 지나 다른 노드가 먼저 보내고 지운 경우 (이벤트는 중복 전달됐을 수 있음)
+                log.warn("outbox 앞쪽이 읽은 이벤트와 달라 지우지 않음: shard={}, count={}", shard, events.size());
+            }
+            relayedCounter.increment(events.size());
+            relayed += events.size();
+            log.debug("게임 이벤트 Kafka 전달 완료: shard={}, count={}", shard, events.size());
+        }
+        return relayed;
+    }
+
+    /**
+     * 남은 이벤트 수를 게이지로 내보내고, 기준을 넘는 순간과 다시 내려오는 순간에 로그를 남깁니다.
+     */
+    private void checkBacklog() {
+        long size = outbox.size();
+        backlog.set(size);
+
+        boolean over = size > properties.alertLength();
+        if (over && !backlogAlerted) {
+            log.error("게임 이벤트 outbox 적체: {}건 (기준 {}건), Kafka 전달 상태 확인 필요", size, properties.alertLength());
+        } else if (!over && backlogAlerted) {
+            log.info("게임 이벤트 outbox 적체 해소: {}건", size);
+        }
+        backlogAlerted = over;
+    }
+
+    private CompletableFuture<Void> send(List<String> events) {
+        try {
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(events.size());
+            for (String event : events) {
+                sends.add(kafkaTemplate.send(properties.topic(), roomIdOf(event), event));
+            }
+            return CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String roomIdOf(String event) {
+        try {
+            return objectMapper.readTree(event).path("roomId").asText(null);
+        } catch (IOException e) {
+            log.warn("게임 이벤트 파싱 실패, 키 없이 전달: event={}", event);
+            return null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.copyleft.GodsChoice.game.service;
 import com.copyleft.GodsChoice.global.config.GameProperties;
 import com.copyleft.GodsChoice.domain.Player;
 import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.log.GameEvent;
 import com.copyleft.GodsChoice.domain.type.*;
 import com.copyleft.GodsChoice.game.event.GameDecisionEvent;
 import com.copyleft.GodsChoice.game.event.GameUserTimeoutEvent;
@@ -34,6 +35,8 @@ public class GameFlowService {
     private final GameLogService gameLogService;
     private final GameProperties gameProperties;
     private final GameJudgeService gameJudgeService;
+    private final CardDealer cardDealer;
+    private final WordDeckStore wordDeckStore;
     private final ApplicationEventPublisher eventPublisher;
 
     @EventListener
@@ -123,7 +126,7 @@ public class GameFlowService {
             room.clearPhaseData();
             assignRolesAndScenario(room);
 
-            roomRepository.saveRoom(room);
+            roomRepository.saveRoom(room, GameEvent.gameStarted(room));
             roomRepository.removeWaitingRoom(roomId);
 
             gameResponseSender.broadcastLoadGameScene(room);
@@ -153,6 +156,7 @@ public class GameFlowService {
         Random random = new Random();
         room.setOracle(pickNewUniqueOracle(room));
         room.setGodPersonality(GodPersonality.values()[random.nextInt(GodPersonality.values().length)]);
+        room.setDeckName(wordDeckStore.pickDeckName(room.getDeckTheme()));
     }
 
     // 라운드 진행 흐름
@@ -230,7 +234,8 @@ public class GameFlowService {
 
     private void processCardDistribution(Room room) {
         Map<SlotType, PlayerColor> slotOwners = collectSlotOwners(room.getPlayers());
-        distributeCardsToPlayers(room.getPlayers(), slotOwners);
+        distributeCardsToPlayers(room, slotOwners);
+        roomRepository.saveRoom(room);
         log.info("카드 및 슬롯 정보 전송 완료: room={}", room.getRoomId());
     }
 
@@ -240,11 +245,16 @@ public class GameFlowService {
                 .collect(Collectors.toMap(Player::getSlot, Player::getColor));
     }
 
-    private void distributeCardsToPlayers(List<Player> players, Map<SlotType, PlayerColor> slotOwners) {
-        players.stream()
+    private void distributeCardsToPlayers(Room room, Map<SlotType, PlayerColor> slotOwners) {
+        if (room.getUsedCards() == null) {
+            room.setUsedCards(new HashSet<>());
+        }
+
+        room.getPlayers().stream()
                 .filter(p -> p.getSlot() != null)
                 .forEach(player -> {
-                    List<String> cards = WordData.getRandomCards(player.getSlot(), gameProperties.cardCount());
+                    List<String> cards = cardDealer.deal(room.getDeckName(), player.getSlot(), gameProperties.cardCount(), room.getUsedCards());
+                    room.getUsedCards().addAll(cards);
                     gameResponseSender.sendCards(player.getSessionId(), player.getSlot(), cards, slotOwners);
                 });
     }
@@ -328,10 +338,10 @@ public class GameFlowService {
 
         room.setStatus(RoomStatus.GAME_OVER);
         room.clearPhaseData();
-        roomRepository.saveRoom(room);
+        roomRepository.saveRoom(room, GameEvent.gameOver(room, winnerRole.name()));
 
         gameResponseSender.broadcastGameOver(room, winnerRole);
-        gameLogService.saveGameLogAsync(room, winnerRole.name());
+        gameLogService.recordGameResult(room, winnerRole.name());
 
         taskScheduler.schedule(() -> cleanupGameOverRoom(room.getRoomId()), Instant.now().plusSeconds(gameProperties.gameOverCleanupTime()));
 
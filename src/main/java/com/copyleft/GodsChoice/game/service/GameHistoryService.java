@@ -0,0 +1,116 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
+import com.copyleft.GodsChoice.game.dto.GamePayloads;
+import com.copyleft.GodsChoice.game.repository.GameLogRepository;
+import com.copyleft.GodsChoice.global.config.GameHistoryProperties;
+import com.copyleft.GodsChoice.global.constant.ErrorCode;
+import com.copyleft.GodsChoice.global.util.BoundedTtlMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 게임 기록 조회 (played_at, id 키셋 페이지네이션)
+ * OFFSET 을 쓰지 않아 몇 번째 페이지든 인덱스에서 size+1 건만 읽습니다.
+ * 가장 많이 보는 첫 페이지는 짧게 노드 메모리에 캐시합니다.
+ */
+@Slf4j
+@Service
+public class GameHistoryService {
+
+    private static final String ALL_ROOMS = "*";
+
+    private final GameLogRepository gameLogRepository;
+    private final GameResponseSender gameResponseSender;
+    private final GameHistoryProperties properties;
+
+    private final BoundedTtlMap<String, CachedPage> firstPageCache;
+
+    private record CachedPage(long expiresAt, GamePayloads.GameHistory page) {}
+
+    private record Cursor(LocalDateTime playedAt, long id) {}
+
+    public GameHistoryService(GameLogRepository gameLogRepository,
+                              GameResponseSender gameResponseSender,
+                              GameHistoryProperties properties) {
+        this.gameLogRepository = gameLogRepository;
+        this.gameResponseSender = gameResponseSender;
+        this.properties = properties;
+        this.firstPageCache = new BoundedTtlMap<>(properties.firstPageCacheSize(), CachedPage::expiresAt);
+    }
+
+    public void getHistory(String sessionId, String roomId, String cursor, Integer size) {
+        try {
+            gameResponseSender.sendGameHistory(sessionId, findPage(roomId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 게임 기록 커서: session={}, cursor={}", sessionId, cursor);
+            gameResponseSender.sendError(sessionId, ErrorCode.INVALID_HISTORY_CURSOR);
+        }
+    }
+
+    public GamePayloads.GameHistory findPage(String roomId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? properties.defaultPageSize() : Math.min(size, properties.maxPageSize());
+
+        if (!StringUtils.hasText(cursor)) {
+            return findFirstPage(roomId, pageSize);
+        }
+
+        Cursor decoded = decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        List<GameLogSummary> rows = StringUtils.hasText(roomId)
+                ? gameLogRepository.findBeforeByRoomId(roomId, decoded.playedAt(), decoded.id(), limit)
+                : gameLogRepository.findBefore(decoded.playedAt(), decoded.id(), limit);
+        return toPage(rows, pageSize);
+    }
+
+    private GamePayloads.GameHistory findFirstPage(String roomId, int pageSize) {
+        String cacheKey = (StringUtils.hasText(roomId) ? roomId : ALL_ROOMS) + ":" + pageSize;
+        long now = System.currentTimeMillis();
+
+        CachedPage cached = firstPageCache.get(cacheKey, now);
+        if (cached != null) {
+            return cached.page();
+        }
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<GameLogSummary> rows = StringUtils.hasText(roomId)
+                ? gameLogRepository.findLatestByRoomId(roomId, limit)
+                : gameLogRepository.findLatest(limit);
+        GamePayloads.GameHistory page = toPage(rows, pageSize);
+
+        firstPageCache.put(cacheKey, new CachedPage(now + properties.firstPageCacheTtlMs(), page), now);
+        return page;
+    }
+
+    private static GamePayloads.GameHistory toPage(List<GameLogSummary> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<GameLogSummary> logs = hasNext ? List.copyOf(rows.subList(0, pageSize)) : List.copyOf(rows);
+
+        return GamePayloads.GameHistory.builder()
+                .logs(logs)
+                .nextCursor(hasNext ? encode(logs.getLast()) : null)
+                .build();
+    }
+
+    private static String encode(GameLogSummary last) {
+        String raw = last.playedAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf('|');
+            return new Cursor(LocalDateTime.parse(raw.substring(0, split)), Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.copyleft.GodsChoice.game.service;
 
 import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.JudgeProperties;
 import com.copyleft.GodsChoice.domain.Player;
 import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.log.GameEvent;
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
 import com.copyleft.GodsChoice.domain.type.*;
 import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.domain.vo.HeuristicJudgment;
 import com.copyleft.GodsChoice.game.dto.GamePayloads;
 import com.copyleft.GodsChoice.game.event.GameDecisionEvent;
 import com.copyleft.GodsChoice.game.event.PlayerLeftEvent;
-import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.RoundEventLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,13 +34,20 @@ public class GameJudgeService {
     private final RoomRepository roomRepository;
     private final GameRoomLockFacade lockFacade;
     private final GameResponseSender gameResponseSender;
-    private final GroqApiClient groqApiClient;
     private final TaskScheduler taskScheduler;
     private final GameProperties gameProperties;
+    private final CardDealer cardDealer;
+    private final HeuristicJudge heuristicJudge;
+    private final JudgeProperties judgeProperties;
+    private final SpeculativeJudgeCache speculativeJudgeCache;
+    private final JudgeRequestScheduler judgeRequestScheduler;
+    private final RoundEventLog roundEventLog;
+    private final GameStatsService gameStatsService;
 
     private final ApplicationEventPublisher eventPublisher;
 
     private record AiPromptData(
+            String roomId,
             String fullSentence,
             List<GamePayloads.SentencePart> parts,
             GodPersonality personality,
@@ -101,26 +113,64 @@ public class GameJudgeService {
             room.setCurrentPhase(GamePhase.JUDGING);
             roomRepository.saveRoom(room);
 
-            List<GamePayloads.SentencePart> parts = constructSentenceParts(room);
-            String fullSentence = constructSentenceString(parts);
-            GodPersonality personality = (room.getGodPersonality() != null)
-                    ? room.getGodPersonality()
-                    : GodPersonality.WHIMSICAL;
-            Oracle oracle = (room.getOracle() != null)
-                    ? room.getOracle()
-                    : Oracle.VITALITY;
-
-            return new AiPromptData(fullSentence, parts, personality, oracle, room.getCurrentRound());
+            return createPromptData(room);
         });
 
         if (result.isSkipped() || !result.isSuccess()) return;
 
         AiPromptData promptData = result.getData();
-        AiJudgment judgment = groqApiClient.judgeSentence(promptData.fullSentence(), promptData.personality(), promptData.oracle());
+        AiJudgment judgment = speculativeJudgeCache.take(roomId, promptData.round(), promptData.fullSentence())
+                .orElseGet(() -> judge(promptData, Instant.now()));
 
         applyJudgmentResult(roomId, judgment.score(), judgment.reason(), promptData.parts(), promptData.fullSentence(), promptData.round());
     }
 
+    /**
+     * 문장이 완성되면 심판 연출 대기(judgeDelay) 동안 AI 판정을 미리 시작합니다.
+     * 대기 중 카드가 바뀌면 심판 시점의 문장과 달라지므로 결과는 버려지고 다시 요청합니다.
+     */
+    public void prefetchJudgment(Room room) {
+        AiPromptData promptData = createPromptData(room);
+        Instant judgeAt = Instant.now().plusSeconds(gameProperties.judgeDelay());
+        speculativeJudgeCache.start(room.getRoomId(), promptData.round(), promptData.fullSentence(), () -> judge(promptData, judgeAt));
+    }
+
+    private AiPromptData createPromptData(Room room) {
+        List<GamePayloads.SentencePart> parts = constructSentenceParts(room);
+        String fullSentence = constructSentenceString(parts);
+        GodPersonality personality = (room.getGodPersonality() != null)
+                ? room.getGodPersonality()
+                : GodPersonality.WHIMSICAL;
+        Oracle oracle = (room.getOracle() != null)
+                ? room.getOracle()
+                : Oracle.VITALITY;
+
+        return new AiPromptData(room.getRoomId(), fullSentence, parts, personality, oracle, room.getCurrentRound());
+    }
+
+    /**
+     * @param judgeAt 결과가 필요한 시각 (LLM 요청 스케줄러의 우선순위 기준)
+     */
+    private AiJudgment judge(AiPromptData promptData, Instant judgeAt) {
+        List<String> words = promptData.parts().stream()
+                .map(GamePayloads.SentencePart::getWord)
+                .toList();
+        HeuristicJudgment local = heuristicJudge.judge(words, promptData.personality(), promptData.oracle());
+
+        if (judgeProperties.prefilterEnabled() && local.confidence() >= judgeProperties.prefilterConfidence()) {
+            log.info("로컬 심판 확신도 충분, LLM 호출 생략: confidence={}, score={}", local.confidence(), local.score());
+            return local.toAiJudgment();
+        }
+
+        AiJudgment judgment = judgeRequestScheduler.execute(promptData.roomId(), judgeAt,
+                new JudgeRequest(promptData.fullSentence(), promptData.personality(), promptData.oracle()));
+        if (judgment.isFallback()) {
+            log.warn("LLM 판정 실패, 로컬 심판으로 대체: score={}", local.score());
+            return local.toAiJudgment();
+        }
+        return judgment;
+    }
+
     private void applyJudgmentResult(String roomId, int score, String reason, List<GamePayloads.SentencePart> parts, String fullSentence, int targetRound) {
         lockFacade.execute(roomId, () -> {
             Room room = roomRepository.findRoomById(roomId).orElse(null);
@@ -131,7 +181,9 @@ public class GameJudgeService {
             }
 
             room.adjustHp(score);
-            roomRepository.saveRoom(room);
+            roomRepository.saveRoom(room, GameEvent.roundJudged(room, score, fullSentence));
+            roundEventLog.append(RoundEvent.judged(room, fullSentence, score));
+            gameStatsService.recordRoundScore(room.getOracle(), score);
 
             gameResponseSender.broadcastRoundResult(room, score, reason, parts, fullSentence);
 
@@ -153,7 +205,7 @@ public class GameJudgeService {
             boolean changed = false;
             for (Player p : room.getPlayers()) {
                 if (p.getSelectedCard() == null) {
-                    List<String> randomCards = WordData.getRandomCards(p.getSlot(), 1);
+                    List<String> randomCards = cardDealer.deal(room.getDeckName(), p.getSlot(), 1);
                     if (!randomCards.isEmpty()) {
                         p.setSelectedCard(randomCards.getFirst());
                         changed = true;
@@ -183,6 +235,7 @@ public class GameJudgeService {
 
             boolean isPassed = room.isVotePassed();
             log.info("찬반 투표 결과: room={}, passed={}", roomId, isPassed);
+            roundEventLog.append(RoundEvent.voteProposal(room, isPassed));
 
             if (isPassed) {
                 taskScheduler.schedule(
@@ -218,8 +271,9 @@ public class GameJudgeService {
             if (targetId == null) {
                 log.info("투표 무효 (동점 또는 득표 없음): room={}", roomId);
                 room.changePhase(GamePhase.TRIAL_RESULT);
-                roomRepository.saveRoom(room);
+                roomRepository.saveRoom(room, GameEvent.trialResult(room, false, null));
                 gameResponseSender.broadcastTrialResult(room, false, null, null);
+                roundEventLog.append(RoundEvent.trial(room, false, null));
 
                 taskScheduler.schedule(
                         () -> eventPublisher.publishEvent(new GameDecisionEvent(roomId, GameDecisionEvent.Type.TRIAL_FINISHED)),
@@ -243,9 +297,10 @@ public class GameJudgeService {
             }
 
             room.changePhase(GamePhase.TRIAL_RESULT);
-            roomRepository.saveRoom(room);
+            roomRepository.saveRoom(room, GameEvent.trialResult(room, success, target != null ? targetRole : null));
 
             gameResponseSender.broadcastTrialResult(room, success, targetNickname, targetRole);
+            roundEventLog.append(RoundEvent.trial(room, success, target != null ? targetRole : null));
             log.info("심문 결과: target={}, success={}, hp={}", targetNickname, success, room.getCurrentHp());
 
             taskScheduler.schedule(
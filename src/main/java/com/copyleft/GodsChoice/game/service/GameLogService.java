@@ -1,42 +1,47 @@
 package com.copyleft.GodsChoice.game.service;
 
 import com.copyleft.GodsChoice.domain.Room;
-import com.copyleft.GodsChoice.domain.log.GameLog;
-import com.copyleft.GodsChoice.game.repository.GameLogRepository;
+import com.copyleft.GodsChoice.domain.log.GameResult;
+import com.copyleft.GodsChoice.game.repository.GameLogWriter;
+import com.copyleft.GodsChoice.leaderboard.service.LeaderboardService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GameLogService {
 
-    private final GameLogRepository gameLogRepository;
+    private final GameLogWriter gameLogWriter;
+    private final GameStatsService gameStatsService;
+    private final LeaderboardService leaderboardService;
 
+    // 누적 통계(Redis) 갱신용, 방 잠금 밖에서 처리
+    private final ExecutorService statsExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    @Async
-    @Transactional
-    public void saveGameLogAsync(Room room, String winnerRole) {
-        try {
-            GameLog logEntity = GameLog.builder()
-                    .roomId(room.getRoomId())
-                    .roomTitle(room.getRoomTitle())
-                    .winnerRole(winnerRole)
-                    .finalHp(room.getCurrentHp())
-                    .totalRounds(room.getCurrentRound())
-                    .playedAt(LocalDateTime.now())
-                    .build();
-
-            gameLogRepository.save(logEntity);
-            log.info("게임 결과 MySQL 저장 완료: room={}, winner={}", room.getRoomId(), winnerRole);
+    @PreDestroy
+    public void stop() {
+        statsExecutor.shutdown();
+    }
 
-        } catch (Exception e) {
-            log.error("게임 결과 저장 실패: {}", e.getMessage(), e);
+    /**
+     * 게임 결과를 지금 시점의 값으로 복사해서 저장 대기열에 넣고, 누적 통계와 랭킹에 반영합니다.
+     * 방 잠금 안에서 불리므로 값 복사와 메모리 적재만 하고, 네트워크 쓰기는 모두 뒤로 미룹니다.
+     * - INSERT: GameLogWriter 가 묶어서 처리
+     * - 랭킹: LeaderboardService 가 모았다가 주기적으로 반영
+     * - 누적 통계: 별도 가상 스레드에서 Redis 에 반영
+     */
+    public void recordGameResult(Room room, String winnerRole) {
+        GameResult result = GameResult.of(room, winnerRole);
+        statsExecutor.execute(() -> gameStatsService.recordGameOver(result));
+        leaderboardService.recordGameOver(room, winnerRole);
+        if (gameLogWriter.enqueue(result)) {
+            log.info("게임 결과 저장 예약: room={}, winner={}", result.roomId(), winnerRole);
         }
     }
-}
\ No newline at end of file
+}
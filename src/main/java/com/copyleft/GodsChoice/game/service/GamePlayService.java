@@ -36,6 +36,7 @@ public class GamePlayService {
 
             if (room.isAllPlayersSelectedCard()) {
                 gameResponseSender.broadcastAllCardsSelected(room);
+                gameJudgeService.prefetchJudgment(room);
                 taskScheduler.schedule(
                         () -> gameJudgeService.judgeRound(roomId),
                         Instant.now().plusSeconds(gameProperties.judgeDelay())
@@ -4,6 +4,7 @@ import com.copyleft.GodsChoice.global.config.GameProperties;
 import com.copyleft.GodsChoice.domain.Room;
 import com.copyleft.GodsChoice.domain.Player;
 import com.copyleft.GodsChoice.domain.type.*;
+import com.copyleft.GodsChoice.domain.vo.GameStats;
 import com.copyleft.GodsChoice.game.dto.GamePayloads;
 import com.copyleft.GodsChoice.global.constant.ErrorCode;
 import com.copyleft.GodsChoice.global.constant.GameCode;
@@ -202,6 +203,22 @@ public class GameResponseSender {
         broadcastToRoom(room, response);
     }
 
+    public void sendGameStats(String sessionId, GameStats stats) {
+        WebSocketResponse<GameStats> response = WebSocketResponse.<GameStats>builder()
+                .event(SocketEvent.GAME_STATS.name())
+                .data(stats)
+                .build();
+        webSocketSender.sendEventToSession(sessionId, response);
+    }
+
+    public void sendGameHistory(String sessionId, GamePayloads.GameHistory history) {
+        WebSocketResponse<GamePayloads.GameHistory> response = WebSocketResponse.<GamePayloads.GameHistory>builder()
+                .event(SocketEvent.GAME_HISTORY.name())
+                .data(history)
+                .build();
+        webSocketSender.sendEventToSession(sessionId, response);
+    }
+
     public void sendError(String sessionId, ErrorCode errorCode) {
         WebSocketResponse<Void> response = WebSocketResponse.<Void>builder()
                 .event(SocketEvent.ERROR_MESSAGE.name())
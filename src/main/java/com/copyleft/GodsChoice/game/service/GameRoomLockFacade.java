@@ -1,5 +1,6 @@
 package com.copyleft.GodsChoice.game.service;
 
+import com.copyleft.GodsChoice.global.constant.RedisKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -33,7 +34,7 @@ public class GameRoomLockFacade {
     }
 
     private <T> LockResult<T> executeInternal(String roomId, Supplier<T> action, boolean allowNullSuccess) {
-        RLock lock = redissonClient.getLock("room-lock:" + roomId);
+        RLock lock = redissonClient.getLock(RedisKey.ROOM_LOCK.makeRoomKey(roomId));
 
         for (int i = 0; i < MAX_RETRY; i++) {
             try {
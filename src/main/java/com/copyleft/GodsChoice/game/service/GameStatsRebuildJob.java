@@ -0,0 +1,149 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
+import com.copyleft.GodsChoice.game.repository.GameLogArchiver;
+import com.copyleft.GodsChoice.game.repository.GameLogRepository;
+import com.copyleft.GodsChoice.game.repository.GameStatsRepository;
+import com.copyleft.GodsChoice.game.repository.RoundEventColumnarFile;
+import com.copyleft.GodsChoice.game.repository.RoundEventCompactor;
+import com.copyleft.GodsChoice.game.repository.RoundEventLog;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 누적 통계 재계산 (백필)
+ * - 승리/HP 분포: 아카이브 파일(game_logs-YYYY-MM.jsonl.gz)의 행 + game_logs 집계 쿼리 (아카이브로 지운 달도 빠지지 않음)
+ * - 신탁별 점수: 라운드 이벤트 컬럼 파일 (분석 기록이 꺼져 있으면 기존 값 유지)
+ * app.stats.rebuild-on-startup=true 면 기동 시 한 노드에서만 실행합니다.
+ * 재계산 도중 끝난 게임의 증가분은 덮어써질 수 있으므로 한가한 시간에 돌립니다 (아카이브 실행 시각과도 겹치지 않게).
+ */
+@Slf4j
+@Component
+public class GameStatsRebuildJob implements ApplicationRunner {
+
+    private static final String LOCK_KEY = "game_stats_rebuild";
+    private static final long LOCK_LEASE_MINUTES = 10;
+
+    private final GameLogRepository gameLogRepository;
+    private final GameLogArchiver gameLogArchiver;
+    private final GameStatsRepository gameStatsRepository;
+    private final RoundEventLog roundEventLog;
+    private final RoundEventCompactor roundEventCompactor;
+    private final RedissonClient redissonClient;
+    private final boolean rebuildOnStartup;
+
+    public GameStatsRebuildJob(GameLogRepository gameLogRepository,
+                               GameLogArchiver gameLogArchiver,
+                               GameStatsRepository gameStatsRepository,
+                               RoundEventLog roundEventLog,
+                               RoundEventCompactor roundEventCompactor,
+                               RedissonClient redissonClient,
+                               @Value("${app.stats.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.gameLogRepository = gameLogRepository;
+        this.gameLogArchiver = gameLogArchiver;
+        this.gameStatsRepository = gameStatsRepository;
+        this.roundEventLog = roundEventLog;
+        this.roundEventCompactor = roundEventCompactor;
+        this.redissonClient = redissonClient;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!rebuildOnStartup) return;
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, LOCK_LEASE_MINUTES, TimeUnit.MINUTES)) {
+                log.info("다른 노드에서 통계 재계산 중, 건너뜀");
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("게임 통계 재계산 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    public void rebuild() throws IOException {
+        Map<String, Long> wins = new HashMap<>();
+        Map<String, Long> hp = new HashMap<>();
+
+        // 아카이브 쪽은 game_logs 에 남아 있는 행을 건너뛰므로 아래 집계 쿼리와 겹치지 않음
+        long archived = gameLogArchiver.forEachArchivedRow(row -> {
+            wins.merge(GameStatsRepository.winField(personalityOf(row.godPersonality()), row.winnerRole()), 1L, Long::sum);
+            hp.merge(GameStatsRepository.hpField(row.finalHp()), 1L, Long::sum);
+        });
+
+        for (Object[] row : gameLogRepository.countWinsByPersonality()) {
+            wins.merge(GameStatsRepository.winField(personalityOf((String) row[0]), (String) row[1]), (Long) row[2], Long::sum);
+        }
+        for (Object[] row : gameLogRepository.countByFinalHp()) {
+            hp.merge(GameStatsRepository.hpField((Integer) row[0]), (Long) row[1], Long::sum);
+        }
+
+        gameStatsRepository.replaceAll(GameStatsRepository.WINS, wins);
+        gameStatsRepository.replaceAll(GameStatsRepository.HP, hp);
+        log.info("승리/HP 통계 재계산 완료: wins={}, hpBuckets={}, archivedRows={}", wins.size(), hp.size(), archived);
+
+        if (roundEventLog.isEnabled()) {
+            Map<String, Long> oracleScores = aggregateOracleScores();
+            gameStatsRepository.replaceAll(GameStatsRepository.ORACLE_SCORE, oracleScores);
+            log.info("신탁 점수 통계 재계산 완료: fields={}", oracleScores.size());
+        }
+    }
+
+    private static String personalityOf(String personality) {
+        return personality == null ? GameStatsService.UNKNOWN : personality;
+    }
+
+    private Map<String, Long> aggregateOracleScores() throws IOException {
+        // 닫힌 세그먼트까지 컬럼 파일로 합친 뒤 읽음 (지금 쓰고 있는 세그먼트는 제외)
+        roundEventCompactor.compactSealedSegments();
+
+        Map<String, Long> values = new HashMap<>();
+        for (Path file : listColumnarFiles()) {
+            RoundEventColumnarFile.Columns columns = RoundEventColumnarFile.read(file, Set.of("type", "oracle", "score"));
+            String[] types = columns.strings("type");
+            String[] oracles = columns.strings("oracle");
+            Integer[] scores = columns.ints("score");
+
+            for (int i = 0; i < columns.rowCount(); i++) {
+                if (!RoundEvent.Type.ROUND_JUDGED.name().equals(types[i]) || oracles[i] == null || scores[i] == null) continue;
+                values.merge(oracles[i] + ":sum", (long) scores[i], Long::sum);
+                values.merge(oracles[i] + ":count", 1L, Long::sum);
+            }
+        }
+        return values;
+    }
+
+    private List<Path> listColumnarFiles() throws IOException {
+        try (Stream<Path> files = Files.list(roundEventLog.getDir())) {
+            return files.filter(f -> f.getFileName().toString().endsWith(RoundEventColumnarFile.EXTENSION)).toList();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.log.GameResult;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.GameStats;
+import com.copyleft.GodsChoice.game.repository.GameStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 성향별 승률, 최종 HP 분포, 신탁별 평균 점수
+ * 게임 종료/라운드 판정 때마다 카운터만 올려 두고, 조회는 Hash 몇 개만 읽습니다 (game_logs 전체 조회 없음).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameStatsService {
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private final GameStatsRepository gameStatsRepository;
+
+    public void recordGameOver(GameResult result) {
+        try {
+            String personality = result.godPersonality() == null ? UNKNOWN : result.godPersonality();
+            gameStatsRepository.incrementGameOver(personality, result.winnerRole(), result.finalHp());
+        } catch (Exception e) {
+            log.error("게임 통계 갱신 실패: room={}", result.roomId(), e);
+        }
+    }
+
+    public void recordRoundScore(Oracle oracle, int score) {
+        if (oracle == null) return;
+        try {
+            gameStatsRepository.incrementRoundScore(oracle.name(), score);
+        } catch (Exception e) {
+            log.error("라운드 점수 통계 갱신 실패: oracle={}", oracle, e);
+        }
+    }
+
+    public GameStats getStats() {
+        Map<String, Map<String, Long>> wins = new HashMap<>();
+        gameStatsRepository.findAll(GameStatsRepository.WINS).forEach((field, count) -> {
+            int split = field.lastIndexOf(':');
+            wins.computeIfAbsent(field.substring(0, split), p -> new HashMap<>()).put(field.substring(split + 1), count);
+        });
+
+        SortedMap<Integer, Long> hpHistogram = new TreeMap<>();
+        gameStatsRepository.findAll(GameStatsRepository.HP)
+                .forEach((bucket, count) -> hpHistogram.put(Integer.parseInt(bucket), count));
+
+        Map<String, Long> sums = new HashMap<>();
+        Map<String, Long> counts = new HashMap<>();
+        gameStatsRepository.findAll(GameStatsRepository.ORACLE_SCORE).forEach((field, value) -> {
+            int split = field.lastIndexOf(':');
+            String oracle = field.substring(0, split);
+            (field.endsWith(":sum") ? sums : counts).put(oracle, value);
+        });
+
+        Map<String, GameStats.OracleScore> scoreByOracle = new HashMap<>();
+        counts.forEach((oracle, rounds) -> {
+            if (rounds > 0) {
+                scoreByOracle.put(oracle, new GameStats.OracleScore(rounds, (double) sums.getOrDefault(oracle, 0L) / rounds));
+            }
+        });
+
+        return new GameStats(wins, hpHistogram, scoreByOracle);
+    }
+}
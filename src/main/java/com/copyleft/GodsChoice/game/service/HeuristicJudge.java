@@ -0,0 +1,243 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.WordTrait;
+import com.copyleft.GodsChoice.domain.vo.HeuristicJudgment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.copyleft.GodsChoice.domain.type.WordTrait.*;
+
+/**
+ * 네트워크 없이 단어 특징표로 문장을 채점하는 로컬 심판
+ * - LLM 장애 시 대체 판정
+ * - 사전 필터 (확신도가 충분하면 LLM 호출 생략)
+ * 단어 특징은 비트마스크, 가중치는 정적 배열이라 채점 시에는 할당 없이 합산만 합니다.
+ */
+@Component
+public class HeuristicJudge {
+
+    private static final int SCORE_SCALE = 6;
+    private static final double CONFIDENT_RAW_SCORE = 12.0;
+    private static final int VERDICT_THRESHOLD = 30;
+
+    private static final Map<String, Integer> WORD_TRAITS = new HashMap<>();
+    private static final Map<GodPersonality, int[]> PERSONALITY_WEIGHTS = new EnumMap<>(GodPersonality.class);
+    private static final Map<Oracle, int[]> ORACLE_WEIGHTS = new EnumMap<>(Oracle.class);
+    private static final Map<GodPersonality, String[][]> REASONS = new EnumMap<>(GodPersonality.class);
+
+    static {
+        // 주체
+        word("하늘이", HOLY);
+        word("왕이", POWER, ORDER);
+        word("개발자가", ORDER, TIMID);
+        word("고양이가", LOVE, SILLY);
+        word("이단자가", DARK, CHAOS);
+        word("마을 사람이", TIMID);
+        word("거지가", FILTH, TIMID);
+        word("악마가", DARK, VIOLENCE);
+        word("천사가", HOLY, LOVE);
+        word("각설이가", SILLY);
+        word("탐관오리가", GREED, POWER);
+        word("AI가", ORDER);
+        word("외계인이", CHAOS);
+        word("유령이", DARK, TIMID);
+        word("바다가", LOVE);
+        word("민초단이", SILLY, CHAOS);
+        word("노예가", TIMID, FILTH);
+        word("괴물이", VIOLENCE, DARK);
+
+        // 대상
+        word("똥을", FILTH, SILLY);
+        word("황금을", GREED, POWER);
+        word("코드를", ORDER);
+        word("사랑을", LOVE);
+        word("폭탄을", VIOLENCE, CHAOS);
+        word("치킨을", GREED);
+        word("흑역사를", SILLY, DARK);
+        word("쓰레기를", FILTH);
+        word("비명을", VIOLENCE, DARK);
+        word("거짓말을", CHAOS, DARK);
+        word("꿈을", LOVE, HOLY);
+        word("미래를", HOLY, ORDER);
+        word("폭력을", VIOLENCE);
+        word("평화를", LOVE, TIMID);
+        word("해골을", DARK);
+        word("팬티를", SILLY, GREED);
+        word("영혼을", HOLY, DARK);
+        word("약속을", ORDER, LOVE);
+        word("뱃살을", SILLY, GREED);
+
+        // 어떻게
+        word("맛있게", GREED);
+        word("슬프게", TIMID, DARK);
+        word("섹시하게", GREED, LOVE);
+        word("더럽게", FILTH);
+        word("우아하게", HOLY, ORDER);
+        word("미친듯이", CHAOS);
+        word("잔인하게", VIOLENCE);
+        word("멍청하게", SILLY);
+        word("상큼하게", LOVE);
+        word("음흉하게", DARK, GREED);
+        word("비겁하게", TIMID);
+        word("성스럽게", HOLY);
+        word("느끼하게", GREED, SILLY);
+        word("무자비하게", VIOLENCE, POWER);
+        word("은밀하게", DARK);
+        word("처절하게", VIOLENCE, DARK);
+        word("건방지게", POWER, CHAOS);
+        word("수줍게", TIMID, LOVE);
+        word("요염하게", GREED);
+
+        // 어쩐다
+        word("먹었다", GREED);
+        word("던졌다", CHAOS);
+        word("키스했다", LOVE);
+        word("훔쳤다", GREED, CHAOS);
+        word("부셨다", VIOLENCE);
+        word("좋아했다", LOVE);
+        word("숭배했다", HOLY);
+        word("살해했다", VIOLENCE, DARK);
+        word("창조했다", HOLY, ORDER);
+        word("저주했다", DARK);
+        word("비웃었다", SILLY, POWER);
+        word("찬양했다", HOLY);
+        word("요리했다", LOVE);
+        word("판매했다", GREED);
+        word("전시했다", POWER);
+        word("폭파했다", VIOLENCE, CHAOS);
+        word("핥았다", SILLY, FILTH);
+        word("숨겼다", TIMID, DARK);
+
+        //                                   VIO FIL HOL CHA ORD LOV POW GRE DRK SIL TIM
+        personality(GodPersonality.ANGRY,       3,  0,  0,  1,  0, -2,  2,  0,  1, -2, -3);
+        personality(GodPersonality.GENEROUS,   -3, -1,  2,  0,  0,  3,  0, -1, -1,  0,  1);
+        personality(GodPersonality.WHIMSICAL,   0,  0, -1,  3, -2,  0,  0,  0,  0,  2,  0);
+        personality(GodPersonality.CRUEL,       2,  2, -2,  0,  0, -2,  0,  0,  2,  0,  1);
+        personality(GodPersonality.MISCHIEVOUS, 0,  1, -1,  1, -1,  0, -1,  1,  0,  3,  0);
+        personality(GodPersonality.EDGY,        1,  0, -1,  1,  0, -1,  2,  0,  3, -2,  0);
+        personality(GodPersonality.BOOMER,      0, -2,  2, -3,  3,  0,  2,  0,  0, -2,  0);
+        personality(GodPersonality.SOFTIE,     -3,  0,  0, -1,  0,  2, -1,  0, -2,  0,  3);
+
+        //                               VIO FIL HOL CHA ORD LOV POW GRE DRK SIL TIM
+        oracle(Oracle.VITALITY,           0,  0,  0,  1,  0,  2,  0,  0, -2,  0, -1);
+        oracle(Oracle.ORDER,              0,  0,  1, -3,  2,  0,  1,  0,  0,  0,  0);
+        oracle(Oracle.LIGHT,              0,  0,  3,  0,  0,  1,  0,  0, -3,  0,  0);
+        oracle(Oracle.SILENCE,           -1,  0,  0, -2,  0,  0,  0,  0,  0, -1,  2);
+        oracle(Oracle.REVOLUTION,         2,  0, -1,  2, -2,  0, -1,  0,  0,  0,  0);
+        oracle(Oracle.TRUTH,              0,  1, -1,  0,  0,  0,  0,  0,  1,  0,  0);
+        oracle(Oracle.MADNESS,            0,  0,  0,  3, -2,  0,  0,  0,  0,  1,  0);
+        oracle(Oracle.PURITY,             0, -3,  2,  0,  0,  0,  0, -1,  0,  0,  0);
+        oracle(Oracle.DESIRE,             0,  0,  0,  0,  0,  1,  0,  3,  0,  0, -1);
+        oracle(Oracle.SACRIFICE,          1,  0,  1,  0,  0,  1,  0, -2,  0,  0,  0);
+
+        // {긍정, 중립, 부정}
+        reasons(GodPersonality.ANGRY,
+                new String[]{"부서지는 소리가 들리는구나. 나쁘지 않다.", "그래, 그 정도 힘은 보여야지."},
+                new String[]{"미지근하다. 불씨만 있고 불꽃이 없구나."},
+                new String[]{"나약함이 역겹다. 다시 가져와라.", "이 정도로 나를 움직일 수 있다고 생각했느냐."});
+        reasons(GodPersonality.GENEROUS,
+                new String[]{"작은 싹이 움트는 것이 보이는구나. 기특하다.", "따스한 문장이로다. 품어 주마."},
+                new String[]{"아직 덜 여물었구나. 조금 더 기다려 보마."},
+                new String[]{"상처만 남기는 말이로구나. 안타깝다.", "생명이 메말라 가는 소리가 들린다."});
+        reasons(GodPersonality.WHIMSICAL,
+                new String[]{"오, 이건 예상 못 했는데? 마음에 든다.", "뒤죽박죽이라 오히려 완벽하군."},
+                new String[]{"흠, 반쯤만 재미있구나. 반쯤만."},
+                new String[]{"뻔하다, 뻔해. 하품이 나는구나.", "너무 반듯해서 지루하다."});
+        reasons(GodPersonality.CRUEL,
+                new String[]{"그래, 세상은 원래 그렇게 아픈 법이지.", "진흙탕 속의 진실이 보이는구나."},
+                new String[]{"현실을 흉내만 냈구나."},
+                new String[]{"달콤한 거짓말은 역겹다.", "꿈같은 소리는 그만두어라."});
+        reasons(GodPersonality.MISCHIEVOUS,
+                new String[]{"푸하하, 이건 한동안 놀려먹을 수 있겠군.", "그 뻔뻔함, 아주 훌륭하다."},
+                new String[]{"피식 웃음이 나다 말았구나."},
+                new String[]{"너무 진지해서 웃을 틈이 없구나.", "재치가 실종되었군."});
+        reasons(GodPersonality.EDGY,
+                new String[]{"심연이 너를 알아보는구나... 크큭.", "봉인된 힘이 꿈틀거린다."},
+                new String[]{"어둠에 발끝만 담갔구나."},
+                new String[]{"눈부셔서 못 봐주겠군. 가벼운 자여.", "그 정도 어둠으론 나를 깨울 수 없다."});
+        reasons(GodPersonality.BOOMER,
+                new String[]{"그렇지, 기본이 된 문장이로구나.", "요즘 것들치고는 제법이다."},
+                new String[]{"나쁘진 않다만, 예의가 조금 부족하구나."},
+                new String[]{"어디서 이런 버릇없는 말을 배웠느냐.", "라떼는 이런 문장은 상상도 못 했다."});
+        reasons(GodPersonality.SOFTIE,
+                new String[]{"다, 다행이다... 마음이 편안해졌어.", "이런 문장이라면 무섭지 않아."},
+                new String[]{"조, 조금 놀랐지만 괜찮아..."},
+                new String[]{"히익, 너무 무서운 말이야...", "그, 그런 말은 하지 말아 줘..."});
+    }
+
+    /**
+     * 문장을 채점합니다. 모르는 단어는 점수에 기여하지 않고 확신도만 낮춥니다.
+     * @param words 슬롯 순서대로의 단어 (주체, 대상, 어떻게, 어쩐다)
+     */
+    public HeuristicJudgment judge(List<String> words, GodPersonality personality, Oracle oracle) {
+        int[] personalityWeights = PERSONALITY_WEIGHTS.get(personality);
+        int[] oracleWeights = ORACLE_WEIGHTS.get(oracle);
+
+        int raw = 0;
+        int known = 0;
+        int hash = 17;
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            if (word == null) continue;
+            hash = 31 * hash + word.hashCode();
+
+            Integer traits = WORD_TRAITS.get(word);
+            if (traits == null) continue;
+            known++;
+
+            int mask = traits;
+            while (mask != 0) {
+                int trait = Integer.numberOfTrailingZeros(mask);
+                raw += personalityWeights[trait] + oracleWeights[trait];
+                mask &= mask - 1;
+            }
+        }
+
+        int score = Math.max(-100, Math.min(100, raw * SCORE_SCALE));
+        double coverage = words.isEmpty() ? 0 : (double) known / words.size();
+        double confidence = coverage * Math.min(1.0, Math.abs(raw) / CONFIDENT_RAW_SCORE);
+
+        return new HeuristicJudgment(score, pickReason(personality, score, hash), confidence);
+    }
+
+    private String pickReason(GodPersonality personality, int score, int hash) {
+        String[][] reasons = REASONS.get(personality);
+        String[] bucket = score >= VERDICT_THRESHOLD ? reasons[0]
+                : score <= -VERDICT_THRESHOLD ? reasons[2]
+                : reasons[1];
+        return bucket[Math.floorMod(hash, bucket.length)];
+    }
+
+    private static void word(String word, WordTrait... traits) {
+        int mask = 0;
+        for (WordTrait trait : traits) {
+            mask |= 1 << trait.ordinal();
+        }
+        WORD_TRAITS.put(word, mask);
+    }
+
+    private static void personality(GodPersonality personality, int... weights) {
+        PERSONALITY_WEIGHTS.put(personality, checkWeights(weights));
+    }
+
+    private static void oracle(Oracle oracle, int... weights) {
+        ORACLE_WEIGHTS.put(oracle, checkWeights(weights));
+    }
+
+    private static int[] checkWeights(int[] weights) {
+        if (weights.length != WordTrait.values().length) {
+            throw new IllegalStateException("가중치 개수가 특징 개수와 다릅니다.");
+        }
+        return weights;
+    }
+
+    private static void reasons(GodPersonality personality, String[] positive, String[] neutral, String[] negative) {
+        REASONS.put(personality, new String[][]{positive, neutral, negative});
+    }
+}
@@ -0,0 +1,328 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.copyleft.GodsChoice.game.repository.JudgeRateLimiter;
+import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import com.copyleft.GodsChoice.global.config.JudgeSchedulerProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * LLM 심판 요청 스케줄러
+ * - 기한(심판 시각 + 응답 대기 시간)이 가까운 요청부터 보냄 (EDF)
+ * - 방마다 동시에 한 건만 보내서 한 방이 대기열을 독차지하지 못하게 함
+ * - 노드별 동시 요청 수와 클러스터 공용 토큰 버킷(Redis)으로 공급자 할당량을 지킴
+ * - 기한 안에 보낼 수 없는 요청은 기다리게 하지 않고 바로 대체 판정으로 돌려줌
+ * - 기다리던 호출자가 인터럽트(선행 판정 취소)되면 그 요청은 버려져 보내지 않음
+ * - 묶음 모드에서는 짧은 시간 안에 모인 여러 방의 문장을 한 번의 요청(토큰 1개)으로 보냄
+ */
+@Slf4j
+@Component
+public class JudgeRequestScheduler {
+
+    private static final long IDLE_WAIT_MS = 200;
+    private static final long RESULT_GRACE_MS = 1000;
+
+    private final JudgeSchedulerProperties properties;
+    private final GroqResilienceProperties resilienceProperties;
+    private final GameProperties gameProperties;
+    private final JudgeRateLimiter rateLimiter;
+    private final GroqApiClient groqApiClient;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final DistributionSummary batchSize;
+
+    private final PriorityQueue<Ticket> queue = new PriorityQueue<>(
+            Comparator.comparingLong(Ticket::deadline).thenComparingLong(Ticket::seq));
+    private final Map<String, Integer> pendingByRoom = new HashMap<>();
+    private final Set<String> busyRooms = new HashSet<>();
+    private int inFlight;
+    private long seq;
+
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    private record Ticket(
+            String roomId,
+            long deadline,
+            long seq,
+            long enqueuedAt,
+            JudgeRequest request,
+            CompletableFuture<AiJudgment> result
+    ) {}
+
+    public JudgeRequestScheduler(JudgeSchedulerProperties properties,
+                                 GroqResilienceProperties resilienceProperties,
+                                 GameProperties gameProperties,
+                                 JudgeRateLimiter rateLimiter,
+                                 GroqApiClient groqApiClient,
+                                 MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.resilienceProperties = resilienceProperties;
+        this.gameProperties = gameProperties;
+        this.rateLimiter = rateLimiter;
+        this.groqApiClient = groqApiClient;
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("judge.queue.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("judge.batch.size").register(meterRegistry);
+
+        Gauge.builder("judge.queue.depth", this, JudgeRequestScheduler::queueDepth).register(meterRegistry);
+        Gauge.builder("judge.inflight", this, JudgeRequestScheduler::inFlight).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofVirtual().name("judge-dispatcher").start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * 요청을 대기열에 올리고 결과를 기다립니다.
+     * @param judgeAt 심판 시각 (선행 요청이면 연출 대기가 끝나는 시각)
+     * @return LLM 판정, 보낼 수 없었거나 묶음 응답에서 빠졌으면 대체 판정
+     */
+    public AiJudgment execute(String roomId, Instant judgeAt, JudgeRequest request) {
+        long now = System.currentTimeMillis();
+        long deadline = judgeAt.toEpochMilli() + resilienceProperties.deadline(gameProperties.roundResultDuration()).toMillis();
+
+        Ticket ticket;
+        synchronized (this) {
+            if (queue.size() >= properties.maxQueueSize()) {
+                return shed(roomId, "queue_full");
+            }
+            int pending = pendingByRoom.getOrDefault(roomId, 0);
+            if (pending >= properties.maxPendingPerRoom()) {
+                return shed(roomId, "room_limit");
+            }
+
+            pendingByRoom.put(roomId, pending + 1);
+            ticket = new Ticket(roomId, deadline, seq++, now, request, new CompletableFuture<>());
+            queue.add(ticket);
+            notifyAll();
+        }
+
+        try {
+            return ticket.result().get(Math.max(0, deadline - now) + RESULT_GRACE_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            ticket.result().cancel(false);
+            return shed(roomId, "timeout");
+        } catch (InterruptedException | CancellationException e) {
+            // 호출자가 더 기다리지 않음: 아직 대기열에 있으면 보내기 전에 버려지고, 보낸 뒤면 결과만 버림
+            abandon(ticket);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return shed(roomId, "cancelled");
+        } catch (Exception e) {
+            log.error("LLM 심판 요청 대기 실패: room={}", roomId, e);
+            return AiJudgment.fallback();
+        }
+    }
+
+    private synchronized void abandon(Ticket ticket) {
+        ticket.result().cancel(false);
+        notifyAll();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                List<Ticket> batch = awaitNext();
+                if (!acquireToken(batch)) {
+                    batch.stream()
+                            .filter(ticket -> !ticket.result().isDone())
+                            .forEach(ticket -> ticket.result().complete(shed(ticket.roomId(), "rate_limit")));
+                    release(batch);
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                batch.forEach(ticket -> waitTimer.record(now - ticket.enqueuedAt(), TimeUnit.MILLISECONDS));
+                callExecutor.execute(() -> run(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("LLM 심판 스케줄러 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 동시 요청 수에 여유가 생기면, 진행 중인 요청이 없는 방 중 기한이 가장 가까운 요청을 꺼냅니다.
+     * 묶음 모드면 batchWindowMs 동안 다른 방의 요청을 더 모읍니다 (첫 요청의 기한을 넘기지 않는 선에서).
+     */
+    private synchronized List<Ticket> awaitNext() throws InterruptedException {
+        Ticket first = null;
+        while (first == null) {
+            shedExpired();
+            if (inFlight < properties.maxConcurrency()) {
+                first = pollEligible();
+            }
+            if (first == null) {
+                wait(IDLE_WAIT_MS);
+            }
+        }
+        inFlight++;
+        busyRooms.add(first.roomId());
+
+        List<Ticket> batch = new ArrayList<>();
+        batch.add(first);
+        if (!properties.batchEnabled()) return batch;
+
+        long windowEnd = Math.min(System.currentTimeMillis() + properties.batchWindowMs(),
+                first.deadline() - properties.minRemainingMs());
+        while (batch.size() < properties.maxBatchSize()) {
+            Ticket next = pollEligible();
+            if (next != null) {
+                busyRooms.add(next.roomId());
+                batch.add(next);
+                continue;
+            }
+            long remainingMs = windowEnd - System.currentTimeMillis();
+            if (remainingMs <= 0) break;
+            wait(remainingMs);
+        }
+        return batch;
+    }
+
+    private Ticket pollEligible() {
+        List<Ticket> skipped = new ArrayList<>();
+        Ticket found = null;
+        while (!queue.isEmpty()) {
+            Ticket ticket = queue.poll();
+            if (ticket.result().isDone()) {
+                // 호출자가 포기한 요청
+                decrementPending(ticket.roomId());
+                continue;
+            }
+            if (!busyRooms.contains(ticket.roomId())) {
+                found = ticket;
+                break;
+            }
+            skipped.add(ticket);
+        }
+        queue.addAll(skipped);
+        return found;
+    }
+
+    private void shedExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Ticket> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Ticket ticket = iterator.next();
+            boolean abandoned = ticket.result().isDone();
+            if (abandoned || ticket.deadline() - now < properties.minRemainingMs()) {
+                iterator.remove();
+                decrementPending(ticket.roomId());
+                if (!abandoned) {
+                    ticket.result().complete(shed(ticket.roomId(), "deadline"));
+                }
+            }
+        }
+    }
+
+    /**
+     * 토큰 버킷에서 토큰을 얻을 때까지 기다립니다. 기다리면 가장 급한 요청의 기한을 넘기게 되면 포기합니다.
+     */
+    private boolean acquireToken(List<Ticket> batch) throws InterruptedException {
+        long deadline = earliestDeadline(batch);
+        while (true) {
+            long waitMs = rateLimiter.tryAcquire();
+            if (waitMs <= 0) return true;
+
+            long usableMs = deadline - System.currentTimeMillis() - properties.minRemainingMs();
+            if (waitMs > usableMs || batch.stream().allMatch(ticket -> ticket.result().isDone())) return false;
+            Thread.sleep(waitMs);
+        }
+    }
+
+    private void run(List<Ticket> batch) {
+        try {
+            // 선행 요청은 기한이 멀 수 있으므로, 응답 대기는 설정된 기한(max-deadline-ms 이하)으로 제한
+            long remainingMs = Math.max(0, earliestDeadline(batch) - System.currentTimeMillis());
+            long budgetMs = Math.min(remainingMs, resilienceProperties.deadline(gameProperties.roundResultDuration()).toMillis());
+            List<JudgeRequest> requests = batch.stream().map(Ticket::request).toList();
+            batchSize.record(requests.size());
+
+            List<AiJudgment> judgments = groqApiClient.judgeBatch(requests, Duration.ofMillis(budgetMs));
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(judgments.get(i));
+            }
+        } catch (Exception e) {
+            log.error("LLM 심판 요청 실패: rooms={}", batch.stream().map(Ticket::roomId).toList(), e);
+            batch.forEach(ticket -> ticket.result().complete(AiJudgment.fallback()));
+        } finally {
+            release(batch);
+        }
+    }
+
+    private static long earliestDeadline(List<Ticket> batch) {
+        return batch.stream().mapToLong(Ticket::deadline).min().orElse(0);
+    }
+
+    private synchronized void release(List<Ticket> batch) {
+        inFlight--;
+        for (Ticket ticket : batch) {
+            busyRooms.remove(ticket.roomId());
+            decrementPending(ticket.roomId());
+        }
+        notifyAll();
+    }
+
+    private void decrementPending(String roomId) {
+        pendingByRoom.computeIfPresent(roomId, (key, pending) -> pending > 1 ? pending - 1 : null);
+    }
+
+    private AiJudgment shed(String roomId, String reason) {
+        log.warn("LLM 심판 요청 포기, 대체 판정 사용: room={}, reason={}", roomId, reason);
+        meterRegistry.counter("judge.shed", "reason", reason).increment();
+        return AiJudgment.fallback();
+    }
+
+    private synchronized int queueDepth() {
+        return queue.size();
+    }
+
+    private synchronized int inFlight() {
+        return inFlight;
+    }
+}
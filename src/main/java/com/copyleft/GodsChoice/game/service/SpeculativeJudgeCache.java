@@ -0,0 +1,103 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 미리 시작한 AI 심판 결과 보관소
+ * 방마다 (라운드, 문장) 한 건만 보관하며, 심판 시점에 같은 라운드·문장일 때만 꺼내 씁니다.
+ * 더 쓰이지 않게 된 판정(문장 변경, 라운드 불일치, 오래됨)은 인터럽트로 취소해서
+ * 스케줄러가 보내기 전에 버리도록 합니다 (동시 요청 자리, 토큰, LLM 호출을 아낌).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpeculativeJudgeCache {
+
+    private static final long STALE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(int round, String sentence, Future<AiJudgment> future, long createdAt) {
+        boolean matches(int round, String sentence) {
+            return this.round == round && this.sentence.equals(sentence);
+        }
+    }
+
+    /**
+     * 판정을 백그라운드에서 시작합니다. 같은 라운드·문장이 이미 진행 중이면 무시하고, 문장이 바뀌었으면 교체합니다.
+     */
+    public void start(String roomId, int round, String sentence, Supplier<AiJudgment> judge) {
+        evictStale();
+
+        entries.compute(roomId, (key, existing) -> {
+            if (existing != null && existing.matches(round, sentence)) return existing;
+            if (existing != null) {
+                count("replaced");
+                cancel(existing);
+            }
+            log.info("AI 심판 선행 시작: room={}, round={}", roomId, round);
+            return new Entry(round, sentence, executor.submit(judge::get), System.currentTimeMillis());
+        });
+    }
+
+    /**
+     * 같은 라운드·문장으로 시작한 판정이 있으면 (진행 중이면 끝날 때까지 기다려) 꺼냅니다.
+     */
+    public Optional<AiJudgment> take(String roomId, int round, String sentence) {
+        Entry entry = entries.remove(roomId);
+        if (entry == null || !entry.matches(round, sentence)) {
+            count("miss");
+            if (entry != null) {
+                cancel(entry);
+            }
+            return Optional.empty();
+        }
+
+        count(entry.future().isDone() ? "hit" : "in_flight");
+        try {
+            return Optional.ofNullable(entry.future().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("선행 AI 심판 실패: room={}", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    private void evictStale() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> {
+            if (now - entry.createdAt() <= STALE_MILLIS) return false;
+            cancel(entry);
+            return true;
+        });
+    }
+
+    // 아직 진행 중이면 인터럽트 (스케줄러 대기 중이면 요청이 버려짐)
+    private void cancel(Entry entry) {
+        if (entry.future().cancel(true)) {
+            count("cancelled");
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("judge.speculative", "result", result).increment();
+    }
+}
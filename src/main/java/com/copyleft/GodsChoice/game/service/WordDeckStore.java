@@ -0,0 +1,153 @@
+package com.copyleft.GodsChoice.game.service;
+
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
+import com.copyleft.GodsChoice.game.repository.WordDeckSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 덱 저장소
+ * 카탈로그 전체를 새로 만든 뒤 volatile 참조 하나만 바꿔 끼우므로, 카드를 나눠 주는 쪽은 락 없이 읽습니다.
+ */
+@Slf4j
+@Component
+public class WordDeckStore {
+
+    private final List<WordDeckSource> sources;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong reloadCount = new AtomicLong();
+    private volatile Catalog catalog;
+    private volatile List<String> fingerprints = List.of();
+
+    private record DeckEntry(WordDeck deck, Counter dealCounter, Counter cardCounter) {}
+
+    private record Catalog(Map<String, DeckEntry> byName, Map<String, List<String>> namesByTheme, DeckEntry defaultEntry) {}
+
+    public WordDeckStore(List<WordDeckSource> sources, MeterRegistry meterRegistry) {
+        this.sources = sources.isEmpty() ? List.of(new BuiltInWordDeckSource()) : List.copyOf(sources);
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gauge("deck.catalog.reloads", reloadCount);
+        reload();
+    }
+
+    public WordDeck find(String deckName) {
+        return entry(deckName).deck();
+    }
+
+    /**
+     * 테마에 속한 덱 중 하나를 고릅니다. 테마가 없거나 덱이 없으면 기본 덱 이름을 반환합니다.
+     */
+    public String pickDeckName(String theme) {
+        Catalog current = catalog;
+        List<String> names = (theme == null) ? null : current.namesByTheme().get(theme);
+        if (names == null || names.isEmpty()) {
+            return current.defaultEntry().deck().getName();
+        }
+        return names.get(ThreadLocalRandom.current().nextInt(names.size()));
+    }
+
+    public void recordDeal(WordDeck deck, int cardCount) {
+        DeckEntry entry = catalog.byName().get(deck.getName());
+        if (entry != null && entry.deck() == deck) {
+            entry.dealCounter().increment();
+            entry.cardCounter().increment(cardCount);
+        }
+    }
+
+    public List<String> getDeckNames() {
+        return List.copyOf(catalog.byName().keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${app.deck.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        List<String> current = currentFingerprints();
+        if (!current.equals(fingerprints)) {
+            log.info("덱 변경 감지, 다시 읽습니다.");
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        List<String> loadedFingerprints = currentFingerprints();
+        Map<String, DeckEntry> byName = new LinkedHashMap<>();
+
+        for (WordDeckSource source : sources) {
+            try {
+                for (WordDeck deck : source.load()) {
+                    byName.put(deck.getName(), toEntry(deck));
+                }
+            } catch (RuntimeException e) {
+                log.error("덱 공급원 로드 실패: source={}", source.getClass().getSimpleName(), e);
+            }
+        }
+
+        DeckEntry defaultEntry = byName.get(WordDeck.DEFAULT_NAME);
+        if (defaultEntry == null) {
+            WordDeck builtIn = new BuiltInWordDeckSource().load().getFirst();
+            defaultEntry = toEntry(builtIn);
+            byName.put(builtIn.getName(), defaultEntry);
+        }
+
+        Map<String, List<String>> namesByTheme = new HashMap<>();
+        for (DeckEntry entry : byName.values()) {
+            namesByTheme.computeIfAbsent(entry.deck().getTheme(), t -> new ArrayList<>()).add(entry.deck().getName());
+        }
+        namesByTheme.replaceAll((theme, names) -> List.copyOf(names));
+
+        this.catalog = new Catalog(Map.copyOf(byName), Map.copyOf(namesByTheme), defaultEntry);
+        this.fingerprints = loadedFingerprints;
+        reloadCount.incrementAndGet();
+
+        log.info("덱 카탈로그 교체 완료: decks={}", byName.keySet());
+    }
+
+    private DeckEntry entry(String deckName) {
+        Catalog current = catalog;
+        DeckEntry entry = (deckName == null) ? null : current.byName().get(deckName);
+        return entry != null ? entry : current.defaultEntry();
+    }
+
+    private DeckEntry toEntry(WordDeck deck) {
+        String name = deck.getName();
+        Gauge.builder("deck.words", this, store -> store.wordCount(name))
+                .tag("deck", name)
+                .register(meterRegistry);
+        return new DeckEntry(
+                deck,
+                meterRegistry.counter("deck.deals", "deck", deck.getName()),
+                meterRegistry.counter("deck.cards.dealt", "deck", deck.getName())
+        );
+    }
+
+    private double wordCount(String deckName) {
+        DeckEntry entry = catalog.byName().get(deckName);
+        return entry != null ? entry.deck().size() : 0;
+    }
+
+    private List<String> currentFingerprints() {
+        List<String> result = new ArrayList<>(sources.size());
+        for (WordDeckSource source : sources) {
+            try {
+                result.add(source.fingerprint());
+            } catch (RuntimeException e) {
+                result.add("error");
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,12 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.analytics")
+public record AnalyticsProperties(
+        String path,           // 라운드 이벤트 세그먼트/컬럼 파일 디렉터리, 비어 있으면 기록하지 않음
+        int queueCapacity,     // 기록 대기열 최대 길이 (꽉 차면 버림)
+        long segmentMaxBytes,  // 세그먼트 파일이 이 크기를 넘으면 새 파일로 교체
+        long segmentMaxAgeMs,  // 세그먼트 파일을 연 지 이 시간이 지나면 새 파일로 교체
+        long compactIntervalMs // 닫힌 세그먼트를 컬럼 파일로 합치는 주기
+) {}
@@ -0,0 +1,11 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.archive")
+public record ArchiveProperties(
+        String path,          // 아카이브 파일(*.jsonl.gz) 디렉터리, 비어 있으면 아카이브하지 않음
+        int retentionMonths,  // MySQL 에 남겨 둘 개월 수 (이번 달 포함), 그 이전 달은 파일로 옮김
+        int batchSize,        // 삭제/복원 한 번에 처리하는 행 수
+        String cron           // 아카이브 실행 시각
+) {}
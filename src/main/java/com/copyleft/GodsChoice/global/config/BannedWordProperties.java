@@ -0,0 +1,9 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.banned-words")
+public record BannedWordProperties(
+        String path,          // 추가 금칙어 파일 (한 줄에 하나), 비어 있으면 기본 목록만 사용
+        long reloadIntervalMs // 파일 변경 감지 주기 (밀리초)
+) {}
@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.chat")
+public record ChatProperties(
+        double ratePerSecond,  // 세션별 토큰 충전 속도 (초당 메시지 수)
+        int burst,             // 버킷 크기 (연속으로 보낼 수 있는 최대 메시지 수)
+        long batchWindowMs,    // 같은 방 메시지를 모으는 시간 (0 이면 모으지 않음, 0 보다 크면 클라이언트가 CHAT_BATCH 를 알아야 함)
+        int maxBatchSize,      // 이만큼 모이면 기다리지 않고 바로 보냄
+        int historySize,       // 방별 최근 채팅 보관 개수
+        long idleBucketTtlMs   // 이 시간 동안 채팅이 없는 세션의 버킷은 정리
+) {}
@@ -0,0 +1,9 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.deck")
+public record DeckProperties(
+        String path,          // 덱 파일(*.json) 디렉터리, 비어 있으면 기본 덱만 사용
+        long reloadIntervalMs // 변경 감지 주기 (밀리초)
+) {}
@@ -0,0 +1,11 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.game-history")
+public record GameHistoryProperties(
+        int defaultPageSize,
+        int maxPageSize,
+        long firstPageCacheTtlMs, // 첫 페이지(최신 기록) 캐시 유지 시간
+        int firstPageCacheSize    // 캐시할 첫 페이지 최대 개수 (방 ID × 페이지 크기)
+) {}
@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.game-log")
+public record GameLogProperties(
+        int queueCapacity,     // 저장 대기열 최대 길이
+        int batchSize,         // 한 번에 INSERT 하는 최대 건수
+        long flushIntervalMs,  // 건수가 안 차도 이 시간이 지나면 저장
+        long enqueueTimeoutMs, // 대기열이 꽉 찼을 때 기다리는 최대 시간 (넘으면 버림)
+        int maxRetries,        // 배치 INSERT 가 실패했을 때 다시 시도하는 횟수 (넘으면 한 건씩 INSERT)
+        long retryBackoffMs    // 첫 재시도 전 대기 시간, 재시도마다 두 배
+) {}
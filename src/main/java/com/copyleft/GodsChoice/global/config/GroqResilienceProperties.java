@@ -0,0 +1,35 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.groq.resilience")
+public record GroqResilienceProperties(
+        // 호출 기한
+        double deadlineRatio,       // 라운드 결과 시간(roundResultDuration) 중 AI 응답을 기다리는 비율
+        long maxDeadlineMs,         // 기한 상한 (밀리초)
+
+        // 헤지 요청
+        boolean hedgeEnabled,       // p95 지연을 넘기면 같은 요청을 한 번 더 보냄
+        long hedgeMinDelayMs,       // 헤지 최소 대기 (표본이 적을 때도 이 값 사용)
+        int latencyWindowSize,      // p95 계산에 쓰는 최근 응답 수
+
+        // 서킷 브레이커
+        int breakerWindowSize,      // 최근 호출 결과를 보관하는 수
+        int breakerMinCalls,        // 판단에 필요한 최소 호출 수
+        double breakerFailureRate,  // 실패율이 이 이상이면 OPEN
+        double breakerSlowCallRate, // 느린 호출 비율이 이 이상이면 OPEN
+        long breakerSlowCallMs,     // 느린 호출 기준 (밀리초)
+        long breakerOpenMs,         // OPEN 유지 시간 (밀리초)
+        int breakerHalfOpenCalls    // HALF_OPEN 에서 시험 삼아 보내는 호출 수
+) {
+
+    /**
+     * 라운드 결과 시간(초) 중 AI 응답을 기다릴 수 있는 시간
+     */
+    public Duration deadline(int roundResultDurationSeconds) {
+        long budgetMs = (long) (roundResultDurationSeconds * 1000L * deadlineRatio);
+        return Duration.ofMillis(Math.min(budgetMs, maxDeadlineMs));
+    }
+}
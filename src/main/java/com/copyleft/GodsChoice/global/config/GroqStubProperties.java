@@ -0,0 +1,26 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.groq.stub")
+public record GroqStubProperties(
+        int port,                    // 0이면 빈 포트 자동 선택
+
+        // 응답 지연
+        LatencyDistribution latency, // FIXED, EXPONENTIAL, LOG_NORMAL
+        long latencyMedianMs,        // 지연 중앙값
+        long latencyP99Ms,           // LOG_NORMAL 의 꼬리 (p99)
+
+        // 실패 주입
+        double errorRate,            // 500 응답 비율 (0~1)
+        double rateLimitRate,        // 429 응답 비율 (0~1)
+
+        List<Verdict> verdicts       // 돌려줄 판정 (비우면 기본 판정)
+) {
+
+    public enum LatencyDistribution { FIXED, EXPONENTIAL, LOG_NORMAL }
+
+    public record Verdict(int score, String reason) {}
+}
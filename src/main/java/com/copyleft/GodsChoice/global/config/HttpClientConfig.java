@@ -1,20 +1,19 @@
 package com.copyleft.GodsChoice.global.config;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 
 @Configuration
-public class RestTemplateConfig {
+public class HttpClientConfig {
 
+    // 응답 대기 시간은 요청마다 정함 (Groq 호출은 라운드 기한에 맞춰 끊음)
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder
+    public HttpClient httpClient() {
+        return HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(5))
-                .readTimeout(Duration.ofSeconds(30))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,10 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.judge")
+public record JudgeProperties(
+        // 로컬 심판 사전 필터
+        boolean prefilterEnabled,     // 확신도가 높으면 LLM 호출 없이 로컬 판정 사용
+        double prefilterConfidence    // 사전 필터 기준 확신도 (0~1)
+) {}
@@ -0,0 +1,21 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.judge.scheduler")
+public record JudgeSchedulerProperties(
+        // 노드별 제한
+        int maxConcurrency,      // 이 노드에서 동시에 보내는 LLM 요청 수
+        int maxQueueSize,        // 대기열 최대 길이 (넘치면 바로 대체 판정)
+        int maxPendingPerRoom,   // 방 하나가 대기열에 올릴 수 있는 요청 수
+        long minRemainingMs,     // 남은 기한이 이보다 짧으면 호출하지 않고 대체 판정
+
+        // 묶음 요청
+        boolean batchEnabled,    // 짧은 시간 안에 모인 여러 방의 문장을 한 번에 요청
+        int maxBatchSize,        // 한 요청에 담는 최대 문장 수
+        long batchWindowMs,      // 첫 요청 뒤로 다른 방의 요청을 기다리는 시간
+
+        // 클러스터 공용 토큰 버킷 (공급자 할당량)
+        int bucketCapacity,      // 최대 토큰 수 (순간 허용량)
+        double refillPerSecond   // 초당 채워지는 토큰 수
+) {}
@@ -0,0 +1,12 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.leaderboard")
+public record LeaderboardProperties(
+        int winPoints,        // 이긴 진영 플레이어에게 주는 점수
+        int playPoints,       // 끝까지 참여한 플레이어 모두에게 주는 점수
+        long flushIntervalMs, // 모아 둔 점수를 Redis 에 반영하는 주기
+        int maxLimit,         // 상위 N 조회 최대 개수
+        String zoneId         // 일간/주간 경계 기준 시간대
+) {}
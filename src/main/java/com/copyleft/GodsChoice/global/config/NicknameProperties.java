@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.nickname")
+public record NicknameProperties(
+        long leaseTtlMs,        // 닉네임 임대 시간, 연결된 동안은 계속 연장 (노드가 죽으면 이 시간 뒤 풀림)
+        long refreshIntervalMs, // 연결된 세션의 임대 연장 주기 (leaseTtlMs 보다 충분히 짧게)
+        int refreshBatchSize,   // 한 번의 스크립트로 연장하는 세션 수
+        long reapIntervalMs,    // active_nicknames:{샤드} 에서 임대가 끝난 닉네임을 지우는 주기
+        int reapBatchSize,      // SSCAN 한 번에 검사하는 닉네임 수
+        long handoffTtlMs       // ROUTE 로 받은 인계 토큰의 유효 시간 (새 노드로 다시 연결하는 데 걸리는 시간보다 길게)
+) {}
@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+        boolean relayEnabled, // outbox → Kafka 전달 사용 여부 (Kafka 가 없는 환경이면 false)
+        String topic,         // 게임 이벤트 토픽
+        int batchSize,        // 한 번에 꺼내 보내는 이벤트 수
+        long relayIntervalMs, // 전달 주기
+        long sendTimeoutMs,   // 한 묶음의 Kafka ack 대기 최대 시간
+        int alertLength       // outbox 전체 길이가 이 값을 넘으면 경보 (보내지 않은 이벤트는 버리지 않음)
+) {}
@@ -0,0 +1,10 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.room-cache")
+public record RoomCacheProperties(
+        boolean enabled,  // false 면 채팅/방 목록도 매번 Redis 에서 읽음
+        int maxSize,      // 최대 방 수 (넘치면 만료된 항목부터 정리)
+        long ttlMs        // 무효화 메시지를 놓쳤을 때 오래된 스냅샷이 남아 있을 수 있는 최대 시간
+) {}
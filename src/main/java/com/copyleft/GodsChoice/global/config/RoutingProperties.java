@@ -0,0 +1,11 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.routing")
+public record RoutingProperties(
+        boolean enabled,           // false 면 방 소유 노드와 상관없이 받은 노드에서 처리 (기존 동작)
+        String nodeId,             // 이 노드 이름, nginx map 의 키와 같아야 함 (spring-boot-1 등)
+        long heartbeatIntervalMs,  // 살아 있음 표시 주기
+        long heartbeatTtlMs        // 이 시간 동안 표시가 없으면 죽은 노드로 보고 그 방도 받은 노드에서 처리
+) {}
@@ -0,0 +1,10 @@
+package com.copyleft.GodsChoice.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.session-cache")
+public record SessionCacheProperties(
+        boolean enabled,  // false 면 항상 Redis 에서 읽음
+        int maxSize,      // 종류별 최대 항목 수 (넘치면 만료된 항목부터 정리)
+        long ttlMs        // 무효화 메시지를 놓쳤을 때 오래된 값이 남아 있을 수 있는 최대 시간
+) {}
@@ -9,6 +9,7 @@ public enum ErrorCode {
 
     INVALID_NICKNAME("닉네임은 2~6자 사이여야 합니다."),
     NICKNAME_ALREADY_USE("이미 사용 중인 닉네임입니다."),
+    NICKNAME_BANNED_WORD("사용할 수 없는 단어가 포함된 닉네임입니다."),
 
     ROOM_NOT_FOUND("존재하지 않는 방입니다."),
     ROOM_FULL("방의 정원이 초과되었습니다."),
@@ -18,12 +19,15 @@ public enum ErrorCode {
 
     CHAT_BLOCKED_PHASE("현재 단계에서는 채팅을 할 수 없습니다."), // 추가
     CHAT_EMPTY("메시지 내용을 입력해주세요."),
+    CHAT_RATE_LIMITED("채팅을 너무 빠르게 보내고 있습니다. 잠시 후 다시 시도해주세요."),
 
     GAME_START_FAILED("게임 시작 처리에 실패했습니다. 잠시 후 다시 시도해주세요."),
 
     NOT_HOST("방장만 게임을 시작할 수 있습니다."),
     NOT_ENOUGH_PLAYERS("게임 시작을 위해 정원(4명)이 모두 모여야 합니다."),
 
+    INVALID_HISTORY_CURSOR("잘못된 게임 기록 페이지 요청입니다."),
+
 
     UNKNOWN_ERROR("알 수 없는 오류가 발생했습니다.");
 
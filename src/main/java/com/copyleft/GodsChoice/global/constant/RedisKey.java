@@ -7,22 +7,70 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum RedisKey {
 
-    ACTIVE_NICKNAMES("active_nicknames"), // Set
-    SESSION("session:"),                  // String (session:abc-123)
+    // 닉네임 임대 키와 색인은 닉네임의 샤드를 태그로 써서 같은 슬롯 (스크립트 한 번에 함께 씀)
+    ACTIVE_NICKNAMES("active_nicknames"), // Set (active_nicknames:{샤드}, 리퍼가 만료된 닉네임을 정리하기 위한 색인)
+    SESSION("session:"),                  // String (session:abc-123 -> 닉네임, 임대 TTL)
+    NICKNAME_LEASE("nickname_lease:"),    // String (nickname_lease:{샤드}:닉네임 -> sessionId, 임대 TTL)
+    NICKNAME_HANDOFF("nickname_handoff:"), // String (nickname_handoff:토큰 -> 이전 sessionId, ROUTE 재연결용 일회성)
 
-    ROOM("room:"),                        // Hash (room:uuid)
+    // 방 단위 키는 makeRoomKey 로 만듦 (room:{7}:uuid, 같은 방의 키는 모두 같은 클러스터 슬롯)
+    ROOM("room:"),                        // String (room:{샤드}:uuid -> RoomCodec 바이너리, 예전 방은 JSON)
+    ROOM_VERSION("room_version:"),        // String (room_version:{샤드}:uuid, 저장할 때마다 INCR)
+    ROOM_LOCK("room-lock:"),              // Redisson 락 (room-lock:{샤드}:uuid)
     ROOM_CODE("room_code:"),              // String (room_code:B3FK)
-    WAITING_ROOMS("waiting_rooms"),       // Set
+    WAITING_ROOMS("waiting_rooms"),       // Set (waiting_rooms:{샤드}, 샤드별 대기 방 색인)
 
-    ROOM_LOG("room_log:"),                // List (room_log:uuid)
-    SESSION_ROOM("session_room:");        // String (session_room:abc-123 -> roomId)
+    ROOM_LOG("room_log:"),                // List (room_log:{샤드}:uuid)
+    CHAT_HISTORY("chat_history:"),        // List (chat_history:{샤드}:uuid, 최근 N개만 유지)
+    SESSION_ROOM("session_room:"),        // String (session_room:abc-123 -> roomId)
+
+    CLUSTER_NODES("cluster_nodes"),       // ZSet (노드 → heartbeat 만료 시각)
+
+    GROQ_RATE_LIMIT("groq_rate_limit"),   // Hash (클러스터 공용 토큰 버킷: tokens, ts)
+    GAME_EVENT_OUTBOX("game_event_outbox"), // List (game_event_outbox:{샤드}, Kafka 로 보낼 게임 이벤트 JSON)
+    GAME_STATS("game_stats:"),            // Hash (game_stats:wins, game_stats:hp, game_stats:oracle_score)
+    LEADERBOARD("leaderboard:");          // ZSet (leaderboard:all, leaderboard:daily:2025-01-31, leaderboard:weekly:2025-W5)
+
+    /**
+     * 방 키를 나누는 해시 태그 수.
+     * 방 ID 마다 태그를 따로 주지 않고 샤드 번호를 태그로 써서, 같은 샤드의 대기 방 색인과 outbox 까지
+     * 한 슬롯에 모읍니다 (방 저장 + outbox 쓰기 Lua 스크립트, 샤드별 MGET 이 클러스터에서도 가능).
+     * 클러스터 연결에서는 같은 슬롯이어도 MULTI 를 쓸 수 없으므로, 여러 키를 원자적으로 쓸 때는 스크립트를 씁니다.
+     * 바꾸면 기존 방 키를 찾지 못하므로 운영 중에는 바꾸지 않습니다.
+     */
+    public static final int ROOM_SHARDS = 32;
 
     private final String prefix;
 
+    public static int shardOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), ROOM_SHARDS);
+    }
+
     public String makeKey(String identifier) {
         return this.prefix + identifier;
     }
 
+    /**
+     * 방 단위 키 (room:{7}:uuid)
+     */
+    public String makeRoomKey(String roomId) {
+        return this.prefix + "{" + shardOf(roomId) + "}:" + roomId;
+    }
+
+    /**
+     * 닉네임 단위 키 (nickname_lease:{7}:닉네임), 같은 샤드의 닉네임 색인(active_nicknames:{7})과 같은 슬롯
+     */
+    public String makeNicknameKey(String nickname) {
+        return this.prefix + "{" + shardOf(nickname) + "}:" + nickname;
+    }
+
+    /**
+     * 샤드 단위 키 (waiting_rooms:{7}), 같은 샤드의 방 키와 같은 슬롯
+     */
+    public String makeShardKey(int shard) {
+        return this.prefix + ":{" + shard + "}";
+    }
+
     public String getKey() {
         return this.prefix;
     }
@@ -9,12 +9,15 @@ public enum SocketEvent {
     LOBBY_UPDATE,
     LEAVE_SUCCESS,
     ROOM_LIST,
+    ROUTE,          // 방을 소유한 노드로 다시 연결하라는 안내 (/ws?node=노드 로 재연결, 인계 토큰으로 닉네임을 넘겨받은 뒤 코드로 입장)
 
     GAME_START_TIMER,
     TIMER_CANCELLED,
     LOAD_GAME_SCENE,
 
     CHAT_MESSAGE,   // 채팅 메시지
+    CHAT_BATCH,     // 짧은 시간 안에 모인 채팅 메시지 묶음
+    CHAT_HISTORY,   // 최근 채팅 (늦게 들어온 사람용)
 
     SHOW_ORACLE,     // 신탁 공개 (공통)
     SHOW_ROLE,       // 내 역할 및 성향 확인 (개인)
@@ -34,5 +37,9 @@ public enum SocketEvent {
     NEXT_ROUND_START,    // 다음 라운드
     GAME_OVER,           // 게임 종료
 
+    GAME_STATS,          // 누적 게임 통계
+    LEADERBOARD,         // 랭킹 (상위 N + 내 순위)
+    GAME_HISTORY,        // 게임 기록 (키셋 페이지)
+
     ERROR_MESSAGE
 }
\ No newline at end of file
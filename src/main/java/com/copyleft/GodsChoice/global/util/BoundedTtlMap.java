@@ -0,0 +1,79 @@
+package com.copyleft.GodsChoice.global.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 크기 제한이 있는 노드 로컬 TTL 맵 (로컬 캐시 공용)
+ * - 가득 차면 만료된 항목부터 지우고, 그래도 넘치면 곧 만료될(= 먼저 넣은) 항목부터 최대 크기의 10% 를 지움
+ * - evictable 이 false 인 항목(예: 무효화 기록)은 크기 때문에 지우지 않고 만료로만 사라짐
+ * 값에 만료 시각이 들어 있고, 호출한 쪽이 같은 now 로 읽기/쓰기를 판단합니다.
+ */
+public class BoundedTtlMap<K, V> {
+
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final ToLongFunction<V> expiresAt;
+    private final Predicate<V> evictable;
+
+    public BoundedTtlMap(int maxSize, ToLongFunction<V> expiresAt) {
+        this(maxSize, expiresAt, value -> true);
+    }
+
+    public BoundedTtlMap(int maxSize, ToLongFunction<V> expiresAt, Predicate<V> evictable) {
+        this.maxSize = maxSize;
+        this.expiresAt = expiresAt;
+        this.evictable = evictable;
+    }
+
+    /**
+     * @return 만료되지 않은 값, 없으면 null
+     */
+    public V get(K key, long now) {
+        V value = entries.get(key);
+        return value != null && expiresAt.applyAsLong(value) > now ? value : null;
+    }
+
+    public void put(K key, V value, long now) {
+        makeRoom(now);
+        entries.put(key, value);
+    }
+
+    /**
+     * {@link Map#compute} 와 같고, 넣기 전에 자리를 만듭니다 (기존 값은 만료됐어도 그대로 넘김).
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remapping, long now) {
+        makeRoom(now);
+        return entries.compute(key, remapping);
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom(long now) {
+        if (entries.size() < maxSize) return;
+
+        entries.values().removeIf(value -> expiresAt.applyAsLong(value) <= now);
+        int excess = entries.size() - (maxSize - Math.max(1, maxSize / 10));
+        if (excess <= 0) return;
+
+        List<Map.Entry<K, V>> victims = entries.entrySet().stream()
+                .filter(entry -> evictable.test(entry.getValue()))
+                .sorted(Comparator.comparingLong(entry -> expiresAt.applyAsLong(entry.getValue())))
+                .limit(excess)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+        // 그 사이 새 값으로 바뀐 항목은 지우지 않음
+        victims.forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+    }
+}
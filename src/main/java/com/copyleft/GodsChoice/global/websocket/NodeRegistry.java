@@ -0,0 +1,61 @@
+package com.copyleft.GodsChoice.global.websocket;
+
+import com.copyleft.GodsChoice.global.config.RoutingProperties;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 클러스터 노드 목록
+ * cluster_nodes(ZSet)에 "노드 → 만료 시각"을 주기적으로 기록하고, 살아 있는 노드 목록은 로컬에 들고 있습니다.
+ * 요청마다 Redis 를 보지 않도록 목록은 heartbeat 때만 갱신합니다.
+ */
+@Slf4j
+@Component
+public class NodeRegistry {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RoutingProperties properties;
+
+    private volatile Set<String> aliveNodes = Set.of();
+
+    public NodeRegistry(StringRedisTemplate redisTemplate, RoutingProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    public String getNodeId() {
+        return properties.nodeId();
+    }
+
+    /**
+     * ownerNode 가 소유한 방의 요청을 그 노드로 넘겨야 하는지
+     * (라우팅이 꺼져 있거나, 소유 노드가 없거나 자기 자신이거나 죽었으면 여기서 처리)
+     */
+    public boolean isRemote(String ownerNode) {
+        return properties.enabled()
+                && ownerNode != null
+                && !ownerNode.equals(properties.nodeId())
+                && aliveNodes.contains(ownerNode);
+    }
+
+    @Scheduled(fixedDelayString = "${app.routing.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!properties.enabled()) return;
+
+        String key = RedisKey.CLUSTER_NODES.getKey();
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(key, properties.nodeId(), now + properties.heartbeatTtlMs());
+            redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+            Set<String> alive = redisTemplate.opsForZSet().rangeByScore(key, now, Double.POSITIVE_INFINITY);
+            aliveNodes = alive == null ? Set.of() : Set.copyOf(alive);
+        } catch (Exception e) {
+            log.error("노드 heartbeat 실패: node={}", properties.nodeId(), e);
+        }
+    }
+}
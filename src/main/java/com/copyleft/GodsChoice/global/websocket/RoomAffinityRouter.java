@@ -0,0 +1,122 @@
+package com.copyleft.GodsChoice.global.websocket;
+
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.global.config.RoutingProperties;
+import com.copyleft.GodsChoice.global.websocket.dto.ForwardedCommand;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 방 요청을 방 소유 노드에서 처리하도록 넘김
+ * 방 안에서 하는 요청(채팅, 카드 선택, 투표 등)을 다른 노드가 소유한 방에 대해 받으면,
+ * 소유 노드의 토픽(ws-forward:{노드})으로 넘겨 그 노드에서 핸들러를 실행합니다.
+ * 응답은 기존처럼 WebSocketSender 가 세션이 연결된 노드로 보냅니다.
+ * 넘겨받은 요청은 Redisson 구독 스레드를 막지 않도록 가상 스레드에서 실행합니다 (핸들러가 방 락과 Redis 를 기다림).
+ */
+@Slf4j
+@Component
+public class RoomAffinityRouter {
+
+    private static final String TOPIC_PREFIX = "ws-forward:";
+
+    private final NodeRegistry nodeRegistry;
+    private final RoomRepository roomRepository;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final RoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, WebSocketCommandHandler> handlerMap;
+    private final ExecutorService commandExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RoomAffinityRouter(NodeRegistry nodeRegistry,
+                              RoomRepository roomRepository,
+                              RedissonClient redissonClient,
+                              ObjectMapper objectMapper,
+                              RoutingProperties properties,
+                              MeterRegistry meterRegistry,
+                              List<WebSocketCommandHandler> handlers) {
+        this.nodeRegistry = nodeRegistry;
+        this.roomRepository = roomRepository;
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.handlerMap = handlers.stream()
+                .collect(Collectors.toMap(WebSocketCommandHandler::getAction, Function.identity()));
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.enabled()) return;
+
+        String topicName = TOPIC_PREFIX + nodeRegistry.getNodeId();
+        redissonClient.getTopic(topicName).addListener(ForwardedCommand.class, (channel, command) ->
+                commandExecutor.execute(() -> {
+                    try {
+                        execute(command);
+                    } catch (Exception e) {
+                        log.error("넘겨받은 요청 처리 중 오류: action={}, session={}", command.getAction(), command.getSessionId(), e);
+                    }
+                }));
+        log.info("방 요청 전달 구독 시작: Topic={}", topicName);
+    }
+
+    @PreDestroy
+    public void stop() {
+        commandExecutor.shutdown();
+    }
+
+    /**
+     * 방 안 요청이고, 세션이 속한 방을 다른(살아 있는) 노드가 소유하면 그 노드로 넘깁니다.
+     * @return 넘겼으면 true (호출한 쪽은 처리하지 않음)
+     */
+    public boolean forwardIfRemote(WebSocketSession session, WebSocketCommandHandler handler, JsonNode payload) {
+        if (!properties.enabled() || !handler.isRoomScoped()) return false;
+
+        String roomId = roomRepository.getRoomIdBySessionId(session.getId());
+        if (roomId == null) return false;
+
+        String ownerNode = roomRepository.findRoomSnapshot(roomId).map(RoomSnapshot::ownerNode).orElse(null);
+        if (!nodeRegistry.isRemote(ownerNode)) return false;
+
+        try {
+            RTopic topic = redissonClient.getTopic(TOPIC_PREFIX + ownerNode);
+            topic.publish(new ForwardedCommand(session.getId(), handler.getAction(),
+                    payload == null ? null : objectMapper.writeValueAsString(payload)));
+            meterRegistry.counter("routing.forwarded", "action", handler.getAction()).increment();
+            return true;
+        } catch (Exception e) {
+            // 넘기지 못하면 여기서 처리 (락은 클러스터 공용이라 결과는 같음)
+            log.error("방 요청 전달 실패, 직접 처리: action={}, owner={}", handler.getAction(), ownerNode, e);
+            return false;
+        }
+    }
+
+    private void execute(ForwardedCommand command) throws Exception {
+        WebSocketCommandHandler handler = handlerMap.get(command.getAction());
+        if (handler == null) {
+            log.warn("넘겨받은 요청의 Action 을 알 수 없습니다: {}", command.getAction());
+            return;
+        }
+
+        JsonNode payload = command.getPayload() == null ? null : objectMapper.readTree(command.getPayload());
+        meterRegistry.counter("routing.forward_received", "action", command.getAction()).increment();
+        handler.handle(new ForwardedWebSocketSession(command.getSessionId()), payload);
+    }
+}
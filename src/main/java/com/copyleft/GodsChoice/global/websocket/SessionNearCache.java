@@ -0,0 +1,132 @@
+package com.copyleft.GodsChoice.global.websocket;
+
+import com.copyleft.GodsChoice.global.config.SessionCacheProperties;
+import com.copyleft.GodsChoice.global.util.BoundedTtlMap;
+import com.copyleft.GodsChoice.global.websocket.dto.SessionCacheInvalidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 세션 → 닉네임 / 세션 → 방 ID 로컬 캐시
+ * 거의 모든 요청이 이 매핑을 읽기 때문에, 바뀔 때만 클러스터 토픽으로 다른 노드의 캐시를 지웁니다.
+ * - 값이 바뀌면 쓴 노드는 캐시를 새 값으로 교체하고, 다른 노드에는 무효화 메시지를 보냄
+ * - 무효화가 읽기 도중에 끼어들면 읽은 값은 캐시에 넣지 않음 (세대 번호 비교)
+ * - 메시지를 놓쳐도 ttlMs 가 지나면 다시 Redis 에서 읽음
+ * - 값이 없는 경우(null)는 캐시하지 않음
+ */
+@Slf4j
+@Component
+public class SessionNearCache {
+
+    public enum Kind { NICKNAME, ROOM }
+
+    private static final String TOPIC_NAME = "session-cache-topic";
+
+    private final RedissonClient redissonClient;
+    private final SessionCacheProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Kind, BoundedTtlMap<String, Entry>> caches = new EnumMap<>(Kind.class);
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Kind, Counter> hits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> misses = new EnumMap<>(Kind.class);
+    private final Counter invalidations;
+
+    private record Entry(String value, long expiresAt) {}
+
+    public SessionNearCache(RedissonClient redissonClient, SessionCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+
+        for (Kind kind : Kind.values()) {
+            BoundedTtlMap<String, Entry> cache = new BoundedTtlMap<>(properties.maxSize(), Entry::expiresAt);
+            caches.put(kind, cache);
+            String tag = kind.name().toLowerCase();
+            hits.put(kind, meterRegistry.counter("session_cache.requests", "kind", tag, "result", "hit"));
+            misses.put(kind, meterRegistry.counter("session_cache.requests", "kind", tag, "result", "miss"));
+            Gauge.builder("session_cache.size", cache, BoundedTtlMap::size).tag("kind", tag).register(meterRegistry);
+        }
+        this.invalidations = meterRegistry.counter("session_cache.invalidations");
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.enabled()) return;
+
+        redissonClient.getTopic(TOPIC_NAME).addListener(SessionCacheInvalidation.class, (channel, msg) -> {
+            if (nodeId.equals(msg.getNodeId())) return;
+            try {
+                evict(Kind.valueOf(msg.getKind()), msg.getSessionId());
+            } catch (Exception e) {
+                log.error("세션 캐시 무효화 처리 중 오류: {}", msg, e);
+            }
+        });
+        log.info("세션 캐시 무효화 구독 시작: Topic={}", TOPIC_NAME);
+    }
+
+    /**
+     * 캐시에 있으면 돌려주고, 없으면 loader(Redis 조회)로 읽어 캐시에 넣습니다.
+     */
+    public String get(Kind kind, String sessionId, Supplier<String> loader) {
+        if (!properties.enabled() || sessionId == null) return loader.get();
+
+        BoundedTtlMap<String, Entry> cache = caches.get(kind);
+        long now = System.currentTimeMillis();
+        Entry entry = cache.get(sessionId, now);
+        if (entry != null) {
+            hits.get(kind).increment();
+            return entry.value();
+        }
+
+        misses.get(kind).increment();
+        long readGeneration = generation.get();
+        String value = loader.get();
+        if (value != null && generation.get() == readGeneration) {
+            cache.put(sessionId, new Entry(value, now + properties.ttlMs()), now);
+        }
+        return value;
+    }
+
+    /**
+     * Redis 에 값을 쓴 뒤 호출합니다. 이 노드의 캐시는 새 값으로, 다른 노드의 캐시는 지웁니다.
+     * @param value 삭제했으면 null
+     */
+    public void update(Kind kind, String sessionId, String value) {
+        if (!properties.enabled()) return;
+
+        generation.incrementAndGet();
+        BoundedTtlMap<String, Entry> cache = caches.get(kind);
+        if (value == null) {
+            cache.remove(sessionId);
+        } else {
+            long now = System.currentTimeMillis();
+            cache.put(sessionId, new Entry(value, now + properties.ttlMs()), now);
+        }
+
+        try {
+            RTopic topic = redissonClient.getTopic(TOPIC_NAME);
+            topic.publish(new SessionCacheInvalidation(nodeId, kind.name(), sessionId));
+        } catch (Exception e) {
+            // 다른 노드는 ttlMs 뒤에 다시 읽으므로 요청 자체는 실패시키지 않음
+            log.error("세션 캐시 무효화 전송 실패: kind={}, session={}", kind, sessionId, e);
+        }
+    }
+
+    private void evict(Kind kind, String sessionId) {
+        generation.incrementAndGet();
+        caches.get(kind).remove(sessionId);
+        invalidations.increment();
+    }
+}
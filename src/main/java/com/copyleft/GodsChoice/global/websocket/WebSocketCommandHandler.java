@@ -8,4 +8,11 @@ public interface WebSocketCommandHandler {
     String getAction();
 
     void handle(WebSocketSession session, JsonNode payload);
+
+    /**
+     * 세션이 속한 방에 대한 요청인지 (true 면 방 소유 노드로 넘겨서 처리)
+     */
+    default boolean isRoomScoped() {
+        return false;
+    }
 }
\ No newline at end of file
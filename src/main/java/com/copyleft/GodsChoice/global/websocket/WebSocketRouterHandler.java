@@ -26,6 +26,7 @@ public class WebSocketRouterHandler extends TextWebSocketHandler {
 
     private final NicknameService nicknameService;
     private final LobbyService lobbyService;
+    private final RoomAffinityRouter roomAffinityRouter;
 
     private final Map<String, WebSocketCommandHandler> handlerMap;
 
@@ -34,12 +35,14 @@ public class WebSocketRouterHandler extends TextWebSocketHandler {
             ObjectMapper objectMapper,
             NicknameService nicknameService,
             LobbyService lobbyService,
+            RoomAffinityRouter roomAffinityRouter,
             List<WebSocketCommandHandler> handlers
     ) {
         this.sessionManager = sessionManager;
         this.objectMapper = objectMapper;
         this.nicknameService = nicknameService;
         this.lobbyService = lobbyService;
+        this.roomAffinityRouter = roomAffinityRouter;
         this.handlerMap = handlers.stream()
                 .collect(Collectors.toMap(WebSocketCommandHandler::getAction, Function.identity()));
     }
@@ -62,6 +65,9 @@ public class WebSocketRouterHandler extends TextWebSocketHandler {
             WebSocketCommandHandler handler = handlerMap.get(action);
 
             if (handler != null) {
+                if (roomAffinityRouter.forwardIfRemote(session, handler, request.getPayload())) {
+                    return;
+                }
                 handler.handle(session, request.getPayload());
             } else {
                 log.warn("알 수 없는 Action 입니다: {}", action);
@@ -13,6 +13,7 @@ import org.springframework.web.socket.WebSocketSession;
 
 
 import java.io.IOException;
+import java.util.Collection;
 
 @Slf4j
 @Component
@@ -54,6 +55,26 @@ public class WebSocketSender {
         }
     }
 
+    /**
+     * 같은 이벤트를 여러 세션에 보낼 때 직렬화는 한 번만 합니다.
+     */
+    public void sendEventToSessions(Collection<String> sessionIds, Object event) {
+        if (sessionIds.isEmpty()) return;
+
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            for (String sessionId : sessionIds) {
+                if (sessionManager.getSession(sessionId) != null) {
+                    sendLocal(sessionId, payload);
+                } else {
+                    publishToCluster(sessionId, payload);
+                }
+            }
+        } catch (IOException e) {
+            log.error("메시지 변환/전송 실패: sessions={}", sessionIds, e);
+        }
+    }
+
     private void sendLocal(String sessionId, String payload) {
         WebSocketSession session = sessionManager.getSession(sessionId);
         if (session != null && session.isOpen()) {
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
@@ -26,4 +27,8 @@ public class WebSocketSessionManager {
     public WebSocketSession getSession(String sessionId) {
         return sessions.get(sessionId);
     }
+
+    public Set<String> getSessionIds() {
+        return Set.copyOf(sessions.keySet());
+    }
 }
\ No newline at end of file
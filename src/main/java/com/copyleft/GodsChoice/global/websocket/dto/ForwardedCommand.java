@@ -0,0 +1,14 @@
+package com.copyleft.GodsChoice.global.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForwardedCommand {
+    private String sessionId; // 요청을 보낸 세션 (다른 노드에 연결됨)
+    private String action;    // WebSocketCommandHandler.getAction()
+    private String payload;   // 요청 payload (JSON String)
+}
@@ -0,0 +1,14 @@
+package com.copyleft.GodsChoice.global.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomCacheInvalidation {
+    private String nodeId;  // 보낸 노드 (자기가 보낸 건 무시)
+    private String roomId;  // 바뀐 방
+    private long version;   // 이 번호보다 오래된 스냅샷은 버림 (삭제면 Long.MAX_VALUE)
+}
@@ -0,0 +1,14 @@
+package com.copyleft.GodsChoice.global.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionCacheInvalidation {
+    private String nodeId;    // 보낸 노드 (자기가 보낸 건 무시)
+    private String kind;      // SessionNearCache.Kind
+    private String sessionId; // 무효화할 세션 ID
+}
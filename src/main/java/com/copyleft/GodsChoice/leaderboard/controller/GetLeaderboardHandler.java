@@ -0,0 +1,40 @@
+package com.copyleft.GodsChoice.leaderboard.controller;
+
+import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.copyleft.GodsChoice.leaderboard.dto.LeaderboardRequest;
+import com.copyleft.GodsChoice.leaderboard.service.LeaderboardService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GetLeaderboardHandler implements WebSocketCommandHandler {
+
+    private final LeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getAction() {
+        return "GET_LEADERBOARD";
+    }
+
+    @Override
+    public void handle(WebSocketSession session, JsonNode payload) {
+        LeaderboardRequest dto = null;
+        if (payload != null && !payload.isNull()) {
+            try {
+                dto = objectMapper.treeToValue(payload, LeaderboardRequest.class);
+            } catch (Exception e) {
+                log.warn("[GET_LEADERBOARD] payload 파싱 실패, 전체 랭킹 조회: session={}", session.getId());
+            }
+        }
+        leaderboardService.getLeaderboard(session.getId(),
+                dto != null ? dto.getWindow() : null,
+                dto != null ? dto.getLimit() : null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.copyleft.GodsChoice.leaderboard.dto;
+
+import com.copyleft.GodsChoice.domain.type.LeaderboardWindow;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class LeaderboardPayloads {
+
+    @Getter
+    @Builder
+    public static class Entry {
+        private long rank; // 1등부터
+        private String nickname;
+        private long score;
+    }
+
+    @Getter
+    @Builder
+    public static class Board {
+        private LeaderboardWindow window;
+        private List<Entry> top;
+        private Entry me; // 기록이 없으면 null
+    }
+}
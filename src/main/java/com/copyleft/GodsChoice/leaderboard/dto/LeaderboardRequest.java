@@ -0,0 +1,13 @@
+package com.copyleft.GodsChoice.leaderboard.dto;
+
+import com.copyleft.GodsChoice.domain.type.LeaderboardWindow;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LeaderboardRequest {
+
+    private LeaderboardWindow window; // 없으면 ALL
+    private Integer limit;            // 없으면 최대값
+}
@@ -0,0 +1,63 @@
+package com.copyleft.GodsChoice.leaderboard.repository;
+
+import com.copyleft.GodsChoice.domain.type.LeaderboardWindow;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class LeaderboardRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 닉네임별 점수 증가분을 모든 기간 키에 한 번의 파이프라인으로 반영합니다.
+     */
+    public void incrementScores(Map<String, Double> deltas, LocalDate date) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (LeaderboardWindow window : LeaderboardWindow.values()) {
+                    String key = key(window, date);
+                    deltas.forEach((nickname, delta) -> ops.opsForZSet().incrementScore(key, nickname, delta));
+                    if (window.getTtl() != null) {
+                        ops.expire(key, window.getTtl());
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    public Set<ZSetOperations.TypedTuple<String>> findTop(LeaderboardWindow window, LocalDate date, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key(window, date), 0, limit - 1);
+        return top == null ? Set.of() : top;
+    }
+
+    /**
+     * @return 0부터 시작하는 순위, 기록이 없으면 null
+     */
+    public Long findRank(LeaderboardWindow window, LocalDate date, String nickname) {
+        return redisTemplate.opsForZSet().reverseRank(key(window, date), nickname);
+    }
+
+    public Double findScore(LeaderboardWindow window, LocalDate date, String nickname) {
+        return redisTemplate.opsForZSet().score(key(window, date), nickname);
+    }
+
+    private static String key(LeaderboardWindow window, LocalDate date) {
+        return RedisKey.LEADERBOARD.makeKey(window.suffix(date));
+    }
+}
@@ -0,0 +1,23 @@
+package com.copyleft.GodsChoice.leaderboard.service;
+
+import com.copyleft.GodsChoice.global.constant.SocketEvent;
+import com.copyleft.GodsChoice.global.websocket.WebSocketSender;
+import com.copyleft.GodsChoice.global.websocket.dto.WebSocketResponse;
+import com.copyleft.GodsChoice.leaderboard.dto.LeaderboardPayloads;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LeaderboardResponseSender {
+
+    private final WebSocketSender webSocketSender;
+
+    public void sendLeaderboard(String sessionId, LeaderboardPayloads.Board board) {
+        WebSocketResponse<LeaderboardPayloads.Board> response = WebSocketResponse.<LeaderboardPayloads.Board>builder()
+                .event(SocketEvent.LEADERBOARD.name())
+                .data(board)
+                .build();
+        webSocketSender.sendEventToSession(sessionId, response);
+    }
+}
@@ -0,0 +1,124 @@
+package com.copyleft.GodsChoice.leaderboard.service;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.LeaderboardWindow;
+import com.copyleft.GodsChoice.global.config.LeaderboardProperties;
+import com.copyleft.GodsChoice.leaderboard.dto.LeaderboardPayloads;
+import com.copyleft.GodsChoice.leaderboard.repository.LeaderboardRepository;
+import com.copyleft.GodsChoice.user.repository.NicknameRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 닉네임 랭킹 (Redis ZSET)
+ * 게임 종료 시 점수를 메모리에 모아 두었다가 flushIntervalMs 마다 한 번의 파이프라인으로 반영합니다.
+ * 여러 판이 한꺼번에 끝나도 같은 닉네임의 점수는 하나로 합쳐져 Redis 호출 수가 늘지 않습니다.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final NicknameRepository nicknameRepository;
+    private final LeaderboardResponseSender leaderboardResponseSender;
+    private final LeaderboardProperties properties;
+    private final ZoneId zoneId;
+
+    private Map<String, Double> pending = new HashMap<>();
+
+    public LeaderboardService(LeaderboardRepository leaderboardRepository,
+                              NicknameRepository nicknameRepository,
+                              LeaderboardResponseSender leaderboardResponseSender,
+                              LeaderboardProperties properties) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.nicknameRepository = nicknameRepository;
+        this.leaderboardResponseSender = leaderboardResponseSender;
+        this.properties = properties;
+        this.zoneId = ZoneId.of(properties.zoneId());
+    }
+
+    public synchronized void recordGameOver(Room room, String winnerRole) {
+        for (Player player : room.getPlayers()) {
+            if (player.getNickname() == null) continue;
+
+            boolean won = player.getRole() != null && player.getRole().name().equals(winnerRole);
+            double points = properties.playPoints() + (won ? properties.winPoints() : 0);
+            pending.merge(player.getNickname(), points, Double::sum);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.flush-interval-ms:1000}")
+    public void flush() {
+        Map<String, Double> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            batch = pending;
+            pending = new HashMap<>();
+        }
+
+        try {
+            leaderboardRepository.incrementScores(batch, today());
+            log.debug("랭킹 반영 완료: players={}", batch.size());
+        } catch (Exception e) {
+            log.error("랭킹 반영 실패, 다음 주기에 재시도: players={}", batch.size(), e);
+            synchronized (this) {
+                batch.forEach((nickname, points) -> pending.merge(nickname, points, Double::sum));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public void getLeaderboard(String sessionId, LeaderboardWindow window, Integer limit) {
+        LeaderboardWindow target = window == null ? LeaderboardWindow.ALL : window;
+        int size = (limit == null || limit <= 0) ? properties.maxLimit() : Math.min(limit, properties.maxLimit());
+        LocalDate date = today();
+
+        List<LeaderboardPayloads.Entry> top = new ArrayList<>();
+        long rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : leaderboardRepository.findTop(target, date, size)) {
+            top.add(entry(rank++, tuple.getValue(), tuple.getScore()));
+        }
+
+        LeaderboardPayloads.Entry me = null;
+        String nickname = nicknameRepository.getNicknameBySessionId(sessionId);
+        if (nickname != null) {
+            Long myRank = leaderboardRepository.findRank(target, date, nickname);
+            if (myRank != null) {
+                me = entry(myRank + 1, nickname, leaderboardRepository.findScore(target, date, nickname));
+            }
+        }
+
+        leaderboardResponseSender.sendLeaderboard(sessionId, LeaderboardPayloads.Board.builder()
+                .window(target)
+                .top(top)
+                .me(me)
+                .build());
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(zoneId);
+    }
+
+    private static LeaderboardPayloads.Entry entry(long rank, String nickname, Double score) {
+        return LeaderboardPayloads.Entry.builder()
+                .rank(rank)
+                .nickname(nickname)
+                .score(score == null ? 0 : score.longValue())
+                .build();
+    }
+}
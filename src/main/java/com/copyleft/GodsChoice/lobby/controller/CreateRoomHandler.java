@@ -1,17 +1,22 @@
 package com.copyleft.GodsChoice.lobby.controller;
 
 import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.copyleft.GodsChoice.lobby.dto.LobbyRequest;
 import com.copyleft.GodsChoice.lobby.service.LobbyService;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class CreateRoomHandler implements WebSocketCommandHandler {
 
     private final LobbyService lobbyService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public String getAction() {
@@ -20,6 +25,15 @@ public class CreateRoomHandler implements WebSocketCommandHandler {
 
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
-        lobbyService.createRoom(session.getId());
+        String theme = null;
+        if (payload != null && !payload.isNull()) {
+            try {
+                LobbyRequest dto = objectMapper.treeToValue(payload, LobbyRequest.class);
+                theme = (dto != null) ? dto.getTheme() : null;
+            } catch (Exception e) {
+                log.warn("[CREATE_ROOM] payload 파싱 실패, 기본 덱으로 생성: session={}", session.getId());
+            }
+        }
+        lobbyService.createRoom(session.getId(), theme);
     }
 }
@@ -18,6 +18,11 @@ public class LeaveRoomHandler implements WebSocketCommandHandler {
         return "LEAVE_ROOM";
     }
 
+    @Override
+    public boolean isRoomScoped() {
+        return true;
+    }
+
     @Override
     public void handle(WebSocketSession session, JsonNode payload) {
         lobbyService.leaveRoom(session.getId());
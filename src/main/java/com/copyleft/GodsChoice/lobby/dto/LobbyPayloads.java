@@ -17,6 +17,14 @@ public class LobbyPayloads {
         private boolean isPlaying;
     }
 
+    @Getter
+    @Builder
+    public static class Route {
+        private String node;     // 다시 연결할 노드 (nginx 가 ?node= 값으로 백엔드를 고름)
+        private String roomCode; // 재연결 후 JOIN_BY_CODE 에 쓸 코드
+        private String handoffToken; // 재연결 후 SET_NICKNAME 에 함께 보내면 이전 연결의 닉네임을 넘겨받음
+    }
+
     @Getter
     @Builder
     public static class RoomList {
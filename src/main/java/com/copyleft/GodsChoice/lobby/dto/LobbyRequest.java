@@ -8,4 +8,5 @@ import lombok.NoArgsConstructor;
 public class LobbyRequest {
 
     private String roomCode;
+    private String theme; // 방 생성 시 덱 테마 (선택)
 }
\ No newline at end of file
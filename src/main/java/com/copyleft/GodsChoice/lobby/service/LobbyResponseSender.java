@@ -68,6 +68,27 @@ public class LobbyResponseSender {
         broadcastToRoom(room, response);
     }
 
+    /**
+     * 방을 소유한 노드로 다시 연결하라고 안내합니다. 클라이언트 순서:
+     * 1. /ws?node=노드 로 새 연결을 연다 (이전 연결은 열어 둔 채로 괜찮음)
+     * 2. SET_NICKNAME 에 handoffToken 을 함께 보내 이전 연결의 닉네임 임대를 넘겨받는다
+     *    (토큰 없이 같은 닉네임을 요청하면, 이전 연결이 닫혀 임대를 반납하기 전까지 NICKNAME_DUPLICATE)
+     * 3. JOIN_BY_CODE 로 입장한 뒤 이전 연결을 닫는다
+     */
+    public void sendRoute(String sessionId, String node, String roomCode, String handoffToken) {
+        LobbyPayloads.Route data = LobbyPayloads.Route.builder()
+                .node(node)
+                .roomCode(roomCode)
+                .handoffToken(handoffToken)
+                .build();
+
+        WebSocketResponse<LobbyPayloads.Route> response = WebSocketResponse.<LobbyPayloads.Route>builder()
+                .event(SocketEvent.ROUTE.name())
+                .data(data)
+                .build();
+        webSocketSender.sendEventToSession(sessionId, response);
+    }
+
     public void sendLeaveSuccess(String sessionId) {
         WebSocketResponse<Void> response = WebSocketResponse.<Void>builder()
                 .event(SocketEvent.LEAVE_SUCCESS.name())
@@ -6,6 +6,7 @@ import com.copyleft.GodsChoice.domain.Room;
 import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
 import com.copyleft.GodsChoice.domain.type.PlayerColor;
 import com.copyleft.GodsChoice.domain.type.RoomStatus;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
 import com.copyleft.GodsChoice.game.service.GameRoomLockFacade;
 import com.copyleft.GodsChoice.game.service.LockResult;
 import com.copyleft.GodsChoice.game.event.GameUserTimeoutEvent;
@@ -13,8 +14,10 @@ import com.copyleft.GodsChoice.game.event.PlayerLeftEvent;
 import com.copyleft.GodsChoice.lobby.dto.LobbyPayloads;
 import com.copyleft.GodsChoice.global.constant.ErrorCode;
 import com.copyleft.GodsChoice.global.util.RandomUtil;
+import com.copyleft.GodsChoice.global.websocket.NodeRegistry;
 import com.copyleft.GodsChoice.user.repository.NicknameRepository;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.RoomWriteBatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -32,6 +35,7 @@ public class LobbyService {
     private final RoomRepository roomRepository;
     private final NicknameRepository nicknameRepository;
     private final GameRoomLockFacade lockFacade;
+    private final NodeRegistry nodeRegistry;
     private final GameProperties gameProperties;
     private final LobbyResponseSender responseSender;
     private final ApplicationEventPublisher eventPublisher;
@@ -42,6 +46,10 @@ public class LobbyService {
     }
 
     public void createRoom(String sessionId) {
+        createRoom(sessionId, null);
+    }
+
+    public void createRoom(String sessionId, String deckTheme) {
         String nickname = nicknameRepository.getNicknameBySessionId(sessionId);
         if (nickname == null) {
             responseSender.sendError(sessionId, ErrorCode.INVALID_NICKNAME);
@@ -64,11 +72,15 @@ public class LobbyService {
         int randomHp = RandomUtil.generateRandomHp(gameProperties.minInitialHp(), gameProperties.maxInitialHp());
 
         Room room = Room.create(roomId, roomCode, roomTitle, sessionId, host, randomHp);
+        room.setDeckTheme(deckTheme);
+        room.setOwnerNode(nodeRegistry.getNodeId());
 
         room.getCurrentPhaseData().put(sessionId, "HOST");
-        roomRepository.saveRoom(room);
-        roomRepository.saveSessionRoomMapping(sessionId, roomId);
-        roomRepository.addWaitingRoom(roomId);
+        RoomWriteBatch batch = roomRepository.batch();
+        batch.saveRoom(room);
+        batch.saveSessionRoomMapping(sessionId, roomId);
+        batch.addWaitingRoom(roomId);
+        batch.commit();
 
         responseSender.sendCreateSuccess(sessionId, room);
         responseSender.broadcastLobbyUpdate(room);
@@ -122,7 +134,12 @@ public class LobbyService {
             if (candidates != null && !candidates.isEmpty()) {
                 Collections.shuffle(candidates);
 
-                joinRoomInternal(sessionId, candidates.getFirst().getRoomId());
+                // 같은 인원이면 이 노드가 소유한 방을 먼저 (재연결 없이 바로 입장)
+                Room picked = candidates.stream()
+                        .filter(r -> !nodeRegistry.isRemote(r.getOwnerNode()))
+                        .findFirst()
+                        .orElse(candidates.getFirst());
+                joinRoomInternal(sessionId, picked.getRoomId());
                 return;
             }
         }
@@ -131,14 +148,14 @@ public class LobbyService {
     }
 
     public void getRoomList(String sessionId) {
-        List<Room> waitingRooms = roomRepository.findAllWaitingRooms();
+        List<RoomSnapshot> waitingRooms = roomRepository.findWaitingRoomSnapshots();
 
         List<LobbyPayloads.RoomInfo> roomInfos = waitingRooms.stream()
-                .filter(r -> r.getStatus() == RoomStatus.WAITING)
+                .filter(r -> r.status() == RoomStatus.WAITING)
                 .map(r -> LobbyPayloads.RoomInfo.builder()
-                        .roomId(r.getRoomId())
-                        .roomTitle(r.getRoomTitle())
-                        .currentCount(r.getPlayers().size())
+                        .roomId(r.roomId())
+                        .roomTitle(r.roomTitle())
+                        .currentCount(r.playerCount())
                         .maxCount(gameProperties.maxPlayerCount())
                         .isPlaying(false)
                         .build())
@@ -149,6 +166,15 @@ public class LobbyService {
 
     private void joinRoomInternal(String sessionId, String roomId) {
 
+        // 다른 노드가 소유한 방이면 그 노드로 다시 연결하도록 안내 (방 안의 모든 요청을 한 노드에서 처리)
+        Optional<RoomSnapshot> target = roomRepository.findRoomSnapshot(roomId);
+        if (target.isPresent() && nodeRegistry.isRemote(target.get().ownerNode())) {
+            responseSender.sendRoute(sessionId, target.get().ownerNode(), target.get().roomCode(),
+                    nicknameRepository.createHandoff(sessionId));
+            log.info("방 소유 노드로 재연결 안내: room={}, node={}, session={}", roomId, target.get().ownerNode(), sessionId);
+            return;
+        }
+
         LockResult<Void> result = lockFacade.execute(roomId, () -> {
             Optional<Room> roomOpt = roomRepository.findRoomById(roomId);
             if (roomOpt.isEmpty()) {
@@ -181,12 +207,14 @@ public class LobbyService {
 
             room.addPlayer(newPlayer);
             room.getCurrentPhaseData().put(sessionId, "NEW");
-            roomRepository.saveRoom(room);
-            roomRepository.saveSessionRoomMapping(sessionId, roomId);
+            RoomWriteBatch batch = roomRepository.batch();
+            batch.saveRoom(room);
+            batch.saveSessionRoomMapping(sessionId, roomId);
 
             if (room.getPlayers().size() >= gameProperties.maxPlayerCount()) {
-                roomRepository.removeWaitingRoom(roomId);
+                batch.removeWaitingRoom(roomId);
             }
+            batch.commit();
 
             responseSender.sendJoinSuccess(sessionId, room);
             responseSender.broadcastLobbyUpdate(room);
@@ -220,11 +248,13 @@ public class LobbyService {
 
             room.getCurrentPhaseData().remove(sessionId);
             room.removePlayer(sessionId);
-            roomRepository.deleteSessionRoomMapping(sessionId);
-            responseSender.sendLeaveSuccess(sessionId);
+            RoomWriteBatch batch = roomRepository.batch();
+            batch.deleteSessionRoomMapping(sessionId);
 
             if (room.isEmpty()) {
-                roomRepository.deleteRoom(roomId, room.getRoomCode());
+                batch.deleteRoom(roomId, room.getRoomCode());
+                batch.commit();
+                responseSender.sendLeaveSuccess(sessionId);
                 log.info("방 삭제 완료: {}", roomId);
                 return;
             }
@@ -242,10 +272,12 @@ public class LobbyService {
             }
 
             if (room.getStatus() == RoomStatus.WAITING) {
-                roomRepository.addWaitingRoom(roomId);
+                batch.addWaitingRoom(roomId);
             }
 
-            roomRepository.saveRoom(room);
+            batch.saveRoom(room);
+            batch.commit();
+            responseSender.sendLeaveSuccess(sessionId);
             responseSender.broadcastLobbyUpdate(room);
 
             eventPublisher.publishEvent(new PlayerLeftEvent(roomId, sessionId));
@@ -28,7 +28,7 @@ public class SetNicknameHandler implements WebSocketCommandHandler {
         try {
             SetNicknameRequest dto = objectMapper.treeToValue(payload, SetNicknameRequest.class);
             if (dto != null) {
-                nicknameService.setNickname(session.getId(), dto.getNickname());
+                nicknameService.setNickname(session.getId(), dto.getNickname(), dto.getHandoffToken());
             }
         } catch (Exception e) {
             log.error("[SET_NICKNAME] 처리 중 오류: session={}, msg={}", session.getId(), e.getMessage(), e);
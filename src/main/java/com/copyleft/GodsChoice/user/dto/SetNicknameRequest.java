@@ -7,4 +7,5 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class SetNicknameRequest {
     private String nickname;
+    private String handoffToken; // ROUTE 로 받은 토큰이 있으면 이전 연결의 닉네임을 넘겨받음
 }
\ No newline at end of file
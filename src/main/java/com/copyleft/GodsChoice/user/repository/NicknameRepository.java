@@ -1,42 +1,282 @@
 package com.copyleft.GodsChoice.user.repository;
 
+import com.copyleft.GodsChoice.global.config.NicknameProperties;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * 닉네임 임대(lease)
+ * - nickname_lease:{샤드}:닉네임 → sessionId (TTL), 이 키가 살아 있는 동안만 닉네임을 차지함
+ * - session:{sessionId} → 닉네임 (TTL)
+ * - active_nicknames:{샤드}: 리퍼가 훑어보는 색인 (실제 소유 판단은 임대 키로만 함)
+ * - nickname_handoff:토큰 → 이전 sessionId (ROUTE 로 다른 노드에 다시 연결할 때 임대를 넘겨받는 일회성 키)
+ * 스크립트는 닉네임 하나의 임대 키와 그 샤드의 색인만 KEYS 로 받아 한 슬롯 안에서 끝납니다 (클러스터).
+ * 세션 키는 닉네임과 슬롯이 달라 스크립트 밖에서 먼저 읽고, 나머지 쓰기와 함께 파이프라인으로 보냅니다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class NicknameRepository {
 
+    // KEYS: 임대 키, 색인 / ARGV: sessionId, 닉네임, ttlMs
+    private static final RedisScript<Long> CLAIM = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner and owner ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: 임대 키, 색인 / ARGV: 이전 sessionId, 새 sessionId, 닉네임, ttlMs (이전 세션이 가진 임대일 때만 넘김)
+    private static final RedisScript<Long> TRANSFER = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner ~= ARGV[1] and owner ~= ARGV[2] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: 임대 키, 색인 / ARGV: sessionId, 닉네임 (이 세션이 가진 임대일 때만 지움)
+    private static final byte[] RELEASE = utf8("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              redis.call('SREM', KEYS[2], ARGV[2])
+              return 1
+            elseif not owner then
+              redis.call('SREM', KEYS[2], ARGV[2])
+            end
+            return 0
+            """);
+
+    // KEYS: 임대 키 / ARGV: sessionId, ttlMs
+    private static final byte[] REFRESH = utf8("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """);
+
+    // KEYS: 색인, 같은 샤드 닉네임들의 임대 키 / ARGV: 닉네임... (KEYS[i + 1] 이 ARGV[i] 의 임대 키)
+    private static final RedisScript<Long> REAP = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV do
+              if redis.call('EXISTS', KEYS[i + 1]) == 0 then
+                removed = removed + redis.call('SREM', KEYS[1], ARGV[i])
+              end
+            end
+            return removed
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final NicknameProperties properties;
+    private final SessionNearCache sessionNearCache;
+
+    /**
+     * 닉네임을 임대합니다. 이미 닉네임이 있는 세션이면 새 닉네임을 잡은 뒤 이전 닉네임을 반납합니다.
+     * 세션 키 읽기 → 임대 스크립트(CLAIM) → 세션 키 저장과 이전 임대 반납(파이프라인) 순서로 왕복 3회이며 원자적이지 않습니다.
+     * 그 사이 {@link #release} 가 끝난 세션이면 새 임대가 남으므로, 호출한 쪽에서 세션이 아직 연결돼 있는지 확인해야 합니다.
+     * @return 다른 세션이 쓰고 있으면 false (자기 닉네임으로 다시 요청하면 임대만 연장하고 true)
+     */
+    public boolean reserve(String sessionId, String nickname) {
+        String sessionKey = RedisKey.SESSION.makeKey(sessionId);
+        String oldNickname = redisTemplate.opsForValue().get(sessionKey);
+        long ttlMs = properties.leaseTtlMs();
+
+        Long claimed = redisTemplate.execute(CLAIM, List.of(leaseKey(nickname), indexKey(nickname)),
+                sessionId, nickname, String.valueOf(ttlMs));
+        if (claimed == null || claimed != 1) return false;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(utf8(sessionKey), utf8(nickname),
+                    Expiration.milliseconds(ttlMs), RedisStringCommands.SetOption.upsert());
+            if (oldNickname != null && !oldNickname.equals(nickname)) {
+                evalRelease(connection, sessionId, oldNickname);
+            }
+            return null;
+        });
+        sessionNearCache.update(SessionNearCache.Kind.NICKNAME, sessionId, nickname);
+        return true;
+    }
+
+    /**
+     * 다른 노드로 다시 연결할 세션의 닉네임을 넘겨줄 일회성 토큰을 만듭니다.
+     */
+    public String createHandoff(String sessionId) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(RedisKey.NICKNAME_HANDOFF.makeKey(token), sessionId,
+                Duration.ofMillis(properties.handoffTtlMs()));
+        return token;
+    }
+
+    /**
+     * 토큰을 만든 세션의 닉네임 임대와 세션 키를 새 세션으로 옮깁니다. 토큰은 한 번만 쓸 수 있습니다.
+     * 이전 세션 키를 지우므로, 이전 연결이 나중에 닫혀도 {@link #release} 는 아무것도 반납하지 않습니다.
+     * @return 넘겨받은 닉네임, 토큰이 없거나 이전 세션이 이미 반납했으면 null
+     */
+    public String takeOver(String sessionId, String token) {
+        String oldSessionId = redisTemplate.opsForValue().getAndDelete(RedisKey.NICKNAME_HANDOFF.makeKey(token));
+        if (oldSessionId == null) return null;
+
+        String oldSessionKey = RedisKey.SESSION.makeKey(oldSessionId);
+        String nickname = redisTemplate.opsForValue().get(oldSessionKey);
+        if (nickname == null) return null;
+
+        long ttlMs = properties.leaseTtlMs();
+        Long transferred = redisTemplate.execute(TRANSFER, List.of(leaseKey(nickname), indexKey(nickname)),
+                oldSessionId, sessionId, nickname, String.valueOf(ttlMs));
+        if (transferred == null || transferred != 1) return null;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(utf8(RedisKey.SESSION.makeKey(sessionId)), utf8(nickname),
+                    Expiration.milliseconds(ttlMs), RedisStringCommands.SetOption.upsert());
+            connection.keyCommands().del(utf8(oldSessionKey));
+            return null;
+        });
+        sessionNearCache.update(SessionNearCache.Kind.NICKNAME, oldSessionId, null);
+        sessionNearCache.update(SessionNearCache.Kind.NICKNAME, sessionId, nickname);
+        return nickname;
+    }
+
+    /**
+     * @return 반납한 닉네임, 없으면 null
+     */
+    public String release(String sessionId) {
+        String nickname = redisTemplate.opsForValue().getAndDelete(RedisKey.SESSION.makeKey(sessionId));
+        if (nickname != null) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                evalRelease(connection, sessionId, nickname);
+                return null;
+            });
+        }
+        sessionNearCache.update(SessionNearCache.Kind.NICKNAME, sessionId, null);
+        return nickname;
+    }
+
+    /**
+     * 연결된 세션들의 임대를 연장합니다.
+     * 세션 키 읽기, 닉네임별 임대 연장 스크립트, 세션 키 연장을 각각 파이프라인 한 번으로 보냅니다 (왕복 3회).
+     * @return 연장한 세션 수
+     */
+    public long refreshLeases(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) return 0;
 
-    private static final String KEY_ACTIVE_NICKNAMES = "active_nicknames";
-    private static final String KEY_SESSION_PREFIX = "session:";
+        List<String> sessions = new ArrayList<>(sessionIds);
+        List<String> sessionKeys = sessions.stream().map(RedisKey.SESSION::makeKey).toList();
+        List<String> nicknames = redisTemplate.opsForValue().multiGet(sessionKeys);
+        if (nicknames == null) return 0;
 
-    public boolean reserveNickname(String nickname) {
-        Long addedCount = redisTemplate.opsForSet().add(KEY_ACTIVE_NICKNAMES, nickname);
-        return addedCount != null && addedCount > 0;
+        List<Integer> owned = new ArrayList<>(sessions.size());
+        for (int i = 0; i < sessions.size(); i++) {
+            if (nicknames.get(i) != null) owned.add(i);
+        }
+        if (owned.isEmpty()) return 0;
+
+        byte[] ttl = utf8(String.valueOf(properties.leaseTtlMs()));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i : owned) {
+                connection.scriptingCommands().eval(REFRESH, ReturnType.INTEGER, 1,
+                        utf8(leaseKey(nicknames.get(i))), utf8(sessions.get(i)), ttl);
+            }
+            return null;
+        });
+
+        List<String> refreshedKeys = new ArrayList<>(owned.size());
+        for (int j = 0; j < owned.size(); j++) {
+            if (results.get(j) instanceof Long refreshed && refreshed == 1) {
+                refreshedKeys.add(sessionKeys.get(owned.get(j)));
+            }
+        }
+        if (!refreshedKeys.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : refreshedKeys) {
+                    connection.keyCommands().pExpire(utf8(key), properties.leaseTtlMs());
+                }
+                return null;
+            });
+        }
+        return refreshedKeys.size();
     }
 
-    public void removeNickname(String nickname) {
-        redisTemplate.opsForSet().remove(KEY_ACTIVE_NICKNAMES, nickname);
+    /**
+     * 샤드마다 active_nicknames:{샤드} 를 SSCAN 으로 나눠 훑으면서 임대가 끝난 닉네임을 지웁니다.
+     * @return 지운 닉네임 수
+     */
+    public long reapExpired() {
+        long removed = 0;
+        List<String> batch = new ArrayList<>(properties.reapBatchSize());
+        ScanOptions options = ScanOptions.scanOptions().count(properties.reapBatchSize()).build();
+
+        for (int shard = 0; shard < RedisKey.ROOM_SHARDS; shard++) {
+            String indexKey = RedisKey.ACTIVE_NICKNAMES.makeShardKey(shard);
+            try (Cursor<String> cursor = redisTemplate.opsForSet().scan(indexKey, options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= properties.reapBatchSize()) {
+                        removed += reap(indexKey, batch);
+                        batch.clear();
+                    }
+                }
+            }
+            removed += reap(indexKey, batch);
+            batch.clear();
+        }
+        return removed;
     }
 
-    public void saveSessionNicknameMapping(String sessionId, String nickname) {
-        redisTemplate.opsForValue().set(
-                KEY_SESSION_PREFIX + sessionId,
-                nickname,
-                Duration.ofHours(24)
-        );
+    private long reap(String indexKey, List<String> nicknames) {
+        if (nicknames.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(nicknames.size() + 1);
+        keys.add(indexKey);
+        nicknames.forEach(nickname -> keys.add(leaseKey(nickname)));
+
+        Long removed = redisTemplate.execute(REAP, keys, nicknames.toArray());
+        return removed == null ? 0 : removed;
     }
 
     public String getNicknameBySessionId(String sessionId) {
-        return redisTemplate.opsForValue().get(KEY_SESSION_PREFIX + sessionId);
+        return sessionNearCache.get(SessionNearCache.Kind.NICKNAME, sessionId,
+                () -> redisTemplate.opsForValue().get(RedisKey.SESSION.makeKey(sessionId)));
+    }
+
+    // 파이프라인 안에서는 EVALSHA 의 NOSCRIPT 재시도를 할 수 없어 스크립트 본문을 EVAL 로 보냄
+    private static void evalRelease(RedisConnection connection, String sessionId, String nickname) {
+        connection.scriptingCommands().eval(RELEASE, ReturnType.INTEGER, 2,
+                utf8(leaseKey(nickname)), utf8(indexKey(nickname)), utf8(sessionId), utf8(nickname));
+    }
+
+    private static String leaseKey(String nickname) {
+        return RedisKey.NICKNAME_LEASE.makeNicknameKey(nickname);
+    }
+
+    private static String indexKey(String nickname) {
+        return RedisKey.ACTIVE_NICKNAMES.makeShardKey(RedisKey.shardOf(nickname));
     }
 
-    public void deleteSessionMapping(String sessionId) {
-        redisTemplate.delete(KEY_SESSION_PREFIX + sessionId);
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.copyleft.GodsChoice.user.service;
+
+import com.copyleft.GodsChoice.global.config.NicknameProperties;
+import com.copyleft.GodsChoice.global.websocket.WebSocketSessionManager;
+import com.copyleft.GodsChoice.user.repository.NicknameRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 닉네임 임대 관리
+ * - 이 노드에 연결된 세션의 임대를 주기적으로 연장 (연결이 살아 있다는 신호)
+ * - 노드가 죽어 연장이 끊긴 닉네임은 TTL이 지나면 풀리고, 샤드별 색인(active_nicknames:{샤드})에 남은 항목은 리퍼가 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameLeaseKeeper {
+
+    private final NicknameRepository nicknameRepository;
+    private final WebSocketSessionManager sessionManager;
+    private final NicknameProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.nickname.refresh-interval-ms:30000}")
+    public void refreshLeases() {
+        try {
+            List<String> sessionIds = new ArrayList<>(sessionManager.getSessionIds());
+            long refreshed = 0;
+            for (int from = 0; from < sessionIds.size(); from += properties.refreshBatchSize()) {
+                int to = Math.min(from + properties.refreshBatchSize(), sessionIds.size());
+                refreshed += nicknameRepository.refreshLeases(sessionIds.subList(from, to));
+            }
+            log.debug("닉네임 임대 연장: sessions={}, refreshed={}", sessionIds.size(), refreshed);
+        } catch (Exception e) {
+            log.error("닉네임 임대 연장 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.nickname.reap-interval-ms:300000}")
+    public void reapExpired() {
+        try {
+            long removed = nicknameRepository.reapExpired();
+            if (removed > 0) {
+                log.info("만료된 닉네임 정리: {}개", removed);
+            }
+        } catch (Exception e) {
+            log.error("만료된 닉네임 정리 실패", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.copyleft.GodsChoice.user.service;
 
+import com.copyleft.GodsChoice.chat.service.BannedWordFilter;
 import com.copyleft.GodsChoice.global.config.GameProperties;
 import com.copyleft.GodsChoice.domain.Player;
 import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
@@ -8,6 +9,7 @@ import com.copyleft.GodsChoice.global.constant.ErrorCode;
 import com.copyleft.GodsChoice.global.constant.SocketEvent;
 import com.copyleft.GodsChoice.user.repository.NicknameRepository;
 import com.copyleft.GodsChoice.global.websocket.WebSocketSender;
+import com.copyleft.GodsChoice.global.websocket.WebSocketSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,37 +22,57 @@ public class NicknameService {
 
     private final NicknameRepository nicknameRepository;
     private final WebSocketSender webSocketSender;
+    private final WebSocketSessionManager sessionManager;
     private final GameProperties gameProperties;
+    private final BannedWordFilter bannedWordFilter;
 
 
     public void setNickname(String sessionId, String nickname) {
+        setNickname(sessionId, nickname, null);
+    }
+
+    /**
+     * @param handoffToken ROUTE 로 받은 인계 토큰, 있으면 이전 연결의 닉네임 임대를 넘겨받음
+     *                     (넘겨받지 못하면, 예를 들어 토큰이 만료됐으면 일반 임대로 처리)
+     */
+    public void setNickname(String sessionId, String nickname, String handoffToken) {
+        if (StringUtils.hasText(handoffToken)) {
+            String handedOver = nicknameRepository.takeOver(sessionId, handoffToken);
+            if (handedOver != null) {
+                log.info("닉네임 인계 완료: session={}, user={}", sessionId, handedOver);
+                completeReservation(sessionId, handedOver);
+                return;
+            }
+        }
 
         if (!StringUtils.hasText(nickname) ||
                 nickname.length() < gameProperties.nicknameMinLength() ||
                 nickname.length() > gameProperties.nicknameMaxLength()) {
-            sendError(sessionId);
+            sendError(sessionId, ErrorCode.INVALID_NICKNAME);
             return;
         }
 
-        String oldNickname = nicknameRepository.getNicknameBySessionId(sessionId);
-        if (oldNickname != null && oldNickname.equals(nickname)) {
-            sendSuccess(sessionId, nickname);
+        if (bannedWordFilter.containsBannedWord(nickname)) {
+            sendError(sessionId, ErrorCode.NICKNAME_BANNED_WORD);
             return;
         }
 
-        boolean isReserved = nicknameRepository.reserveNickname(nickname);
-
-        if (!isReserved) {
+        // 새 닉네임 임대(CLAIM) → 세션 키 저장 + 이전 닉네임 반납 (왕복 3회, 원자적이지 않음)
+        if (!nicknameRepository.reserve(sessionId, nickname)) {
             sendDuplicate(sessionId);
             return;
         }
 
-        if (oldNickname != null && !oldNickname.equals(nickname)) {
-            nicknameRepository.removeNickname(oldNickname);
-            log.info("기존 닉네임 정리: session={}, old={}", sessionId, oldNickname);
-        }
+        completeReservation(sessionId, nickname);
+    }
 
-        nicknameRepository.saveSessionNicknameMapping(sessionId, nickname);
+    private void completeReservation(String sessionId, String nickname) {
+        // 그 사이 연결이 끊겨 반납이 먼저 끝났으면 방금 잡은 임대가 남으므로 다시 반납
+        // (연결 종료는 세션 목록에서 먼저 빠진 뒤 반납하므로, 여기서 세션이 보이면 반납은 이 저장 뒤에 일어남)
+        if (sessionManager.getSession(sessionId) == null) {
+            handleDisconnect(sessionId);
+            return;
+        }
 
         sendSuccess(sessionId, nickname);
     }
@@ -71,11 +93,11 @@ public class NicknameService {
         log.info("닉네임 설정 완료: session={}, user={}", sessionId, nickname);
     }
 
-    private void sendError(String sessionId) {
+    private void sendError(String sessionId, ErrorCode errorCode) {
         NicknameResponse response = NicknameResponse.builder()
                 .event(SocketEvent.ERROR_MESSAGE.name())
-                .code(ErrorCode.INVALID_NICKNAME.name())
-                .message(ErrorCode.INVALID_NICKNAME.getMessage())
+                .code(errorCode.name())
+                .message(errorCode.getMessage())
                 .build();
         webSocketSender.sendEventToSession(sessionId, response);
     }
@@ -90,10 +112,8 @@ public class NicknameService {
 
 
     public void handleDisconnect(String sessionId) {
-        String nickname = nicknameRepository.getNicknameBySessionId(sessionId);
+        String nickname = nicknameRepository.release(sessionId);
         if (nickname != null) {
-            nicknameRepository.removeNickname(nickname);
-            nicknameRepository.deleteSessionMapping(sessionId);
             log.info("닉네임 반납 완료: {}", nickname);
         }
     }
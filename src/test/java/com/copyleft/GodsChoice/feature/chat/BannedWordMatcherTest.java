@@ -0,0 +1,50 @@
+package com.copyleft.GodsChoice.feature.chat;
+
+import com.copyleft.GodsChoice.chat.filter.BannedWordMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BannedWordMatcherTest {
+
+    private final BannedWordMatcher matcher = BannedWordMatcher.compile(
+            List.of("시발", "병신", "좆", "ㅅㅂ", "ㅂㅅ", "ㅈㄴ", "ㅈㄹ", "fuck"), List.of("시발점"));
+
+    @Test
+    @DisplayName("자모 분리, 띄어쓰기, 특수문자, 대소문자 변형도 같은 금칙어로 찾는다")
+    void matchesObfuscatedVariants() {
+        assertTrue(matcher.containsMatch("아 시발"));
+        assertTrue(matcher.containsMatch("ㅅㅣ발"));
+        assertTrue(matcher.containsMatch("시 . 발"));
+        assertTrue(matcher.containsMatch("ㅅ ㅂ"));
+        assertTrue(matcher.containsMatch("F.U.C.K"));
+        assertFalse(matcher.containsMatch("사비 시바견 병원"));
+    }
+
+    @Test
+    @DisplayName("음절 경계를 넘는 자모 조합이나 허용어 안의 금칙어는 걸리지 않는다")
+    void ignoresJamoAcrossSyllablesAndAllowedWords() {
+        for (String clean : List.of("조작", "조정하자", "입술", "집사", "밥사줘", "맞나", "옷방", "다섯 번", "시발점")) {
+            assertFalse(matcher.containsMatch(clean), clean);
+            assertSame(clean, matcher.mask(clean));
+        }
+
+        assertTrue(matcher.containsMatch("ㅅㅣㅂㅏㄹ"));
+        assertTrue(matcher.containsMatch("ㅈ ㄴ 웃기네"));
+        assertTrue(matcher.containsMatch("시발점에서 시발"));
+        assertEquals("시발점에서 **", matcher.mask("시발점에서 시발"));
+        assertEquals("*** 뭐야", matcher.mask("ㅅㅣ발 뭐야"));
+    }
+
+    @Test
+    @DisplayName("가린 결과는 금칙어 글자만 '*' 로 바꾸고 공백과 나머지는 그대로 둔다")
+    void masksOnlyMatchedCharacters() {
+        assertEquals("너 ** 이야, * *", matcher.mask("너 병신 이야, 시 발"));
+
+        String clean = "좋은 아침";
+        assertSame(clean, matcher.mask(clean));
+    }
+}
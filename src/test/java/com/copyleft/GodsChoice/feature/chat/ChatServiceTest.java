@@ -0,0 +1,109 @@
+package com.copyleft.GodsChoice.feature.chat;
+
+import com.copyleft.GodsChoice.chat.dto.ChatResponse;
+import com.copyleft.GodsChoice.chat.repository.ChatHistoryRepository;
+import com.copyleft.GodsChoice.chat.service.BannedWordFilter;
+import com.copyleft.GodsChoice.chat.service.ChatBatcher;
+import com.copyleft.GodsChoice.chat.service.ChatRateLimiter;
+import com.copyleft.GodsChoice.chat.service.ChatResponseSender;
+import com.copyleft.GodsChoice.chat.service.ChatService;
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
+import com.copyleft.GodsChoice.domain.type.PlayerColor;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.global.config.BannedWordProperties;
+import com.copyleft.GodsChoice.global.config.ChatProperties;
+import com.copyleft.GodsChoice.global.constant.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    @Mock private RoomRepository roomRepository;
+    @Mock private ChatHistoryRepository chatHistoryRepository;
+    @Mock private ChatResponseSender chatResponseSender;
+    @Mock private TaskScheduler taskScheduler;
+
+    private ChatService chatService;
+    private ChatBatcher chatBatcher;
+
+    @BeforeEach
+    void setUp() {
+        ChatProperties properties = new ChatProperties(1, 3, 1_000, 10, 50, 600_000);
+        ObjectMapper objectMapper = new ObjectMapper();
+        chatBatcher = new ChatBatcher(roomRepository, chatHistoryRepository, chatResponseSender, taskScheduler,
+                objectMapper, properties, new SimpleMeterRegistry());
+        chatService = new ChatService(roomRepository, chatResponseSender, new ChatRateLimiter(properties),
+                chatBatcher, chatHistoryRepository,
+                new BannedWordFilter(new BannedWordProperties("", 30_000), new SimpleMeterRegistry()), objectMapper);
+
+        Player player = Player.builder().sessionId("s1").nickname("철수").color(PlayerColor.RED)
+                .connectionStatus(ConnectionStatus.CONNECTED).build();
+        RoomSnapshot room = RoomSnapshot.of(Room.builder().roomId("room-1").players(List.of(player)).build(), 1);
+        lenient().when(roomRepository.getRoomIdBySessionId("s1")).thenReturn("room-1");
+        lenient().when(roomRepository.findRoomSnapshot("room-1")).thenReturn(Optional.of(room));
+    }
+
+    @Test
+    @DisplayName("조용하던 방의 첫 채팅은 바로 보내고, 연달아 보낸 채팅은 한 번에 묶어 보내고 최근 채팅에도 한 번에 넣는다")
+    @SuppressWarnings("unchecked")
+    void batchesMessagesPerRoom() {
+        chatService.processChat("s1", "안녕");
+        chatService.processChat("s1", "반가워");
+        chatService.processChat("s1", "잘 부탁해");
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(flush.capture(), any(Instant.class));
+        flush.getValue().run();
+
+        ArgumentCaptor<List<ChatResponse>> sent = ArgumentCaptor.forClass(List.class);
+        verify(chatResponseSender, times(2)).broadcastChat(any(RoomSnapshot.class), sent.capture());
+        assertEquals(List.of("안녕"), sent.getAllValues().get(0).stream().map(ChatResponse::getContent).toList());
+        assertEquals(List.of("반가워", "잘 부탁해"), sent.getAllValues().get(1).stream().map(ChatResponse::getContent).toList());
+        verify(chatHistoryRepository, times(2)).append(eq("room-1"), anyList());
+    }
+
+    @Test
+    @DisplayName("묶는 시간이 0 이면 예약 없이 메시지마다 바로 CHAT_MESSAGE 로 보낸다")
+    void sendsImmediatelyWhenBatchingDisabled() {
+        ChatBatcher immediate = new ChatBatcher(roomRepository, chatHistoryRepository, chatResponseSender, taskScheduler,
+                new ObjectMapper(), new ChatProperties(1, 3, 0, 10, 50, 600_000), new SimpleMeterRegistry());
+
+        immediate.enqueue("room-1", ChatResponse.builder().content("안녕").build());
+        immediate.enqueue("room-1", ChatResponse.builder().content("반가워").build());
+
+        verifyNoInteractions(taskScheduler);
+        verify(chatResponseSender, times(2)).broadcastChat(any(RoomSnapshot.class), argThat(messages -> messages.size() == 1));
+    }
+
+    @Test
+    @DisplayName("버킷 크기를 넘겨 연달아 보내면 거절한다")
+    void rejectsBurstOverLimit() {
+        for (int i = 0; i < 4; i++) {
+            chatService.processChat("s1", "도배" + i);
+        }
+
+        verify(chatResponseSender, times(1)).sendError("s1", ErrorCode.CHAT_RATE_LIMITED.name(), ErrorCode.CHAT_RATE_LIMITED.getMessage());
+    }
+}
@@ -0,0 +1,59 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.type.WordData;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
+import com.copyleft.GodsChoice.game.service.CardDealer;
+import com.copyleft.GodsChoice.game.service.WordDeckStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardDealerTest {
+
+    private final CardDealer cardDealer = new CardDealer(
+            new WordDeckStore(List.of(new BuiltInWordDeckSource()), new SimpleMeterRegistry()));
+
+    @Test
+    @DisplayName("요청한 장수만큼 해당 슬롯의 카드를 중복 없이 뽑는다")
+    void deal_ReturnsDistinctCardsOfSlot() {
+        List<String> cards = cardDealer.deal(null, SlotType.ACTION, 8);
+
+        assertEquals(8, cards.size());
+        assertEquals(8, new HashSet<>(cards).size());
+        assertTrue(WordData.of(SlotType.ACTION).getWords().containsAll(cards));
+    }
+
+    @Test
+    @DisplayName("이미 나온 카드는 다음 라운드에서 다시 나오지 않는다")
+    void deal_ExcludesUsedCards() {
+        Set<String> usedCards = new HashSet<>(cardDealer.deal(null, SlotType.SUBJECT, 8));
+
+        List<String> nextCards = cardDealer.deal(null, SlotType.SUBJECT, 8, usedCards);
+
+        assertEquals(8, nextCards.size());
+        nextCards.forEach(card -> assertFalse(usedCards.contains(card)));
+    }
+
+    @Test
+    @DisplayName("남은 카드가 부족하면 전체 카드에서 다시 뽑는다")
+    void deal_FallsBackToFullDeckWhenExhausted() {
+        Set<String> usedCards = new HashSet<>(WordData.of(SlotType.HOW).getWords());
+
+        List<String> cards = cardDealer.deal(null, SlotType.HOW, 8, usedCards);
+
+        assertEquals(8, cards.size());
+    }
+
+    @Test
+    @DisplayName("슬롯이 없으면 빈 목록을 반환한다")
+    void deal_NullSlot() {
+        assertTrue(cardDealer.deal(null, null, 8).isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.log.GameEvent;
+import com.copyleft.GodsChoice.game.repository.GameEventOutbox;
+import com.copyleft.GodsChoice.game.service.GameEventRelay;
+import com.copyleft.GodsChoice.global.config.OutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@EmbeddedKafka(partitions = 1, topics = GameEventRelayTest.TOPIC)
+class GameEventRelayTest {
+
+    static final String TOPIC = "game-events";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private KafkaTemplate<String, String> createTemplate(EmbeddedKafkaBroker broker) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props,
+                new StringSerializer(),
+                new StringSerializer()));
+    }
+
+    private GameEventRelay createRelay(GameEventOutbox outbox, KafkaTemplate<String, String> template) {
+        OutboxProperties properties = new OutboxProperties(true, TOPIC, 10, 1000, 10_000, 1000);
+        return new GameEventRelay(outbox, template, mock(RedissonClient.class), properties, objectMapper, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("outbox 의 이벤트를 방 ID 키로 Kafka 에 보내고, ack 를 받은 만큼 outbox 에서 지운다")
+    void relaysBatchAndRemovesFromOutbox(EmbeddedKafkaBroker broker) throws Exception {
+        Room room = new Room();
+        room.setRoomId("room-1");
+        List<String> events = new ArrayList<>();
+        events.add(objectMapper.writeValueAsString(GameEvent.gameOver(room, "CITIZEN")));
+        events.add(objectMapper.writeValueAsString(GameEvent.trialResult(room, true, null)));
+
+        GameEventOutbox outbox = mock(GameEventOutbox.class);
+        when(outbox.peekAll(10)).thenReturn(Map.of(3, events));
+        when(outbox.remove(3, events)).thenReturn(true);
+
+        KafkaTemplate<String, String> template = createTemplate(broker);
+        int relayed = createRelay(outbox, template).relayBatch();
+        template.destroy();
+
+        assertEquals(2, relayed);
+        verify(outbox).remove(3, events);
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("relay-test", "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<String, String>(consumerProps,
+                new StringDeserializer(),
+                new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer);
+
+            List<String> values = new ArrayList<>();
+            for (ConsumerRecord<String, String> record : records) {
+                assertEquals("room-1", record.key());
+                values.add(record.value());
+            }
+            assertEquals(events, values);
+        }
+    }
+
+    @Test
+    @DisplayName("Kafka 전달에 실패하면 outbox 에서 지우지 않는다")
+    void keepsOutboxOnFailure(EmbeddedKafkaBroker broker) {
+        GameEventOutbox outbox = mock(GameEventOutbox.class);
+        when(outbox.peekAll(10)).thenReturn(Map.of(3, List.of("{\"roomId\":\"room-1\"}")));
+
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, String> template = mock(KafkaTemplate.class);
+        when(template.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertEquals(0, createRelay(outbox, template).relayBatch());
+        verify(outbox, never()).remove(anyInt(), anyList());
+    }
+}
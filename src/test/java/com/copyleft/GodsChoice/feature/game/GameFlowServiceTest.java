@@ -8,16 +8,20 @@ import com.copyleft.GodsChoice.domain.type.RoomStatus;
 import com.copyleft.GodsChoice.game.service.*;
 import com.copyleft.GodsChoice.lobby.service.LobbyResponseSender;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.TaskScheduler;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +43,8 @@ class GameFlowServiceTest {
     @Mock private GameLogService gameLogService;
     @Mock private GameProperties gameProperties;
     @Mock private GameJudgeService gameJudgeService; // Lazy 주입된 서비스 Mock
+    @Spy private WordDeckStore wordDeckStore = new WordDeckStore(List.of(new BuiltInWordDeckSource()), new SimpleMeterRegistry());
+    @Spy private CardDealer cardDealer = new CardDealer(wordDeckStore);
 
     @BeforeEach
     void setUp() {
@@ -0,0 +1,82 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
+import com.copyleft.GodsChoice.game.dto.GamePayloads;
+import com.copyleft.GodsChoice.game.repository.GameLogRepository;
+import com.copyleft.GodsChoice.game.service.GameHistoryService;
+import com.copyleft.GodsChoice.game.service.GameResponseSender;
+import com.copyleft.GodsChoice.global.config.GameHistoryProperties;
+import com.copyleft.GodsChoice.global.constant.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameHistoryServiceTest {
+
+    @Mock private GameLogRepository gameLogRepository;
+    @Mock private GameResponseSender gameResponseSender;
+
+    private GameHistoryService gameHistoryService;
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @BeforeEach
+    void setUp() {
+        gameHistoryService = new GameHistoryService(gameLogRepository, gameResponseSender,
+                new GameHistoryProperties(2, 50, 60_000, 100));
+    }
+
+    private static GameLogSummary summary(long id, LocalDateTime playedAt) {
+        return new GameLogSummary(id, "room-" + id, "방", "CITIZEN", "ANGRY", 300, 5, playedAt);
+    }
+
+    @Test
+    @DisplayName("size+1 건을 읽어 다음 페이지 커서를 만들고, 커서의 (playedAt, id)로 이어서 조회한다")
+    void paginatesWithKeysetCursor() {
+        when(gameLogRepository.findLatest(Limit.of(3))).thenReturn(List.of(
+                summary(30, BASE.plusMinutes(2)), summary(20, BASE), summary(10, BASE)));
+
+        GamePayloads.GameHistory first = gameHistoryService.findPage(null, null, null);
+
+        assertEquals(2, first.getLogs().size());
+        assertNotNull(first.getNextCursor());
+
+        when(gameLogRepository.findBefore(BASE, 20L, Limit.of(3))).thenReturn(List.of(summary(10, BASE)));
+        GamePayloads.GameHistory second = gameHistoryService.findPage(null, first.getNextCursor(), null);
+
+        assertEquals(List.of(10L), second.getLogs().stream().map(GameLogSummary::id).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 캐시에서 돌려준다")
+    void cachesFirstPage() {
+        when(gameLogRepository.findLatestByRoomId(eq("room-1"), any())).thenReturn(List.of(summary(1, BASE)));
+
+        gameHistoryService.findPage("room-1", null, 2);
+        gameHistoryService.findPage("room-1", null, 2);
+
+        verify(gameLogRepository, times(1)).findLatestByRoomId(eq("room-1"), any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 에러로 응답한다")
+    void rejectsInvalidCursor() {
+        gameHistoryService.getHistory("session-1", null, "not-a-cursor", null);
+
+        verify(gameResponseSender).sendError("session-1", ErrorCode.INVALID_HISTORY_CURSOR);
+        verifyNoInteractions(gameLogRepository);
+    }
+}
@@ -1,6 +1,7 @@
 package com.copyleft.GodsChoice.feature.game;
 
 import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.JudgeProperties;
 import com.copyleft.GodsChoice.domain.Player;
 import com.copyleft.GodsChoice.domain.Room;
 import com.copyleft.GodsChoice.domain.type.GamePhase;
@@ -9,13 +10,23 @@ import com.copyleft.GodsChoice.domain.type.Oracle;
 import com.copyleft.GodsChoice.domain.type.SlotType;
 import com.copyleft.GodsChoice.domain.vo.AiJudgment;
 import com.copyleft.GodsChoice.game.event.GameDecisionEvent; // 이벤트 클래스 import
+import com.copyleft.GodsChoice.game.service.CardDealer;
 import com.copyleft.GodsChoice.game.service.GameJudgeService;
 import com.copyleft.GodsChoice.game.service.GameResponseSender;
+import com.copyleft.GodsChoice.game.service.GameStatsService;
+import com.copyleft.GodsChoice.game.service.HeuristicJudge;
+import com.copyleft.GodsChoice.game.service.JudgeRequestScheduler;
+import com.copyleft.GodsChoice.game.service.SpeculativeJudgeCache;
+import com.copyleft.GodsChoice.game.service.WordDeckStore;
 import com.copyleft.GodsChoice.game.service.GameRoomLockFacade;
 import com.copyleft.GodsChoice.game.service.LockResult;
 import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.RoundEventLog;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,11 +34,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -49,6 +63,14 @@ class GameJudgeServiceTest {
     @Mock private ObjectMapper objectMapper;
     @Mock private TaskScheduler taskScheduler;
     @Mock private GameProperties gameProperties;
+    @Spy private WordDeckStore wordDeckStore = new WordDeckStore(List.of(new BuiltInWordDeckSource()), new SimpleMeterRegistry());
+    @Spy private CardDealer cardDealer = new CardDealer(wordDeckStore);
+    @Spy private HeuristicJudge heuristicJudge = new HeuristicJudge();
+    @Mock private JudgeProperties judgeProperties;
+    @Mock private SpeculativeJudgeCache speculativeJudgeCache;
+    @Mock private JudgeRequestScheduler judgeRequestScheduler;
+    @Mock private RoundEventLog roundEventLog;
+    @Mock private GameStatsService gameStatsService;
 
     @Mock private ApplicationEventPublisher eventPublisher;
 
@@ -68,6 +90,13 @@ class GameJudgeServiceTest {
             return LockResult.success(result); // ✅ LockResult로 감싸야 함
         }).when(lockFacade).execute(anyString(), any(Supplier.class));
 
+        // 스케줄러는 대기 없이 바로 호출
+        lenient().when(judgeRequestScheduler.execute(anyString(), any(Instant.class), any(JudgeRequest.class)))
+                .thenAnswer(invocation -> {
+                    JudgeRequest request = invocation.getArgument(2);
+                    return groqApiClient.judgeSentence(request.sentence(), request.personality(), request.oracle(), Duration.ofSeconds(10));
+                });
+
         // GameProperties 설정값 Mocking (기존 유지)
         lenient().when(gameProperties.roundResultDuration()).thenReturn(35);
     }
@@ -122,7 +151,7 @@ class GameJudgeServiceTest {
         when(roomRepository.findRoomById(roomId)).thenReturn(Optional.of(room));
 
         // AI & JSON Mocking
-        when(groqApiClient.judgeSentence(anyString(), eq(GodPersonality.ANGRY), eq(Oracle.VITALITY)))
+        when(groqApiClient.judgeSentence(anyString(), eq(GodPersonality.ANGRY), eq(Oracle.VITALITY), any(Duration.class)))
                 .thenReturn(new AiJudgment(-50, "감히 내 신탁을 망치다니!"));
         // (참고: AiJudgment 레코드를 쓰므로 ObjectMapper Mocking 부분은 실제 구현에 따라 필요 없을 수도 있습니다.
         // 만약 서비스 코드에서 JsonParsing을 직접 안하고 groqApiClient가 객체를 리턴한다면 이 부분 간소화 가능)
@@ -0,0 +1,123 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.log.GameLogSummary;
+import com.copyleft.GodsChoice.game.repository.GameLogArchiver;
+import com.copyleft.GodsChoice.global.config.ArchiveProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameLogArchiverTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final LocalDateTime PLAYED_AT = LocalDateTime.of(2025, 1, 15, 20, 0);
+
+    @Test
+    @DisplayName("한 달치 행을 스트리밍으로 파일에 쓰고, 쓴 최대 id 까지 배치로 지운다")
+    void archivesMonthThenDeletesInBatches() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(7L, 9L);
+        when(rs.getString("room_id")).thenReturn("room-7", "room-9");
+        when(rs.getString("winner_role")).thenReturn("CITIZEN");
+        when(rs.getTimestamp("played_at")).thenReturn(Timestamp.valueOf(PLAYED_AT));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        when(jdbcTemplate.update(anyString(), any(), any(), eq(9L), eq(2))).thenReturn(2, 0);
+
+        GameLogArchiver archiver = new GameLogArchiver(jdbcTemplate, objectMapper, mock(RedissonClient.class),
+                new ArchiveProperties(dir.toString(), 3, 2, "-"));
+        Path file = archiver.archiveMonth(YearMonth.of(2025, 1));
+
+        assertEquals("game_logs-2025-01.jsonl.gz", file.getFileName().toString());
+        verify(jdbcTemplate, times(2)).update(anyString(), any(), any(), eq(9L), eq(2));
+    }
+
+    private void writeArchive(Path file, long... ids) throws Exception {
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            for (long id : ids) {
+                writer.write(objectMapper.writeValueAsString(
+                        new GameLogSummary(id, "room-" + id, "방", "TRAITOR", "CRUEL", 0, 4, PLAYED_AT)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("통계 재계산용으로 아카이브 행을 넘기되, game_logs 에 남은 행과 같은 달 파일끼리 겹치는 행은 한 번만 넘긴다")
+    void forEachArchivedRowSkipsDuplicates() throws Exception {
+        writeArchive(dir.resolve("game_logs-2025-01.jsonl.gz"), 1, 2, 3);
+        writeArchive(dir.resolve("game_logs-2025-01-1738000000000.jsonl.gz"), 3, 4);
+        writeArchive(dir.resolve("game_logs-2025-02.jsonl.gz.tmp"), 10);
+        writeArchive(dir.resolve("game_logs-2024-12.jsonl.gz"), 0);
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        // 2025-01 의 2번은 복원돼서 game_logs 에도 있음
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any())).thenAnswer(invocation ->
+                invocation.<Timestamp>getArgument(2).toLocalDateTime().getMonthValue() == 1 ? List.of(2L) : List.of());
+
+        GameLogArchiver archiver = new GameLogArchiver(jdbcTemplate, objectMapper, mock(RedissonClient.class),
+                new ArchiveProperties(dir.toString(), 3, 2, "-"));
+        List<Long> ids = new ArrayList<>();
+
+        assertEquals(4, archiver.forEachArchivedRow(row -> ids.add(row.id())));
+        assertEquals(List.of(0L, 1L, 3L, 4L), ids.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("아카이브 파일을 batchSize 씩 INSERT IGNORE 로 복원한다")
+    @SuppressWarnings("unchecked")
+    void restoresInBatches() throws Exception {
+        Path file = dir.resolve("game_logs-2025-01.jsonl.gz");
+        writeArchive(file, 1, 2, 3, 4, 5);
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Integer> sizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    sizes.add(invocation.<Collection<?>>getArgument(1).size());
+                    return new int[0][0];
+                });
+
+        GameLogArchiver archiver = new GameLogArchiver(jdbcTemplate, objectMapper, mock(RedissonClient.class),
+                new ArchiveProperties(dir.toString(), 3, 2, "-"));
+
+        assertEquals(5, archiver.restore(file));
+        assertEquals(List.of(2, 2, 1), sizes);
+    }
+}
@@ -0,0 +1,118 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.log.GameResult;
+import com.copyleft.GodsChoice.game.repository.GameLogWriter;
+import com.copyleft.GodsChoice.global.config.GameLogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameLogWriterTest {
+
+    private static GameResult result(int i) {
+        return new GameResult("room-" + i, "방" + i, "CITIZEN", "ANGRY", 3, 5, LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Integer> recordBatchSizes(JdbcTemplate jdbcTemplate) {
+        List<Integer> sizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    synchronized (sizes) {
+                        sizes.add(invocation.<Collection<?>>getArgument(1).size());
+                    }
+                    return new int[0][0];
+                });
+        return sizes;
+    }
+
+    @Test
+    @DisplayName("batchSize 만큼 모이면 주기를 기다리지 않고 한 번에 저장한다")
+    void flushesFullBatch() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Integer> sizes = recordBatchSizes(jdbcTemplate);
+        GameLogWriter writer = new GameLogWriter(jdbcTemplate, new GameLogProperties(100, 5, 60_000, 10, 3, 1), new SimpleMeterRegistry());
+        writer.start();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(writer.enqueue(result(i)));
+        }
+
+        long until = System.currentTimeMillis() + 3000;
+        while (System.currentTimeMillis() < until) {
+            synchronized (sizes) {
+                if (!sizes.isEmpty()) break;
+            }
+            Thread.sleep(10);
+        }
+        synchronized (sizes) {
+            assertEquals(List.of(5), sizes);
+        }
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("대기열이 꽉 차면 버리고, 종료 시 남은 결과를 모두 저장한다")
+    void dropsWhenFullAndDrainsOnStop() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<Integer> sizes = recordBatchSizes(jdbcTemplate);
+        // start() 를 부르지 않아 저장 스레드 없이 대기열만 채움
+        GameLogWriter writer = new GameLogWriter(jdbcTemplate, new GameLogProperties(3, 2, 60_000, 1, 3, 1), new SimpleMeterRegistry());
+
+        assertTrue(writer.enqueue(result(1)));
+        assertTrue(writer.enqueue(result(2)));
+        assertTrue(writer.enqueue(result(3)));
+        assertFalse(writer.enqueue(result(4)));
+
+        writer.stop();
+
+        assertEquals(List.of(2, 1), sizes);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 계속 실패하면 재시도 후 한 건씩 저장해 문제 행만 버린다")
+    @SuppressWarnings("unchecked")
+    void retriesThenIsolatesPoisonRow() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("room_title too long"));
+        List<String> inserted = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            PreparedStatement ps = mock(PreparedStatement.class);
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+            ArgumentCaptor<String> roomId = ArgumentCaptor.forClass(String.class);
+            verify(ps).setString(eq(1), roomId.capture());
+            if (roomId.getValue().equals("room-2")) throw new DataIntegrityViolationException("poison");
+            inserted.add(roomId.getValue());
+            return 1;
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GameLogWriter writer = new GameLogWriter(jdbcTemplate, new GameLogProperties(10, 5, 60_000, 1, 2, 1), meterRegistry);
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(writer.enqueue(result(i)));
+        }
+        writer.stop();
+
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of("room-1", "room-3"), inserted);
+        assertEquals(2.0, meterRegistry.counter("game_log.retried").count());
+        assertEquals(2.0, meterRegistry.counter("game_log.written").count());
+        assertEquals(1.0, meterRegistry.counter("game_log.failed").count());
+    }
+}
@@ -0,0 +1,48 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.vo.GameStats;
+import com.copyleft.GodsChoice.game.repository.GameStatsRepository;
+import com.copyleft.GodsChoice.game.service.GameStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameStatsServiceTest {
+
+    @Mock private GameStatsRepository gameStatsRepository;
+    @InjectMocks private GameStatsService gameStatsService;
+
+    @Test
+    @DisplayName("Hash 카운터를 성향별 승리 수, HP 분포, 신탁별 평균 점수로 바꿔 준다")
+    void assemblesStatsFromCounters() {
+        when(gameStatsRepository.findAll(GameStatsRepository.WINS))
+                .thenReturn(Map.of("ANGRY:TRAITOR", 3L, "ANGRY:CITIZEN", 1L, "SOFTIE:CITIZEN", 2L));
+        when(gameStatsRepository.findAll(GameStatsRepository.HP))
+                .thenReturn(Map.of("-100", 1L, "300", 4L));
+        when(gameStatsRepository.findAll(GameStatsRepository.ORACLE_SCORE))
+                .thenReturn(Map.of("LOVE:sum", 90L, "LOVE:count", 3L));
+
+        GameStats stats = gameStatsService.getStats();
+
+        assertEquals(Map.of("TRAITOR", 3L, "CITIZEN", 1L), stats.winsByPersonality().get("ANGRY"));
+        assertEquals(-100, stats.hpHistogram().firstKey());
+        assertEquals(new GameStats.OracleScore(3, 30.0), stats.scoreByOracle().get("LOVE"));
+    }
+
+    @Test
+    @DisplayName("음수 HP도 아래쪽 구간으로 묶는다")
+    void bucketsNegativeHpDownward() {
+        assertEquals("-100", GameStatsRepository.hpField(-1));
+        assertEquals("0", GameStatsRepository.hpField(99));
+        assertEquals("500", GameStatsRepository.hpField(500));
+    }
+}
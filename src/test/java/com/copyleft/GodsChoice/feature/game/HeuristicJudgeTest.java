@@ -0,0 +1,51 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.HeuristicJudgment;
+import com.copyleft.GodsChoice.game.service.HeuristicJudge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeuristicJudgeTest {
+
+    private final HeuristicJudge heuristicJudge = new HeuristicJudge();
+
+    @Test
+    @DisplayName("성향에 맞는 문장은 양수, 반대되는 문장은 음수 점수를 받는다")
+    void judge_FollowsPersonality() {
+        List<String> violent = List.of("괴물이", "폭탄을", "무자비하게", "폭파했다");
+
+        HeuristicJudgment angry = heuristicJudge.judge(violent, GodPersonality.ANGRY, Oracle.REVOLUTION);
+        HeuristicJudgment softie = heuristicJudge.judge(violent, GodPersonality.SOFTIE, Oracle.SILENCE);
+
+        assertTrue(angry.score() > 0);
+        assertTrue(softie.score() < 0);
+        assertTrue(angry.score() <= 100 && softie.score() >= -100);
+    }
+
+    @Test
+    @DisplayName("같은 입력이면 항상 같은 판정을 낸다")
+    void judge_IsDeterministic() {
+        List<String> words = List.of("천사가", "꿈을", "성스럽게", "찬양했다");
+
+        HeuristicJudgment first = heuristicJudge.judge(words, GodPersonality.GENEROUS, Oracle.LIGHT);
+        HeuristicJudgment second = heuristicJudge.judge(words, GodPersonality.GENEROUS, Oracle.LIGHT);
+
+        assertEquals(first, second);
+        assertFalse(first.reason().isBlank());
+    }
+
+    @Test
+    @DisplayName("모르는 단어로만 된 문장은 확신도가 0이다")
+    void judge_UnknownWordsHaveNoConfidence() {
+        HeuristicJudgment judgment = heuristicJudge.judge(List.of("처음", "보는", "단어", "뿐"), GodPersonality.EDGY, Oracle.TRUTH);
+
+        assertEquals(0, judgment.score());
+        assertEquals(0.0, judgment.confidence());
+    }
+}
@@ -0,0 +1,149 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.copyleft.GodsChoice.game.repository.JudgeRateLimiter;
+import com.copyleft.GodsChoice.game.service.JudgeRequestScheduler;
+import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import com.copyleft.GodsChoice.global.config.JudgeSchedulerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class JudgeRequestSchedulerTest {
+
+    private final JudgeRateLimiter rateLimiter = mock(JudgeRateLimiter.class);
+    private final GroqApiClient groqApiClient = mock(GroqApiClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JudgeRequestScheduler scheduler;
+
+    private void createScheduler(int maxConcurrency, boolean batchEnabled) {
+        GroqResilienceProperties resilience = new GroqResilienceProperties(
+                0.25, 10_000, false, 100, 50, 5, 3, 0.5, 1.0, 5_000, 60_000, 1);
+        GameProperties gameProperties = mock(GameProperties.class);
+        when(gameProperties.roundResultDuration()).thenReturn(40); // 기한 10초
+
+        scheduler = new JudgeRequestScheduler(
+                new JudgeSchedulerProperties(maxConcurrency, 10, 2, 1_000, batchEnabled, 4, 300, 30, 0.5),
+                resilience, gameProperties, rateLimiter, groqApiClient, meterRegistry);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    private static JudgeRequest request(String sentence) {
+        return new JudgeRequest(sentence, GodPersonality.ANGRY, Oracle.REVOLUTION);
+    }
+
+    private CompletableFuture<AiJudgment> submit(String roomId, Instant judgeAt) {
+        return CompletableFuture.supplyAsync(() -> scheduler.execute(roomId, judgeAt, request(roomId)));
+    }
+
+    @Test
+    @DisplayName("동시 요청 수가 꽉 차면 기한이 가까운 방부터 보낸다")
+    void dispatchesEarliestDeadlineFirst() throws Exception {
+        createScheduler(1, false);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch blocking = new CountDownLatch(1);
+        when(groqApiClient.judgeBatch(anyList(), any(Duration.class))).thenAnswer(invocation -> {
+            List<JudgeRequest> requests = invocation.getArgument(0);
+            String roomId = requests.getFirst().sentence();
+            order.add(roomId);
+            if (roomId.equals("room-a")) blocking.await(5, TimeUnit.SECONDS);
+            return List.of(new AiJudgment(order.size(), roomId));
+        });
+
+        CompletableFuture<AiJudgment> first = submit("room-a", Instant.now());
+        Thread.sleep(200);
+        CompletableFuture<AiJudgment> late = submit("room-b", Instant.now().plusSeconds(5));
+        CompletableFuture<AiJudgment> urgent = submit("room-c", Instant.now());
+        Thread.sleep(200);
+        blocking.countDown();
+
+        assertEquals("room-a", first.get(5, TimeUnit.SECONDS).reason());
+        assertEquals("room-b", late.get(5, TimeUnit.SECONDS).reason());
+        assertEquals("room-c", urgent.get(5, TimeUnit.SECONDS).reason());
+        assertEquals(List.of("room-a", "room-c", "room-b"), order);
+    }
+
+    @Test
+    @DisplayName("묶음 모드에서는 모인 요청을 한 번에 보내고 결과를 방마다 나눠준다")
+    void batchesRequestsWithinWindow() throws Exception {
+        createScheduler(4, true);
+        when(groqApiClient.judgeBatch(anyList(), any(Duration.class))).thenAnswer(invocation -> {
+            List<JudgeRequest> requests = invocation.getArgument(0);
+            return requests.stream().map(r -> new AiJudgment(requests.size(), r.sentence())).toList();
+        });
+
+        CompletableFuture<AiJudgment> a = submit("room-a", Instant.now());
+        CompletableFuture<AiJudgment> b = submit("room-b", Instant.now());
+
+        assertEquals(new AiJudgment(2, "room-a"), a.get(5, TimeUnit.SECONDS));
+        assertEquals(new AiJudgment(2, "room-b"), b.get(5, TimeUnit.SECONDS));
+        verify(groqApiClient, times(1)).judgeBatch(anyList(), any(Duration.class));
+        verify(rateLimiter, times(1)).tryAcquire();
+    }
+
+    @Test
+    @DisplayName("기한 안에 토큰을 얻을 수 없으면 호출하지 않고 대체 판정을 돌려준다")
+    void shedsWhenRateLimited() {
+        createScheduler(4, false);
+        when(rateLimiter.tryAcquire()).thenReturn(60_000L);
+
+        AiJudgment judgment = scheduler.execute("room-a", Instant.now(), request("room-a"));
+
+        assertTrue(judgment.isFallback());
+        assertEquals(1.0, meterRegistry.counter("judge.shed", "reason", "rate_limit").count());
+        verifyNoInteractions(groqApiClient);
+    }
+
+    @Test
+    @DisplayName("기다리던 호출자가 인터럽트되면 대기 중인 요청은 보내지 않고 버린다")
+    void dropsTicketOfInterruptedCaller() throws Exception {
+        createScheduler(1, false);
+        CountDownLatch blocking = new CountDownLatch(1);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        when(groqApiClient.judgeBatch(anyList(), any(Duration.class))).thenAnswer(invocation -> {
+            List<JudgeRequest> requests = invocation.getArgument(0);
+            sent.add(requests.getFirst().sentence());
+            blocking.await(5, TimeUnit.SECONDS);
+            return List.of(new AiJudgment(1, "좋구나"));
+        });
+
+        CompletableFuture<AiJudgment> first = submit("room-a", Instant.now());
+        Thread.sleep(200);
+        CompletableFuture<AiJudgment> cancelled = new CompletableFuture<>();
+        Thread caller = Thread.ofVirtual().start(() -> cancelled.complete(scheduler.execute("room-b", Instant.now(), request("room-b"))));
+        Thread.sleep(200);
+        caller.interrupt();
+
+        assertTrue(cancelled.get(5, TimeUnit.SECONDS).isFallback());
+        blocking.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        assertEquals(List.of("room-a"), sent);
+        assertEquals(1.0, meterRegistry.counter("judge.shed", "reason", "cancelled").count());
+    }
+}
@@ -0,0 +1,91 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.ConnectionStatus;
+import com.copyleft.GodsChoice.domain.type.GamePhase;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerColor;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+import com.copyleft.GodsChoice.domain.type.RoomStatus;
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.game.repository.RoomCodec;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomCodecTest {
+
+    // 스프링 기본 ObjectMapper 처럼 모르는 필드(계산용 getter)는 무시
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final RoomCodec codec = new RoomCodec(objectMapper);
+
+    private Room playingRoom() {
+        Room room = Room.create("room-uuid", "B3FK", "방장님의 방", "s1", Player.createHost("s1", "방장님"), -20);
+        room.getPlayers().getFirst().setColor(PlayerColor.RED);
+        PlayerColor[] colors = {PlayerColor.BLUE, PlayerColor.GREEN, PlayerColor.YELLOW};
+        for (int i = 0; i < colors.length; i++) {
+            room.addPlayer(Player.builder()
+                    .sessionId("s" + (i + 2))
+                    .nickname("유저" + i)
+                    .color(colors[i])
+                    .connectionStatus(i == 2 ? ConnectionStatus.DISCONNECTED : ConnectionStatus.CONNECTED)
+                    .build());
+        }
+        room.setOwnerNode("spring-boot-1");
+        room.setStatus(RoomStatus.PLAYING);
+        room.setCurrentPhase(GamePhase.TRIAL_VOTE);
+        room.setGodPersonality(GodPersonality.WHIMSICAL);
+        room.setOracle(Oracle.ORDER);
+        room.setDeckName("기본 덱");
+        room.getUsedOracles().add(Oracle.VITALITY);
+        room.getUsedCards().add("고양이");
+        room.getUsedCards().add("달린다");
+        room.getPlayers().get(1).setRole(PlayerRole.TRAITOR);
+        room.getPlayers().get(1).setSlot(SlotType.HOW);
+        room.getPlayers().get(1).setSelectedCard("고양이");
+        room.getPlayers().get(2).setVoteTarget("s2");
+        room.getCurrentPhaseData().put("s1", "s2");
+        room.getCurrentPhaseData().put("s3", "s2");
+        return room;
+    }
+
+    @Test
+    @DisplayName("바이너리로 저장한 방을 다시 읽으면 모든 필드가 같고, JSON 보다 작다")
+    void roundTrip() throws IOException {
+        Room room = playingRoom();
+
+        byte[] encoded = codec.encode(room);
+        Room decoded = codec.decode(encoded);
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(room)),
+                objectMapper.readTree(objectMapper.writeValueAsString(decoded)));
+        assertNull(decoded.getDeckTheme());
+        assertNull(decoded.getPlayers().getFirst().getRole());
+        assertTrue(encoded.length * 3 < objectMapper.writeValueAsBytes(room).length);
+    }
+
+    @Test
+    @DisplayName("예전 JSON 으로 저장된 방도 읽고, 모르는 형식이나 잘린 데이터는 예외로 알린다")
+    void readsLegacyJsonAndRejectsBrokenData() throws IOException {
+        Room room = playingRoom();
+
+        Room legacy = codec.decode(objectMapper.writeValueAsBytes(room));
+        assertEquals("room-uuid", legacy.getRoomId());
+        assertEquals(4, legacy.getPlayers().size());
+        assertEquals(PlayerRole.TRAITOR, legacy.getPlayers().get(1).getRole());
+
+        byte[] encoded = codec.encode(room);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+        assertThrows(IOException.class, () -> codec.decode(truncated));
+        assertThrows(IOException.class, () -> codec.decode(new byte[]{0x7F, 0x01}));
+    }
+}
@@ -0,0 +1,105 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.game.repository.RoomSnapshotCache;
+import com.copyleft.GodsChoice.global.config.RoomCacheProperties;
+import com.copyleft.GodsChoice.global.websocket.dto.RoomCacheInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomSnapshotCacheTest {
+
+    @Mock private RedissonClient redissonClient;
+    @Mock private RTopic topic;
+
+    private RoomSnapshotCache cache;
+    private MessageListener<RoomCacheInvalidation> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        cache = new RoomSnapshotCache(redissonClient, new RoomCacheProperties(true, 100, 60_000), new SimpleMeterRegistry());
+        cache.init();
+
+        ArgumentCaptor<MessageListener<RoomCacheInvalidation>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(RoomCacheInvalidation.class), captor.capture());
+        listener = captor.getValue();
+    }
+
+    private static RoomSnapshot snapshot(long version, String... nicknames) {
+        return snapshot("room-1", version, nicknames);
+    }
+
+    private static RoomSnapshot snapshot(String roomId, long version, String... nicknames) {
+        List<Player> players = new ArrayList<>();
+        for (String nickname : nicknames) {
+            players.add(Player.builder().sessionId("s-" + nickname).nickname(nickname).build());
+        }
+        return RoomSnapshot.of(Room.builder().roomId(roomId).players(players).build(), version);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 더 새 버전을 알리면, 그보다 오래된 스냅샷은 캐시에 들어가지 않는다")
+    void rejectsSnapshotOlderThanInvalidation() {
+        cache.offer(snapshot(3, "철수"));
+        assertEquals(3, cache.get("room-1").version());
+
+        listener.onMessage("room-cache-topic", new RoomCacheInvalidation("other-node", "room-1", 4));
+        assertNull(cache.get("room-1"));
+
+        cache.offer(snapshot(3, "철수"));
+        assertNull(cache.get("room-1"));
+
+        cache.offer(snapshot(4, "철수", "영희"));
+        assertEquals(2, cache.get("room-1").playerCount());
+    }
+
+    @Test
+    @DisplayName("방을 지우면 이후에 늦게 도착한 스냅샷도 캐시하지 않는다")
+    void removeBlocksLateSnapshots() {
+        cache.update(snapshot(5, "철수"));
+        assertNotNull(cache.get("room-1"));
+
+        cache.remove("room-1");
+        cache.offer(snapshot(6, "철수"));
+
+        assertNull(cache.get("room-1"));
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차도 전부 비우지 않고, 삭제 기록은 남겨 늦게 온 스냅샷을 막는다")
+    void evictsOldSnapshotsButKeepsTombstones() {
+        RoomSnapshotCache small = new RoomSnapshotCache(redissonClient, new RoomCacheProperties(true, 10, 60_000), new SimpleMeterRegistry());
+        small.remove("room-1");
+
+        for (int i = 0; i < 30; i++) {
+            small.offer(snapshot("room-" + (i + 100), 1, "철수"));
+        }
+        small.offer(snapshot(6, "철수"));
+
+        assertNull(small.get("room-1"));
+        assertNotNull(small.get("room-129"));
+    }
+}
@@ -0,0 +1,239 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.game.repository.RoomCodec;
+import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.RoomSnapshotCache;
+import com.copyleft.GodsChoice.game.repository.RoomWriteBatch;
+import com.copyleft.GodsChoice.global.config.OutboxProperties;
+import com.copyleft.GodsChoice.global.config.RedisConfig;
+import com.copyleft.GodsChoice.global.config.RoomCacheProperties;
+import com.copyleft.GodsChoice.global.config.SessionCacheProperties;
+import com.copyleft.GodsChoice.global.constant.RedisKey;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내장 Redis 에 실제로 파이프라인을 보내 RoomWriteBatch 의 결과를 확인합니다.
+ */
+class RoomWriteBatchRedisTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private RoomRepository roomRepository;
+    private RoomSnapshotCache roomSnapshotCache;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(mock(RTopic.class));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        roomSnapshotCache = new RoomSnapshotCache(redissonClient, new RoomCacheProperties(true, 100, 60_000), meterRegistry);
+        SessionNearCache sessionNearCache = new SessionNearCache(redissonClient, new SessionCacheProperties(true, 100, 60_000), meterRegistry);
+
+        roomRepository = new RoomRepository(redisTemplate, new RedisConfig().roomRedisTemplate(connectionFactory),
+                new RoomCodec(objectMapper), objectMapper, new OutboxProperties(false, "game-events", 100, 1000, 1000, 100_000),
+                sessionNearCache, roomSnapshotCache);
+    }
+
+    private static Room newRoom(String hostSessionId) {
+        return Room.create(UUID.randomUUID().toString(), "B3FK", "방장님의 방", hostSessionId,
+                Player.createHost(hostSessionId, "방장님"), 500);
+    }
+
+    private static Player guest(String sessionId) {
+        return Player.builder().sessionId(sessionId).nickname("손님" + sessionId).build();
+    }
+
+    private static String version(String roomId) {
+        return redisTemplate.opsForValue().get(RedisKey.ROOM_VERSION.makeRoomKey(roomId));
+    }
+
+    private static boolean isWaiting(String roomId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet()
+                .isMember(RedisKey.WAITING_ROOMS.makeShardKey(RedisKey.shardOf(roomId)), roomId));
+    }
+
+    @Test
+    @DisplayName("방 생성, 입장, 마지막 퇴장 순서대로 방 키, 세션 매핑, 대기 방 색인이 맞게 바뀐다")
+    void createJoinAndLeaveToEmpty() {
+        Room room = newRoom("s1");
+        String roomId = room.getRoomId();
+        roomRepository.saveRoomCodeMappingIfAbsent("B3FK", roomId);
+
+        RoomWriteBatch create = roomRepository.batch();
+        create.addWaitingRoom(roomId);
+        create.saveRoom(room);
+        create.saveSessionRoomMapping("s1", roomId);
+        create.commit();
+
+        assertEquals("1", version(roomId));
+        assertTrue(isWaiting(roomId));
+        assertEquals(roomId, roomRepository.getRoomIdBySessionId("s1"));
+
+        Room joined = roomRepository.findRoomById(roomId).orElseThrow();
+        joined.addPlayer(guest("s2"));
+        RoomWriteBatch join = roomRepository.batch();
+        join.saveRoom(joined);
+        join.saveSessionRoomMapping("s2", roomId);
+        join.removeWaitingRoom(roomId);
+        join.commit();
+
+        assertEquals("2", version(roomId));
+        assertFalse(isWaiting(roomId));
+        assertEquals(2, roomRepository.findRoomById(roomId).orElseThrow().getPlayers().size());
+        assertEquals(2, roomSnapshotCache.get(roomId).version());
+
+        // 같은 묶음에서 방을 저장한 뒤 비어서 지우면 방이 되살아나지 않아야 함
+        Room leaving = roomRepository.findRoomById(roomId).orElseThrow();
+        leaving.removePlayer("s2");
+        RoomWriteBatch leaveGuest = roomRepository.batch();
+        leaveGuest.deleteSessionRoomMapping("s2");
+        leaveGuest.saveRoom(leaving);
+        leaveGuest.addWaitingRoom(roomId);
+        leaving.removePlayer("s1");
+        leaveGuest.deleteSessionRoomMapping("s1");
+        leaveGuest.deleteRoom(roomId, "B3FK");
+        leaveGuest.commit();
+
+        assertTrue(roomRepository.findRoomById(roomId).isEmpty());
+        assertNull(version(roomId));
+        assertFalse(isWaiting(roomId));
+        assertNull(roomRepository.findRoomIdByCode("B3FK"));
+        assertNull(roomRepository.getRoomIdBySessionId("s1"));
+        assertNull(roomRepository.getRoomIdBySessionId("s2"));
+        assertNull(roomSnapshotCache.get(roomId));
+    }
+
+    @Test
+    @DisplayName("한 묶음에서 같은 방을 여러 번 저장하면 마지막 상태로 한 번만 저장하고 버전도 한 번만 오른다")
+    void deduplicatesSavesOfSameRoom() {
+        Room room = newRoom("s1");
+        String roomId = room.getRoomId();
+
+        RoomWriteBatch batch = roomRepository.batch();
+        batch.saveRoom(room);
+        room.addPlayer(guest("s2"));
+        batch.saveRoom(room);
+        room.addPlayer(guest("s3"));
+        batch.saveRoom(room);
+        batch.commit();
+
+        assertEquals("1", version(roomId));
+        assertEquals(3, roomRepository.findRoomById(roomId).orElseThrow().getPlayers().size());
+        assertEquals(1, roomSnapshotCache.get(roomId).version());
+        assertEquals(3, roomSnapshotCache.get(roomId).playerCount());
+    }
+
+    @Test
+    @DisplayName("여러 방을 한 묶음으로 저장하면 방마다 자기 버전으로 스냅샷 캐시가 갱신된다")
+    void mapsVersionsToSnapshotsPerRoom() {
+        Room first = newRoom("a1");
+        Room second = newRoom("b1");
+        Room third = newRoom("c1");
+        roomRepository.saveRoom(first);
+        roomRepository.saveRoom(first);
+        roomRepository.saveRoom(third);
+
+        second.addPlayer(guest("b2"));
+        third.addPlayer(guest("c2"));
+        third.addPlayer(guest("c3"));
+        RoomWriteBatch batch = roomRepository.batch();
+        batch.saveSessionRoomMapping("a1", first.getRoomId());
+        batch.saveRoom(first);
+        batch.addWaitingRoom(second.getRoomId());
+        batch.saveRoom(second);
+        batch.saveRoom(third);
+        batch.commit();
+
+        assertEquals("3", version(first.getRoomId()));
+        assertEquals("1", version(second.getRoomId()));
+        assertEquals("2", version(third.getRoomId()));
+
+        assertEquals(3, roomSnapshotCache.get(first.getRoomId()).version());
+        assertEquals(1, roomSnapshotCache.get(first.getRoomId()).playerCount());
+        assertEquals(1, roomSnapshotCache.get(second.getRoomId()).version());
+        assertEquals(2, roomSnapshotCache.get(second.getRoomId()).playerCount());
+        assertEquals(2, roomSnapshotCache.get(third.getRoomId()).version());
+        assertEquals(3, roomSnapshotCache.get(third.getRoomId()).playerCount());
+    }
+
+    @Test
+    @DisplayName("예전 키(room:uuid)에서 읽은 방은 다시 저장하면 예전 키가 지워지고, 지운 방은 예전 키로 되살아나지 않는다")
+    void migratesAndDeletesLegacyRoomKey() {
+        Room migrated = newRoom("m1");
+        Room deleted = newRoom("d1");
+        RedisTemplate<String, byte[]> roomTemplate = new RedisConfig().roomRedisTemplate(connectionFactory);
+        RoomCodec roomCodec = new RoomCodec(objectMapper);
+        roomTemplate.opsForValue().set(RedisKey.ROOM.makeKey(migrated.getRoomId()), roomCodec.encode(migrated));
+        roomTemplate.opsForValue().set(RedisKey.ROOM.makeKey(deleted.getRoomId()), roomCodec.encode(deleted));
+
+        Room loaded = roomRepository.findRoomById(migrated.getRoomId()).orElseThrow();
+        loaded.addPlayer(guest("m2"));
+        roomRepository.saveRoom(loaded);
+
+        assertNull(roomTemplate.opsForValue().get(RedisKey.ROOM.makeKey(migrated.getRoomId())));
+        assertEquals(2, roomRepository.findRoomById(migrated.getRoomId()).orElseThrow().getPlayers().size());
+
+        assertTrue(roomRepository.findRoomById(deleted.getRoomId()).isPresent());
+        RoomWriteBatch batch = roomRepository.batch();
+        batch.deleteRoom(deleted.getRoomId(), "B3FK");
+        batch.commit();
+
+        assertTrue(roomRepository.findRoomById(deleted.getRoomId()).isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.log.RoundEvent;
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+import com.copyleft.GodsChoice.game.repository.RoundEventColumnarFile;
+import com.copyleft.GodsChoice.game.repository.RoundEventCompactor;
+import com.copyleft.GodsChoice.game.repository.RoundEventLog;
+import com.copyleft.GodsChoice.global.config.AnalyticsProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundEventLogTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static RoundEvent event(RoundEvent.Type type, int round, Integer score, Boolean passed, PlayerRole role) {
+        return new RoundEvent(type, "room-1", round, 1_000L + round, GodPersonality.values()[0], Oracle.values()[0],
+                score == null ? null : "문장 " + round, score, passed, role == null ? null : true, role, 400 + round);
+    }
+
+    @Test
+    @DisplayName("세그먼트에 쌓인 이벤트를 컬럼 파일로 합치고, 필요한 컬럼만 읽을 수 있다")
+    void compactsSegmentsIntoColumnarFile() throws Exception {
+        AnalyticsProperties properties = new AnalyticsProperties(dir.toString(), 100, 200, 60_000, 60_000);
+        RoundEventLog roundEventLog = new RoundEventLog(properties, objectMapper, new SimpleMeterRegistry());
+        RoundEventCompactor compactor = new RoundEventCompactor(roundEventLog, objectMapper, new SimpleMeterRegistry());
+
+        List<RoundEvent> events = List.of(
+                event(RoundEvent.Type.ROUND_JUDGED, 1, 30, null, null),
+                event(RoundEvent.Type.VOTE_PROPOSAL, 1, null, true, null),
+                event(RoundEvent.Type.TRIAL, 1, null, null, PlayerRole.TRAITOR),
+                event(RoundEvent.Type.ROUND_JUDGED, 2, -20, null, null));
+
+        roundEventLog.start();
+        events.forEach(roundEventLog::append);
+        roundEventLog.stop();
+
+        Path output = compactor.compactSealedSegments();
+
+        assertEquals(events, RoundEventColumnarFile.readAll(output));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(output), files.toList());
+        }
+
+        RoundEventColumnarFile.Columns scores = RoundEventColumnarFile.read(output, Set.of("score"));
+        assertArrayEquals(new Integer[]{30, null, null, -20}, scores.ints("score"));
+        assertThrows(IllegalArgumentException.class, () -> scores.strings("sentence"));
+    }
+
+    @Test
+    @DisplayName("쓰기 중 IO 오류가 나도 기록 스레드는 멈추지 않고, 디렉터리가 돌아오면 새 세그먼트로 이어 쓴다")
+    void keepsWritingAfterIoFailure() throws Exception {
+        Path logDir = dir.resolve("events");
+        AnalyticsProperties properties = new AnalyticsProperties(logDir.toString(), 100, 1_000_000, 60_000, 60_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RoundEventLog roundEventLog = new RoundEventLog(properties, objectMapper, meterRegistry);
+        roundEventLog.start();
+
+        // 세그먼트를 열 디렉터리가 없어 첫 이벤트는 실패
+        Files.delete(logDir);
+        roundEventLog.append(event(RoundEvent.Type.ROUND_JUDGED, 1, 30, null, null));
+        waitUntil(() -> meterRegistry.counter("analytics.events", "result", "failed").count() == 1);
+        assertFalse(roundEventLog.isWriterHealthy());
+        assertEquals(0.0, meterRegistry.get("analytics.writer.up").gauge().value());
+
+        Files.createDirectories(logDir);
+        roundEventLog.append(event(RoundEvent.Type.ROUND_JUDGED, 2, -20, null, null));
+        waitUntil(() -> meterRegistry.counter("analytics.events", "result", "written").count() == 1);
+        assertTrue(roundEventLog.isWriterHealthy());
+
+        roundEventLog.stop();
+        try (Stream<Path> files = Files.list(logDir)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            assertEquals(1, Files.readAllLines(segments.getFirst()).size());
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long until = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < until) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,63 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.service.SpeculativeJudgeCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeculativeJudgeCacheTest {
+
+    private final SpeculativeJudgeCache cache = new SpeculativeJudgeCache(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 라운드·문장이면 미리 시작한 판정을 한 번만 호출하고 꺼내 쓴다")
+    void take_ReturnsPrefetchedJudgment() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.start("room1", 1, "천사가 꿈을 성스럽게 찬양했다", () -> new AiJudgment(calls.incrementAndGet(), "좋구나"));
+        cache.start("room1", 1, "천사가 꿈을 성스럽게 찬양했다", () -> new AiJudgment(calls.incrementAndGet(), "좋구나"));
+
+        Optional<AiJudgment> judgment = cache.take("room1", 1, "천사가 꿈을 성스럽게 찬양했다");
+
+        assertTrue(judgment.isPresent());
+        assertEquals(1, calls.get());
+        assertTrue(cache.take("room1", 1, "천사가 꿈을 성스럽게 찬양했다").isEmpty());
+    }
+
+    @Test
+    @DisplayName("심판 시점의 문장이 다르면 미리 시작한 판정을 버린다")
+    void take_MissesWhenSentenceChanged() {
+        cache.start("room1", 1, "천사가 꿈을 성스럽게 찬양했다", () -> new AiJudgment(10, "좋구나"));
+
+        assertTrue(cache.take("room1", 1, "악마가 꿈을 성스럽게 찬양했다").isEmpty());
+    }
+
+    @Test
+    @DisplayName("문장이 바뀌어 새로 시작하면 진행 중인 예전 판정은 인터럽트로 취소된다")
+    void start_CancelsSupersededJudgment() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        cache.start("room1", 1, "천사가 꿈을 성스럽게 찬양했다", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new AiJudgment(10, "좋구나");
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        cache.start("room1", 1, "악마가 꿈을 성스럽게 찬양했다", () -> new AiJudgment(-10, "불경하다"));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(-10, cache.take("room1", 1, "악마가 꿈을 성스럽게 찬양했다").orElseThrow().score());
+    }
+}
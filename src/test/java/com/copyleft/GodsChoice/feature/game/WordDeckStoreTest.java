@@ -0,0 +1,77 @@
+package com.copyleft.GodsChoice.feature.game;
+
+import com.copyleft.GodsChoice.domain.type.SlotType;
+import com.copyleft.GodsChoice.domain.vo.WordDeck;
+import com.copyleft.GodsChoice.game.repository.BuiltInWordDeckSource;
+import com.copyleft.GodsChoice.game.repository.FileWordDeckSource;
+import com.copyleft.GodsChoice.game.service.WordDeckStore;
+import com.copyleft.GodsChoice.global.config.DeckProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordDeckStoreTest {
+
+    @TempDir
+    Path deckDir;
+
+    private static final String HALLOWEEN = """
+            {"name": "halloween", "theme": "season",
+             "words": {"SUBJECT": ["호박이"], "TARGET": ["사탕을"], "HOW": ["으스스하게"], "ACTION": ["나눠줬다"]}}
+            """;
+
+    private WordDeckStore createStore() {
+        FileWordDeckSource fileSource = new FileWordDeckSource(new DeckProperties(deckDir.toString(), 1000), new ObjectMapper());
+        return new WordDeckStore(List.of(new BuiltInWordDeckSource(), fileSource), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("파일 덱을 읽고, 없는 덱 이름은 기본 덱으로 대체한다")
+    void loadsFileDeckAndFallsBackToDefault() throws Exception {
+        Files.writeString(deckDir.resolve("halloween.json"), HALLOWEEN);
+
+        WordDeckStore store = createStore();
+
+        assertArrayEquals(new String[]{"호박이"}, store.find("halloween").words(SlotType.SUBJECT));
+        assertEquals("halloween", store.pickDeckName("season"));
+        assertEquals(WordDeck.DEFAULT_NAME, store.find("없는덱").getName());
+        assertEquals(WordDeck.DEFAULT_NAME, store.pickDeckName(null));
+    }
+
+    @Test
+    @DisplayName("파일이 바뀌면 카탈로그가 교체되고, 이전에 읽은 덱은 그대로 유지된다")
+    void hotSwapsCatalogOnChange() throws Exception {
+        Path file = deckDir.resolve("halloween.json");
+        Files.writeString(file, HALLOWEEN);
+        WordDeckStore store = createStore();
+        WordDeck before = store.find("halloween");
+
+        Files.writeString(file, HALLOWEEN.replace("호박이", "마녀가"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        store.reloadIfChanged();
+
+        assertArrayEquals(new String[]{"마녀가"}, store.find("halloween").words(SlotType.SUBJECT));
+        assertArrayEquals(new String[]{"호박이"}, before.words(SlotType.SUBJECT));
+    }
+
+    @Test
+    @DisplayName("슬롯이 비어 있는 덱 파일은 건너뛴다")
+    void skipsInvalidDeck() throws Exception {
+        Files.writeString(deckDir.resolve("broken.json"), """
+                {"name": "broken", "words": {"SUBJECT": ["하나"]}}
+                """);
+
+        WordDeckStore store = createStore();
+
+        assertFalse(store.getDeckNames().contains("broken"));
+    }
+}
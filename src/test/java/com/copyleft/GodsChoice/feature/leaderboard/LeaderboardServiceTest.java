@@ -0,0 +1,89 @@
+package com.copyleft.GodsChoice.feature.leaderboard;
+
+import com.copyleft.GodsChoice.domain.Player;
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.type.LeaderboardWindow;
+import com.copyleft.GodsChoice.domain.type.PlayerRole;
+import com.copyleft.GodsChoice.global.config.LeaderboardProperties;
+import com.copyleft.GodsChoice.leaderboard.dto.LeaderboardPayloads;
+import com.copyleft.GodsChoice.leaderboard.repository.LeaderboardRepository;
+import com.copyleft.GodsChoice.leaderboard.service.LeaderboardResponseSender;
+import com.copyleft.GodsChoice.leaderboard.service.LeaderboardService;
+import com.copyleft.GodsChoice.user.repository.NicknameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock private LeaderboardRepository leaderboardRepository;
+    @Mock private NicknameRepository nicknameRepository;
+    @Mock private LeaderboardResponseSender leaderboardResponseSender;
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(leaderboardRepository, nicknameRepository, leaderboardResponseSender,
+                new LeaderboardProperties(10, 1, 1000, 100, "Asia/Seoul"));
+    }
+
+    private static Room finishedRoom(String citizen, String traitor) {
+        Room room = new Room();
+        room.getPlayers().add(Player.builder().sessionId(citizen).nickname(citizen).role(PlayerRole.CITIZEN).build());
+        room.getPlayers().add(Player.builder().sessionId(traitor).nickname(traitor).role(PlayerRole.TRAITOR).build());
+        return room;
+    }
+
+    @Test
+    @DisplayName("여러 판의 점수를 닉네임별로 합쳐 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void coalescesGameOverUpdates() {
+        leaderboardService.recordGameOver(finishedRoom("철수", "영희"), "CITIZEN");
+        leaderboardService.recordGameOver(finishedRoom("철수", "민수"), "TRAITOR");
+
+        leaderboardService.flush();
+        leaderboardService.flush();
+
+        ArgumentCaptor<Map<String, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(leaderboardRepository, times(1)).incrementScores(captor.capture(), any(LocalDate.class));
+        assertEquals(Map.of("철수", 12.0, "영희", 1.0, "민수", 11.0), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("상위 N과 내 순위를 1등부터 매겨 보낸다")
+    void sendsTopAndMyRank() {
+        Set<ZSetOperations.TypedTuple<String>> top = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("영희", 30.0), new DefaultTypedTuple<>("철수", 20.0)));
+        when(leaderboardRepository.findTop(eq(LeaderboardWindow.DAILY), any(), eq(2))).thenReturn(top);
+        when(nicknameRepository.getNicknameBySessionId("session-1")).thenReturn("민수");
+        when(leaderboardRepository.findRank(eq(LeaderboardWindow.DAILY), any(), eq("민수"))).thenReturn(41L);
+        when(leaderboardRepository.findScore(eq(LeaderboardWindow.DAILY), any(), eq("민수"))).thenReturn(3.0);
+
+        leaderboardService.getLeaderboard("session-1", LeaderboardWindow.DAILY, 2);
+
+        ArgumentCaptor<LeaderboardPayloads.Board> captor = ArgumentCaptor.forClass(LeaderboardPayloads.Board.class);
+        verify(leaderboardResponseSender).sendLeaderboard(eq("session-1"), captor.capture());
+        LeaderboardPayloads.Board board = captor.getValue();
+        assertEquals("영희", board.getTop().getFirst().getNickname());
+        assertEquals(2, board.getTop().get(1).getRank());
+        assertEquals(42, board.getMe().getRank());
+    }
+}
@@ -6,10 +6,13 @@ import com.copyleft.GodsChoice.domain.type.RoomStatus;
 import com.copyleft.GodsChoice.game.service.GameRoomLockFacade; // 추가
 import com.copyleft.GodsChoice.game.service.LockResult;       // 추가
 import com.copyleft.GodsChoice.global.constant.ErrorCode;
+import com.copyleft.GodsChoice.global.websocket.NodeRegistry;
 import com.copyleft.GodsChoice.user.repository.NicknameRepository;
 import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.game.repository.RoomWriteBatch;
 import com.copyleft.GodsChoice.lobby.service.LobbyResponseSender;
 import com.copyleft.GodsChoice.lobby.service.LobbyService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +42,13 @@ class LobbyServiceTest {
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private GameRoomLockFacade lockFacade; // [추가] 이걸로 교체
     @Mock private LobbyResponseSender responseSender;
+    @Mock private NodeRegistry nodeRegistry;
+    @Mock private RoomWriteBatch roomWriteBatch;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(roomRepository.batch()).thenReturn(roomWriteBatch);
+    }
 
     @Test
     @DisplayName("방 생성 시 리포지토리에 저장하고 성공 메시지를 보낸다")
@@ -54,7 +64,7 @@ class LobbyServiceTest {
 
         // then
         ArgumentCaptor<Room> roomCaptor = ArgumentCaptor.forClass(Room.class);
-        verify(roomRepository).saveRoom(roomCaptor.capture());
+        verify(roomWriteBatch).saveRoom(roomCaptor.capture());
 
         Room savedRoom = roomCaptor.getValue();
         assertEquals(nickname + "님의 방", savedRoom.getRoomTitle());
@@ -77,7 +87,7 @@ class LobbyServiceTest {
         lobbyService.quickJoin(sessionId);
 
         // then
-        verify(roomRepository).saveRoom(any(Room.class));
+        verify(roomWriteBatch).saveRoom(any(Room.class));
         verify(responseSender).sendCreateSuccess(eq(sessionId), any(Room.class));
     }
 
@@ -139,7 +149,7 @@ class LobbyServiceTest {
         // then
         // 저장이 일어났는지 확인 (플레이어 추가됨)
         ArgumentCaptor<Room> roomCaptor = ArgumentCaptor.forClass(Room.class);
-        verify(roomRepository).saveRoom(roomCaptor.capture());
+        verify(roomWriteBatch).saveRoom(roomCaptor.capture());
 
         Room updatedRoom = roomCaptor.getValue();
         assertEquals(1, updatedRoom.getPlayers().size());
@@ -1,9 +1,13 @@
 package com.copyleft.GodsChoice.feature.nickname;
 
+import com.copyleft.GodsChoice.chat.service.BannedWordFilter;
+import com.copyleft.GodsChoice.global.config.GameProperties;
 import com.copyleft.GodsChoice.user.service.NicknameService;
 import com.copyleft.GodsChoice.user.dto.NicknameResponse;
 import com.copyleft.GodsChoice.user.repository.NicknameRepository;
 import com.copyleft.GodsChoice.global.websocket.WebSocketSender;
+import com.copyleft.GodsChoice.global.websocket.WebSocketSessionManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.WebSocketSession;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,20 +34,45 @@ class NicknameServiceTest {
     @Mock
     private WebSocketSender webSocketSender; // 가짜 Sender
 
+    @Mock
+    private BannedWordFilter bannedWordFilter;
+
+    @Mock
+    private WebSocketSessionManager sessionManager;
+
+    @Mock
+    private GameProperties gameProperties;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(gameProperties.nicknameMinLength()).thenReturn(2);
+        lenient().when(gameProperties.nicknameMaxLength()).thenReturn(6);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 닉네임 임대를 반납한다")
+    void handleDisconnect_ReleasesLease() {
+        when(nicknameRepository.release("session123")).thenReturn("테스트닉");
+
+        nicknameService.handleDisconnect("session123");
+
+        verify(nicknameRepository).release("session123");
+    }
+
     @Test
     void setNickname_Success() {
         // given
         String sessionId = "session123";
         String nickname = "테스트닉";
 
-        when(nicknameRepository.reserveNickname(nickname)).thenReturn(true);
+        when(nicknameRepository.reserve(sessionId, nickname)).thenReturn(true);
+        when(sessionManager.getSession(sessionId)).thenReturn(mock(WebSocketSession.class));
 
         // when
         nicknameService.setNickname(sessionId, nickname);
 
         // then
-        verify(nicknameRepository).reserveNickname(nickname);
-        verify(nicknameRepository).saveSessionNicknameMapping(sessionId, nickname);
+        verify(nicknameRepository).reserve(sessionId, nickname);
         ArgumentCaptor<NicknameResponse> captor = ArgumentCaptor.forClass(NicknameResponse.class);
         verify(webSocketSender).sendEventToSession(eq(sessionId), captor.capture());
 
@@ -51,21 +81,46 @@ class NicknameServiceTest {
         assertEquals(nickname, response.getPlayer().getNickname());
     }
 
+    @Test
+    @DisplayName("임대하는 사이 연결이 끊겼으면 방금 잡은 임대를 다시 반납한다")
+    void setNickname_ReleasesWhenDisconnectedMeanwhile() {
+        when(nicknameRepository.reserve("session123", "테스트닉")).thenReturn(true);
+        when(sessionManager.getSession("session123")).thenReturn(null);
+
+        nicknameService.setNickname("session123", "테스트닉");
+
+        verify(nicknameRepository).release("session123");
+        verify(webSocketSender, never()).sendEventToSession(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("인계 토큰이 있으면 이전 연결의 닉네임을 넘겨받고 새로 임대하지 않는다")
+    void setNickname_TakesOverWithHandoffToken() {
+        when(nicknameRepository.takeOver("session456", "token-1")).thenReturn("테스트닉");
+        when(sessionManager.getSession("session456")).thenReturn(mock(WebSocketSession.class));
+
+        nicknameService.setNickname("session456", "테스트닉", "token-1");
+
+        verify(nicknameRepository, never()).reserve(anyString(), anyString());
+        ArgumentCaptor<NicknameResponse> captor = ArgumentCaptor.forClass(NicknameResponse.class);
+        verify(webSocketSender).sendEventToSession(eq("session456"), captor.capture());
+        assertEquals("NICKNAME_SUCCESS", captor.getValue().getEvent());
+        assertEquals("테스트닉", captor.getValue().getPlayer().getNickname());
+    }
+
     @Test
     void setNickname_Duplicate() {
         // given
         String sessionId = "session123";
         String nickname = "중복닉";
 
-        when(nicknameRepository.reserveNickname(nickname)).thenReturn(false);
+        when(nicknameRepository.reserve(sessionId, nickname)).thenReturn(false);
 
         // when
         nicknameService.setNickname(sessionId, nickname);
 
         // then
-        verify(nicknameRepository).reserveNickname(nickname);
-        // 중복이면 저장은 호출되면 안 됨
-        verify(nicknameRepository, never()).saveSessionNicknameMapping(anyString(), anyString());
+        verify(nicknameRepository).reserve(sessionId, nickname);
 
         ArgumentCaptor<NicknameResponse> captor = ArgumentCaptor.forClass(NicknameResponse.class);
         verify(webSocketSender).sendEventToSession(eq(sessionId), captor.capture());
@@ -83,7 +138,7 @@ class NicknameServiceTest {
         nicknameService.setNickname(sessionId, shortName);
 
         // then
-        verify(nicknameRepository, never()).reserveNickname(anyString()); // 중복 검사도 안 해야 함
+        verify(nicknameRepository, never()).reserve(anyString(), anyString()); // 중복 검사도 안 해야 함
         ArgumentCaptor<NicknameResponse> captor = ArgumentCaptor.forClass(NicknameResponse.class);
         verify(webSocketSender).sendEventToSession(eq(sessionId), captor.capture());
         assertEquals("ERROR_MESSAGE", captor.getValue().getEvent());
@@ -0,0 +1,127 @@
+package com.copyleft.GodsChoice.feature.websocket;
+
+import com.copyleft.GodsChoice.domain.Room;
+import com.copyleft.GodsChoice.domain.vo.RoomSnapshot;
+import com.copyleft.GodsChoice.game.repository.RoomRepository;
+import com.copyleft.GodsChoice.global.config.RoutingProperties;
+import com.copyleft.GodsChoice.global.websocket.NodeRegistry;
+import com.copyleft.GodsChoice.global.websocket.RoomAffinityRouter;
+import com.copyleft.GodsChoice.global.websocket.WebSocketCommandHandler;
+import com.copyleft.GodsChoice.global.websocket.dto.ForwardedCommand;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomAffinityRouterTest {
+
+    @Mock private NodeRegistry nodeRegistry;
+    @Mock private RoomRepository roomRepository;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RTopic topic;
+    @Mock private WebSocketSession session;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebSocketCommandHandler chatHandler = new WebSocketCommandHandler() {
+        @Override
+        public String getAction() {
+            return "SEND_CHAT";
+        }
+
+        @Override
+        public boolean isRoomScoped() {
+            return true;
+        }
+
+        @Override
+        public void handle(WebSocketSession session, JsonNode payload) {
+        }
+    };
+
+    private RoomAffinityRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new RoomAffinityRouter(nodeRegistry, roomRepository, redissonClient, objectMapper,
+                new RoutingProperties(true, "spring-boot-1", 5000, 15000), new SimpleMeterRegistry(), List.of(chatHandler));
+
+        lenient().when(session.getId()).thenReturn("s1");
+        lenient().when(roomRepository.getRoomIdBySessionId("s1")).thenReturn("room-1");
+        Room room = Room.builder().roomId("room-1").ownerNode("spring-boot-2").build();
+        lenient().when(roomRepository.findRoomSnapshot("room-1")).thenReturn(Optional.of(RoomSnapshot.of(room, 1)));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 소유한 방의 요청은 소유 노드 토픽으로 넘긴다")
+    void forwardsToOwnerNode() throws Exception {
+        when(nodeRegistry.isRemote("spring-boot-2")).thenReturn(true);
+        when(redissonClient.getTopic("ws-forward:spring-boot-2")).thenReturn(topic);
+
+        boolean forwarded = router.forwardIfRemote(session, chatHandler, objectMapper.readTree("{\"message\":\"안녕\"}"));
+
+        assertTrue(forwarded);
+        ArgumentCaptor<ForwardedCommand> captor = ArgumentCaptor.forClass(ForwardedCommand.class);
+        verify(topic).publish(captor.capture());
+        assertEquals("s1", captor.getValue().getSessionId());
+        assertEquals("SEND_CHAT", captor.getValue().getAction());
+    }
+
+    @Test
+    @DisplayName("소유 노드가 죽었거나 자기 자신이면 넘기지 않고 직접 처리한다")
+    void handlesLocallyWhenOwnerIsNotRemote() {
+        when(nodeRegistry.isRemote("spring-boot-2")).thenReturn(false);
+
+        assertFalse(router.forwardIfRemote(session, chatHandler, null));
+        verify(redissonClient, never()).getTopic(any());
+    }
+
+    @Test
+    @DisplayName("넘겨받은 요청은 구독 스레드가 아닌 별도 스레드에서 처리한다")
+    @SuppressWarnings("unchecked")
+    void executesForwardedCommandOffListenerThread() throws Exception {
+        CompletableFuture<Thread> handledOn = new CompletableFuture<>();
+        WebSocketCommandHandler handler = new WebSocketCommandHandler() {
+            @Override
+            public String getAction() {
+                return "SEND_CHAT";
+            }
+
+            @Override
+            public void handle(WebSocketSession session, JsonNode payload) {
+                handledOn.complete(Thread.currentThread());
+            }
+        };
+        RoomAffinityRouter receiver = new RoomAffinityRouter(nodeRegistry, roomRepository, redissonClient, objectMapper,
+                new RoutingProperties(true, "spring-boot-1", 5000, 15000), new SimpleMeterRegistry(), List.of(handler));
+        when(nodeRegistry.getNodeId()).thenReturn("spring-boot-1");
+        when(redissonClient.getTopic("ws-forward:spring-boot-1")).thenReturn(topic);
+        receiver.init();
+
+        ArgumentCaptor<MessageListener<ForwardedCommand>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(ForwardedCommand.class), captor.capture());
+        captor.getValue().onMessage("ws-forward:spring-boot-1", new ForwardedCommand("s1", "SEND_CHAT", null));
+
+        assertNotSame(Thread.currentThread(), handledOn.get(2, TimeUnit.SECONDS));
+        receiver.stop();
+    }
+}
@@ -0,0 +1,76 @@
+package com.copyleft.GodsChoice.feature.websocket;
+
+import com.copyleft.GodsChoice.global.config.SessionCacheProperties;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache;
+import com.copyleft.GodsChoice.global.websocket.SessionNearCache.Kind;
+import com.copyleft.GodsChoice.global.websocket.dto.SessionCacheInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionNearCacheTest {
+
+    @Mock private RedissonClient redissonClient;
+    @Mock private RTopic topic;
+
+    private SessionNearCache cache;
+    private MessageListener<SessionCacheInvalidation> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        cache = new SessionNearCache(redissonClient, new SessionCacheProperties(true, 100, 60_000), new SimpleMeterRegistry());
+        cache.init();
+
+        ArgumentCaptor<MessageListener<SessionCacheInvalidation>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(SessionCacheInvalidation.class), captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 매핑은 다른 노드의 무효화 메시지가 오기 전까지 Redis 를 다시 읽지 않는다")
+    void cachesUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Kind.ROOM, "s1", () -> { loads.incrementAndGet(); return "room-1"; });
+        cache.get(Kind.ROOM, "s1", () -> { loads.incrementAndGet(); return "room-1"; });
+        assertEquals(1, loads.get());
+
+        listener.onMessage("session-cache-topic", new SessionCacheInvalidation("other-node", "ROOM", "s1"));
+        assertEquals("room-2", cache.get(Kind.ROOM, "s1", () -> { loads.incrementAndGet(); return "room-2"; }));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화되면 읽은 값을 캐시에 넣지 않고, 직접 쓴 값은 바로 반영된다")
+    void skipsValueReadDuringInvalidation() {
+        cache.get(Kind.NICKNAME, "s1", () -> {
+            listener.onMessage("session-cache-topic", new SessionCacheInvalidation("other-node", "NICKNAME", "s1"));
+            return "옛닉";
+        });
+        assertEquals("새닉", cache.get(Kind.NICKNAME, "s1", () -> "새닉"));
+
+        cache.update(Kind.NICKNAME, "s1", "바꾼닉");
+        assertEquals("바꾼닉", cache.get(Kind.NICKNAME, "s1", () -> "읽으면 안 됨"));
+        verify(topic).publish(any(SessionCacheInvalidation.class));
+    }
+}
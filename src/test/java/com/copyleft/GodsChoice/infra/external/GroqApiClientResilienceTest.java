@@ -0,0 +1,243 @@
+package com.copyleft.GodsChoice.infra.external;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.GroqCircuitBreaker;
+import com.copyleft.GodsChoice.game.infra.GroqLatencyTracker;
+import com.copyleft.GodsChoice.game.infra.GroqPromptTemplates;
+import com.copyleft.GodsChoice.game.infra.GroqResponseReader;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.copyleft.GodsChoice.game.repository.JudgeRateLimiter;
+import com.copyleft.GodsChoice.global.config.GameProperties;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 서버로 Groq 호출의 기한, 헤지 요청, 서킷 브레이커 동작 확인
+ */
+class GroqApiClientResilienceTest {
+
+    private static final String OK_BODY = """
+            {"choices": [{"message": {"content": "{\\"score\\": 42, \\"reason\\": \\"좋구나\\"}"}}]}
+            """;
+
+    private interface StubHandler {
+        void handle(HttpExchange exchange, int requestNo) throws Exception;
+    }
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile StubHandler handler;
+    private SimpleMeterRegistry meterRegistry;
+    private GroqCircuitBreaker circuitBreaker;
+    private final JudgeRateLimiter rateLimiter = mock(JudgeRateLimiter.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", exchange -> {
+            try {
+                handler.handle(exchange, requestCount.incrementAndGet());
+            } catch (Exception ignored) {
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private GroqApiClient createClient(boolean hedgeEnabled) {
+        return createClient(hedgeEnabled, false);
+    }
+
+    private GroqApiClient createClient(boolean hedgeEnabled, boolean stream) {
+        GroqResilienceProperties properties = new GroqResilienceProperties(
+                0.25, 10_000, hedgeEnabled, 100, 50,
+                5, 3, 0.5, 1.0, 5_000, 60_000, 1);
+        GameProperties gameProperties = mock(GameProperties.class);
+        when(gameProperties.roundResultDuration()).thenReturn(4); // 기한 1초
+
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new GroqCircuitBreaker(properties, meterRegistry);
+        ObjectMapper objectMapper = new ObjectMapper();
+        GroqApiClient client = new GroqApiClient(HttpClient.newHttpClient(), properties, gameProperties,
+                circuitBreaker, rateLimiter, new GroqLatencyTracker(properties, meterRegistry),
+                new GroqPromptTemplates(objectMapper, "stub", stream), new GroqResponseReader(objectMapper), meterRegistry);
+
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "apiUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/chat");
+        return client;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private AiJudgment judge(GroqApiClient client) {
+        return client.judgeSentence("괴물이 폭탄을 무자비하게 폭파했다", GodPersonality.ANGRY, Oracle.REVOLUTION);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 느리면 헤지 요청의 응답을 사용한다")
+    void hedgedRequestWins() {
+        handler = (exchange, requestNo) -> {
+            if (requestNo == 1) Thread.sleep(3_000);
+            respond(exchange, 200, OK_BODY);
+        };
+        GroqApiClient client = createClient(true);
+
+        AiJudgment judgment = judge(client);
+
+        assertEquals(42, judgment.score());
+        assertEquals(1.0, meterRegistry.counter("groq.judge.hedged").count());
+    }
+
+    @Test
+    @DisplayName("토큰 버킷에 토큰이 없으면 헤지 요청을 보내지 않는다")
+    void skipsHedgeWithoutToken() {
+        when(rateLimiter.tryAcquire()).thenReturn(500L);
+        handler = (exchange, requestNo) -> {
+            if (requestNo == 1) Thread.sleep(300);
+            respond(exchange, 200, OK_BODY);
+        };
+        GroqApiClient client = createClient(true);
+
+        AiJudgment judgment = judge(client);
+
+        assertEquals(42, judgment.score());
+        assertEquals(1, requestCount.get());
+        assertEquals(1.0, meterRegistry.counter("groq.judge.hedge.skipped").count());
+        assertEquals(0.0, meterRegistry.counter("groq.judge.hedged").count());
+    }
+
+    @Test
+    @DisplayName("기한 안에 응답이 없으면 기다리지 않고 대체 응답을 반환한다")
+    void deadlineExceededReturnsFallback() {
+        handler = (exchange, requestNo) -> {
+            Thread.sleep(3_000);
+            respond(exchange, 200, OK_BODY);
+        };
+        GroqApiClient client = createClient(false);
+
+        long startedAt = System.currentTimeMillis();
+        AiJudgment judgment = client.judgeSentence("문장", GodPersonality.ANGRY, Oracle.REVOLUTION, Duration.ofMillis(300));
+
+        assertTrue(judgment.isFallback());
+        assertTrue(System.currentTimeMillis() - startedAt < 2_000);
+    }
+
+    @Test
+    @DisplayName("기한이 지나면 본문을 받는 중인 요청의 연결을 끊는다")
+    void deadlineExceededAbortsRequest() throws InterruptedException {
+        CountDownLatch disconnected = new CountDownLatch(1);
+        handler = (exchange, requestNo) -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            try {
+                for (int i = 0; i < 100; i++) { // 최대 5초 동안 본문을 조금씩 보냄
+                    out.write(' ');
+                    out.flush();
+                    Thread.sleep(50);
+                }
+            } catch (IOException e) {
+                disconnected.countDown();
+            }
+        };
+        GroqApiClient client = createClient(false);
+
+        AiJudgment judgment = client.judgeSentence("문장", GodPersonality.ANGRY, Oracle.REVOLUTION, Duration.ofMillis(300));
+
+        assertTrue(judgment.isFallback());
+        assertTrue(disconnected.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("스트림 모드에서는 score와 reason이 나오는 즉시 판정을 돌려준다")
+    void streamReturnsVerdictAsSoonAsComplete() {
+        handler = (exchange, requestNo) -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            for (String chunk : List.of("잠시 생각하마... {\\\"score\\\": ", "-30, \\\"reason\\\": \\\"나약하구나\\\"", "}")) {
+                out.write(("data: {\"choices\": [{\"delta\": {\"content\": \"" + chunk + "\"}}]}\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            Thread.sleep(3_000); // 스트림이 끝나지 않아도 판정은 이미 나옴
+        };
+        GroqApiClient client = createClient(false, true);
+
+        long startedAt = System.currentTimeMillis();
+        AiJudgment judgment = judge(client);
+
+        assertEquals(new AiJudgment(-30, "나약하구나"), judgment);
+        assertTrue(System.currentTimeMillis() - startedAt < 2_000);
+    }
+
+    @Test
+    @DisplayName("묶음 응답에서 빠진 항목만 대체 응답으로 채운다")
+    void batchFillsMissingEntriesWithFallback() {
+        handler = (exchange, requestNo) -> respond(exchange, 200, """
+                {"choices": [{"message": {"content": "판결이다. [{\\"id\\": 0, \\"score\\": 42, \\"mood\\": {\\"x\\": [1]}, \\"reason\\": \\"좋구나\\"}, {\\"id\\": 1, \\"score\\": \\"높음\\"}] 이상이다."}}]}
+                """);
+        GroqApiClient client = createClient(false);
+
+        List<AiJudgment> judgments = client.judgeBatch(List.of(
+                new JudgeRequest("괴물이 폭탄을 무자비하게 폭파했다", GodPersonality.ANGRY, Oracle.REVOLUTION),
+                new JudgeRequest("천사가 꿈을 성스럽게 찬양했다", GodPersonality.GENEROUS, Oracle.LIGHT)
+        ), Duration.ofSeconds(1));
+
+        assertEquals(new AiJudgment(42, "좋구나"), judgments.get(0));
+        assertTrue(judgments.get(1).isFallback());
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    @DisplayName("실패가 이어지면 서킷 브레이커가 열려 더 이상 호출하지 않는다")
+    void breakerOpensOnFailures() {
+        handler = (exchange, requestNo) -> respond(exchange, 500, "{}");
+        GroqApiClient client = createClient(false);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(judge(client).isFallback());
+        }
+
+        assertEquals(GroqCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertTrue(judge(client).isFallback());
+        assertEquals(3, requestCount.get());
+    }
+}
@@ -0,0 +1,54 @@
+package com.copyleft.GodsChoice.infra.external;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.game.infra.GroqPromptTemplates;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroqPromptTemplatesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GroqPromptTemplates templates = new GroqPromptTemplates(objectMapper, "test-model", false);
+
+    @Test
+    @DisplayName("미리 만든 본문에 문장을 JSON 이스케이프해서 끼워 넣는다")
+    void render_EscapesSentence() throws Exception {
+        String sentence = "왕이 \"금\"을\\n뿌렸다";
+
+        JsonNode body = objectMapper.readTree(templates.render(sentence, GodPersonality.ANGRY, Oracle.VITALITY));
+
+        assertEquals("test-model", body.path("model").asText());
+        assertFalse(body.has("stream"));
+        String prompt = body.path("messages").get(1).path("content").asText();
+        assertTrue(prompt.contains("Human Sentence: \"" + sentence + "\""));
+        assertTrue(prompt.contains(GodPersonality.ANGRY.getKeyword()));
+        assertTrue(prompt.contains(Oracle.VITALITY.getMessage()));
+    }
+
+    @Test
+    @DisplayName("묶음 본문은 요청 순서대로 번호를 붙인 항목을 끼워 넣는다")
+    void renderBatch_NumbersItemsInOrder() throws Exception {
+        String sentence = "왕이 \"금\"을 뿌렸다";
+
+        JsonNode body = objectMapper.readTree(templates.renderBatch(List.of(
+                new JudgeRequest(sentence, GodPersonality.ANGRY, Oracle.VITALITY),
+                new JudgeRequest("천사가 꿈을 찬양했다", GodPersonality.GENEROUS, Oracle.LIGHT))));
+
+        assertEquals("test-model", body.path("model").asText());
+        String prompt = body.path("messages").get(1).path("content").asText();
+        assertTrue(prompt.contains("0. Philosophy: ['" + GodPersonality.ANGRY.getKeyword() + "'] / Oracle: \""
+                + Oracle.VITALITY.getMessage() + "\" / Sentence: \"" + sentence + "\" / Forbidden word: '"
+                + GodPersonality.ANGRY.getDisplayName().split(" ")[0] + "'\n"));
+        assertTrue(prompt.contains("1. Philosophy: ['" + GodPersonality.GENEROUS.getKeyword() + "']"));
+        assertTrue(prompt.indexOf("### Items") < prompt.indexOf("0. Philosophy"));
+        assertTrue(prompt.indexOf("1. Philosophy") < prompt.indexOf("### Judging Process"));
+    }
+}
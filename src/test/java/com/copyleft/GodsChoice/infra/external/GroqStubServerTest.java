@@ -0,0 +1,88 @@
+package com.copyleft.GodsChoice.infra.external;
+
+import com.copyleft.GodsChoice.domain.type.GodPersonality;
+import com.copyleft.GodsChoice.domain.type.Oracle;
+import com.copyleft.GodsChoice.domain.vo.AiJudgment;
+import com.copyleft.GodsChoice.game.infra.GroqApiClient;
+import com.copyleft.GodsChoice.game.infra.GroqCircuitBreaker;
+import com.copyleft.GodsChoice.game.infra.GroqLatencyTracker;
+import com.copyleft.GodsChoice.game.infra.GroqPromptTemplates;
+import com.copyleft.GodsChoice.game.infra.GroqResponseReader;
+import com.copyleft.GodsChoice.game.infra.dto.JudgeRequest;
+import com.copyleft.GodsChoice.game.infra.stub.GroqStubServer;
+import com.copyleft.GodsChoice.global.config.GroqResilienceProperties;
+import com.copyleft.GodsChoice.global.config.GroqStubProperties;
+import com.copyleft.GodsChoice.global.config.GroqStubProperties.LatencyDistribution;
+import com.copyleft.GodsChoice.global.config.GroqStubProperties.Verdict;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스텁 서버를 상대로 실제 GroqApiClient 경로(템플릿, 스트리밍 파싱, 묶음 요청, 실패 처리) 확인
+ */
+class GroqStubServerTest {
+
+    private static final Verdict VERDICT = new Verdict(55, "흥미롭구나");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GroqStubServer stub;
+
+    private GroqApiClient start(double rateLimitRate, boolean stream) throws Exception {
+        stub = new GroqStubServer(new GroqStubProperties(0, LatencyDistribution.LOG_NORMAL, 20, 60,
+                0, rateLimitRate, List.of(VERDICT)), objectMapper);
+        stub.start();
+
+        GroqResilienceProperties resilience = new GroqResilienceProperties(
+                0.25, 10_000, false, 1_000, 50, 20, 10, 0.5, 1.0, 5_000, 60_000, 1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GroqApiClient client = new GroqApiClient(HttpClient.newHttpClient(), resilience, null,
+                new GroqCircuitBreaker(resilience, meterRegistry), null, new GroqLatencyTracker(resilience, meterRegistry),
+                new GroqPromptTemplates(objectMapper, "stub", stream), new GroqResponseReader(objectMapper), meterRegistry);
+        ReflectionTestUtils.setField(client, "apiKey", "stub");
+        ReflectionTestUtils.setField(client, "apiUrl", stub.getUrl());
+        return client;
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop();
+    }
+
+    @Test
+    @DisplayName("일반·스트림·묶음 요청 모두 스텁의 판정을 그대로 받는다")
+    void returnsCannedVerdicts() throws Exception {
+        AiJudgment expected = new AiJudgment(VERDICT.score(), VERDICT.reason());
+
+        GroqApiClient client = start(0, false);
+        assertEquals(expected, client.judgeSentence("왕이 금을 뿌렸다", GodPersonality.ANGRY, Oracle.VITALITY, Duration.ofSeconds(2)));
+        assertEquals(List.of(expected, expected), client.judgeBatch(List.of(
+                new JudgeRequest("왕이 금을 뿌렸다", GodPersonality.ANGRY, Oracle.VITALITY),
+                new JudgeRequest("새가 크게 울었다", GodPersonality.SOFTIE, Oracle.SILENCE)
+        ), Duration.ofSeconds(2)));
+        stub.stop();
+
+        GroqApiClient streamingClient = start(0, true);
+        assertEquals(expected, streamingClient.judgeSentence("왕이 금을 뿌렸다", GodPersonality.ANGRY, Oracle.VITALITY, Duration.ofSeconds(2)));
+    }
+
+    @Test
+    @DisplayName("429 응답은 대체 판정으로 처리된다")
+    void rateLimitedReturnsFallback() throws Exception {
+        GroqApiClient client = start(1.0, false);
+
+        AiJudgment judgment = client.judgeSentence("왕이 금을 뿌렸다", GodPersonality.ANGRY, Oracle.VITALITY, Duration.ofSeconds(2));
+
+        assertTrue(judgment.isFallback());
+        assertEquals(1, stub.getRateLimitedCount());
+    }
+}